@@ -16,9 +16,12 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -43,7 +46,10 @@ import jp.co.future.uroborosql.fluent.SqlQuery;
 import jp.co.future.uroborosql.fluent.SqlUpdate;
 import jp.co.future.uroborosql.mapping.EntityHandler;
 import jp.co.future.uroborosql.mapping.TableMetadata;
+import jp.co.future.uroborosql.metrics.SqlMetricType;
+import jp.co.future.uroborosql.metrics.SqlMetrics;
 import jp.co.future.uroborosql.parser.ContextTransformer;
+import jp.co.future.uroborosql.parser.ContextTransformerCache;
 import jp.co.future.uroborosql.parser.SqlParser;
 import jp.co.future.uroborosql.parser.SqlParserImpl;
 import jp.co.future.uroborosql.store.SqlManager;
@@ -73,12 +79,21 @@ public abstract class AbstractAgent implements SqlAgent {
 	/** SqlContext属性キー:リトライカウント */
 	protected static final String CTX_ATTR_KEY_RETRY_COUNT = "__retryCount";
 
+	/** SqlContext属性キー:SQLの解析時間(ナノ秒) */
+	protected static final String CTX_ATTR_KEY_PARSE_TIME = "__parseTime";
+
+	/** SqlContext属性キー:SQLの変換時間(ナノ秒) */
+	protected static final String CTX_ATTR_KEY_TRANSFORM_TIME = "__transformTime";
+
 	/** SqlContext属性キー:バインドパラメータコメントの出力有無 */
 	protected static final String CTX_ATTR_KEY_OUTPUT_BIND_COMMENT = "__outputBindComment";
 
 	/** 例外発生にロールバックが必要なDBでリトライを実現するために設定するSavepointの名前 */
 	protected static final String RETRY_SAVEPOINT_NAME = "__retry_savepoint";
 
+	/** ランダムな揺らぎを加えた後の1回の待機時間の上限(ms). 指定されたリトライ待機時間の方が長い場合は指定値を上限とする */
+	protected static final long MAX_RETRY_WAIT_TIME = 60000L;
+
 	/** BATCH-INSERT用のバッチフレームの判定条件 */
 	protected static final InsertsCondition<Object> DEFAULT_BATCH_INSERTS_WHEN_CONDITION = (context, count,
 			row) -> count == 1000;
@@ -240,7 +255,9 @@ public abstract class AbstractAgent implements SqlAgent {
 	protected void transformContext(final SqlContext sqlContext, final boolean isQuery) {
 		String originalSql = sqlContext.getSql();
 		if (StringUtils.isEmpty(originalSql) && getSqlManager() != null) {
+			long loadStartTime = System.nanoTime();
 			originalSql = getSqlManager().getSql(sqlContext.getSqlName());
+			recordMetric(sqlContext, SqlMetricType.TEMPLATE_LOAD, System.nanoTime() - loadStartTime);
 			if (StringUtils.isEmpty(originalSql)) {
 				throw new UroborosqlRuntimeException("sql file:[" + sqlContext.getSqlName() + "] is not found.");
 			}
@@ -276,10 +293,16 @@ public abstract class AbstractAgent implements SqlAgent {
 		if (StringUtils.isEmpty(sqlContext.getExecutableSql())) {
 			boolean outputBindComment = (boolean) sqlContext.contextAttrs().getOrDefault(
 					CTX_ATTR_KEY_OUTPUT_BIND_COMMENT, true);
-			SqlParser sqlParser = new SqlParserImpl(originalSql, sqlConfig.getExpressionParser(),
-					sqlConfig.getDialect().isRemoveTerminator(), outputBindComment);
-			ContextTransformer contextTransformer = sqlParser.parse();
+			long parseStartTime = System.nanoTime();
+			ContextTransformer contextTransformer = parse(sqlContext.getSqlName(), originalSql, outputBindComment);
+			long transformStartTime = System.nanoTime();
 			contextTransformer.transform(sqlContext);
+			long parseTime = transformStartTime - parseStartTime;
+			long transformTime = System.nanoTime() - transformStartTime;
+			sqlContext.contextAttrs().put(CTX_ATTR_KEY_PARSE_TIME, parseTime);
+			sqlContext.contextAttrs().put(CTX_ATTR_KEY_TRANSFORM_TIME, transformTime);
+			recordMetric(sqlContext, SqlMetricType.PARSE, parseTime);
+			recordMetric(sqlContext, SqlMetricType.TRANSFORM, transformTime);
 
 			if (coverageHandlerRef.get() != null) {
 				// SQLカバレッジ用のログを出力する
@@ -296,6 +319,70 @@ public abstract class AbstractAgent implements SqlAgent {
 				System.lineSeparator());
 	}
 
+	/**
+	 * SQL実行メトリクスを記録するかどうかを取得する
+	 *
+	 * @return 記録する場合<code>true</code>
+	 */
+	protected boolean isMetricsEnabled() {
+		SqlMetrics sqlMetrics = sqlConfig.getSqlMetrics();
+		return sqlMetrics != null && sqlMetrics.isEnabled();
+	}
+
+	/**
+	 * SQL実行メトリクスを記録する. SQL名は{@link #generateSqlName(SqlContext)}で生成する
+	 *
+	 * @param sqlContext SQLコンテキスト
+	 * @param type メトリクスの種類
+	 * @param value 値. 処理時間の場合はナノ秒
+	 */
+	protected void recordMetric(final SqlContext sqlContext, final SqlMetricType type, final long value) {
+		SqlMetrics sqlMetrics = sqlConfig.getSqlMetrics();
+		if (sqlMetrics != null && sqlMetrics.isEnabled()) {
+			sqlMetrics.record(generateSqlName(sqlContext), sqlContext.getSqlKind(), type, value);
+		}
+	}
+
+	/** 時間計測用のログに出力するSQL名を生成する.
+	 *
+	 * @param sqlContext SqlContext
+	 * @return SQL名. SQL名が取得できない場合はSQL_ID、または空文字を返却する
+	 */
+	protected String generateSqlName(final SqlContext sqlContext) {
+		if (sqlContext.getSqlName() != null) {
+			return sqlContext.getSqlName();
+		} else {
+			return Objects.toString(sqlContext.getSqlId(), "");
+		}
+	}
+
+	/**
+	 * SQLを解析してContextTransformerを取得する.<br>
+	 * SQLカバレッジ取得時はノードに通過情報を保持するため、解析済みSQLのキャッシュは利用しない.
+	 *
+	 * @param sqlName SQL名
+	 * @param sql 解析対象SQL
+	 * @param outputBindComment バインド変数置換後にバインド変数のコメント文字列を出力するかどうか
+	 * @return ContextTransformer
+	 */
+	private ContextTransformer parse(final String sqlName, final String sql, final boolean outputBindComment) {
+		boolean removeTerminator = sqlConfig.getDialect().isRemoveTerminator();
+		Supplier<ContextTransformer> parser = () -> {
+			SqlParser sqlParser = new SqlParserImpl(sql, sqlConfig.getExpressionParser(), removeTerminator,
+					outputBindComment);
+			return sqlParser.parse();
+		};
+
+		if (coverageHandlerRef.get() != null || getSqlManager() == null) {
+			return parser.get();
+		}
+		ContextTransformerCache cache = getSqlManager().getContextTransformerCache();
+		if (cache == null) {
+			return parser.get();
+		}
+		return cache.get(sqlName, sql, removeTerminator, outputBindComment, parser);
+	}
+
 	/**
 	 * フェッチサイズとクエリタイムアウトをPreparedStatementに設定する
 	 *
@@ -436,6 +523,72 @@ public abstract class AbstractAgent implements SqlAgent {
 		transactionManager.rollback(savepointName);
 	}
 
+	/**
+	 * リトライ用のセーブポイントを設定する.<br>
+	 * 他の処理と共有されないコネクションで実行するSQLが現在のトランザクションで最初のSQLの場合は、
+	 * リトライ前にトランザクション全体をロールバックすればよいためセーブポイントを設定しない. これにより、リトライが発生しない場合のセーブポイントの設定と解放を省略する.
+	 *
+	 * @return セーブポイントを設定した場合<code>true</code>
+	 */
+	protected boolean setRetrySavepoint() {
+		if (transactionManager instanceof LocalTransactionManager
+				&& ((LocalTransactionManager) transactionManager).isFirstStatement()) {
+			return false;
+		}
+		setSavepoint(RETRY_SAVEPOINT_NAME);
+		return true;
+	}
+
+	/**
+	 * リトライ前のロールバックを行う
+	 *
+	 * @param retrySavepoint {@link #setRetrySavepoint()}でセーブポイントを設定したかどうか
+	 */
+	protected void rollbackForRetry(final boolean retrySavepoint) {
+		if (retrySavepoint) {
+			rollback(RETRY_SAVEPOINT_NAME);
+		} else {
+			((LocalTransactionManager) transactionManager).rollbackFirstStatement();
+		}
+	}
+
+	/**
+	 * リトライ前の待機時間を計算する.<br>
+	 * 待機時間はリトライ待機時間を基準にリトライの度に倍増させ、
+	 * 同時に失敗した処理のリトライが重ならないよう、その1～2倍の範囲でランダムに決定する.
+	 * 決定した待機時間は{@link #MAX_RETRY_WAIT_TIME}を超えないよう、上限に近づいた場合は上限の1/2～1倍の範囲で決定する.
+	 *
+	 * @param retryWaitTime リトライ待機時間(ms)
+	 * @param loopCount これまでのリトライ回数
+	 * @return 待機時間(ms)
+	 */
+	protected static long computeRetryWaitTime(final int retryWaitTime, final int loopCount) {
+		if (retryWaitTime <= 0) {
+			return 0L;
+		}
+		long limit = Math.max(retryWaitTime, MAX_RETRY_WAIT_TIME);
+		long backoff = Math.min((long) retryWaitTime << Math.min(loopCount, 20), limit);
+		// 揺らぎを加えた後の待機時間が上限を超えないよう、範囲を上限までに収める
+		long lower = Math.min(backoff, Math.max(limit / 2, retryWaitTime));
+		long upper = Math.min(backoff * 2, limit);
+		return lower + ThreadLocalRandom.current().nextLong(upper - lower + 1);
+	}
+
+	/**
+	 * リトライ前の待機を行う. 待機中に割り込まれた場合は割り込み状態を戻して待機を終了する
+	 *
+	 * @param waitTime 待機時間(ms)
+	 */
+	protected void sleepForRetry(final long waitTime) {
+		if (waitTime > 0) {
+			try {
+				Thread.sleep(waitTime);
+			} catch (InterruptedException ie) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
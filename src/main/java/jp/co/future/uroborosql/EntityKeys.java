@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * {@link SqlAgent#findAll(Class, java.util.Collection)}に指定されたキーを扱うユーティリティ
+ */
+final class EntityKeys {
+	/**
+	 * コンストラクタ
+	 */
+	private EntityKeys() {
+	}
+
+	/**
+	 * 1件分のキーを、キーの値をキー順に並べたリストに変換する.<br>
+	 * キーの値の配列または{@link List}はその要素を、それ以外はキー自体を1つの値として扱う.
+	 *
+	 * @param key キー
+	 * @return キーの値のリスト. キーが<code>null</code>または<code>null</code>の値を含む場合は<code>null</code>
+	 */
+	static List<Object> toKeyValues(final Object key) {
+		if (key == null) {
+			return null;
+		}
+		List<Object> keyValues;
+		if (key instanceof Object[]) {
+			keyValues = Arrays.asList((Object[]) key);
+		} else if (key instanceof List) {
+			keyValues = new ArrayList<>((List<?>) key);
+		} else {
+			keyValues = Collections.singletonList(key);
+		}
+		return keyValues.contains(null) ? null : keyValues;
+	}
+
+	/**
+	 * 取得結果のMapのキーを取得する. 単一キーの場合はキーの値、複合キーの場合はキーの値のリストとなる
+	 *
+	 * @param keyValues キーの値のリスト
+	 * @return 取得結果のMapのキー
+	 */
+	static Object toResultKey(final List<Object> keyValues) {
+		return keyValues.size() == 1 ? keyValues.get(0) : keyValues;
+	}
+
+	/**
+	 * 指定されたキーの値とエンティティのキーの値を照合するための比較用のキーを取得する.<br>
+	 * 数値は型によらず値で一致するよう{@link BigDecimal}に変換する.
+	 *
+	 * @param keyValues キーの値のリスト
+	 * @return 比較用のキー
+	 */
+	static List<Object> toComparableKey(final List<?> keyValues) {
+		return keyValues.stream().map(EntityKeys::toComparableValue).collect(Collectors.toList());
+	}
+
+	/**
+	 * 比較用の値を取得する
+	 *
+	 * @param value キーの値
+	 * @return 比較用の値
+	 */
+	private static Object toComparableValue(final Object value) {
+		if (value instanceof Number) {
+			try {
+				return new BigDecimal(value.toString()).stripTrailingZeros();
+			} catch (NumberFormatException ex) {
+				// NaNなどBigDecimalで表現できない値はそのまま比較する
+				return value;
+			}
+		}
+		return value;
+	}
+}
@@ -8,6 +8,8 @@ package jp.co.future.uroborosql;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -298,6 +300,35 @@ public interface SqlAgent extends AutoCloseable, TransactionManager, SqlConfigAw
 	 */
 	<E> Optional<E> find(Class<? extends E> entityType, Object... keys);
 
+	/**
+	 * キーを指定したエンティティの複数件取得を実行<br>
+	 * キーはIN句に分割して指定し、少ない回数の検索で取得する.
+	 * 複合キーの場合は、キーの値をキー順に並べた配列または{@link List}を1件のキーとして指定する.
+	 * 単一キーの場合も、要素が1つの配列または{@link List}をキーとして指定できる.
+	 * <code>null</code>のキー、および<code>null</code>の値を含む複合キーに一致するエンティティは存在しないため、検索せずに無視する.<br>
+	 * デフォルト実装はキーごとに{@link #find(Class, Object...)}を実行する.
+	 *
+	 * @param entityType エンティティタイプ
+	 * @param keys キーのコレクション
+	 * @param <E> エンティティ型
+	 * @return キーとエンティティのMap. Mapのキーは指定したキーの値で、単一キーの場合はキーの値、複合キーの場合はキーの値をキー順に並べた{@link List}.
+	 *         エンティティのフィールドと型が異なる数値をキーに指定した場合も、指定した型の値がMapのキーとなる
+	 */
+	default <E> Map<Object, E> findAll(final Class<? extends E> entityType, final Collection<?> keys) {
+		Map<Object, E> result = new LinkedHashMap<>();
+		for (Object key : keys) {
+			List<Object> keyValues = EntityKeys.toKeyValues(key);
+			if (keyValues == null) {
+				continue;
+			}
+			Object resultKey = EntityKeys.toResultKey(keyValues);
+			if (!result.containsKey(resultKey)) {
+				find(entityType, keyValues.toArray()).ifPresent(e -> result.put(resultKey, e));
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * エンティティを指定して Query処理の実行
 	 *
@@ -93,6 +93,12 @@ public interface SqlAgentFactory extends SqlConfigAware {
 	 */
 	String PROPS_KEY_STRICT_FOR_UPDATE_TYPE = "strictForUpdateType";
 
+	/**
+	 * プロパティ:トランザクション内でキャッシュする更新用PreparedStatementの最大数<br>
+	 * デフォルトは<code>0</code>(キャッシュしない)
+	 */
+	String PROPS_KEY_STATEMENT_CACHE_SIZE = "statementCacheSize";
+
 	/**
 	 * SQL実行クラス生成.
 	 *
@@ -333,4 +339,21 @@ public interface SqlAgentFactory extends SqlConfigAware {
 	 */
 	SqlAgentFactory setStrictForUpdateType(boolean strictForUpdateType);
 
+	/**
+	 * トランザクション内でキャッシュする更新用PreparedStatementの最大数を取得する.
+	 *
+	 * @return トランザクション内でキャッシュする更新用PreparedStatementの最大数
+	 */
+	int getStatementCacheSize();
+
+	/**
+	 * トランザクション内でキャッシュする更新用PreparedStatementの最大数を設定する.<br>
+	 * 1以上を指定すると、同じトランザクション内で同じSQLを繰り返し実行する場合にPreparedStatementを再利用する.
+	 * キャッシュしたPreparedStatementはトランザクションのコミット、ロールバック時にクローズされる.
+	 *
+	 * @param statementCacheSize トランザクション内でキャッシュする更新用PreparedStatementの最大数. 0以下の場合はキャッシュしない
+	 * @return SqlAgentFactory
+	 */
+	SqlAgentFactory setStatementCacheSize(int statementCacheSize);
+
 }
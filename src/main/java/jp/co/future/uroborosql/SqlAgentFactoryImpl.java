@@ -422,4 +422,25 @@ public class SqlAgentFactoryImpl implements SqlAgentFactory {
 		return this;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.SqlAgentFactory#getStatementCacheSize()
+	 */
+	@Override
+	public int getStatementCacheSize() {
+		return Integer.parseInt(settings.getOrDefault(PROPS_KEY_STATEMENT_CACHE_SIZE, "0"));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.SqlAgentFactory#setStatementCacheSize(int)
+	 */
+	@Override
+	public SqlAgentFactory setStatementCacheSize(final int statementCacheSize) {
+		settings.put(PROPS_KEY_STATEMENT_CACHE_SIZE, String.valueOf(statementCacheSize));
+		return this;
+	}
+
 }
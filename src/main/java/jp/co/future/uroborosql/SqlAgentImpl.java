@@ -20,10 +20,12 @@ import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -55,10 +57,12 @@ import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
 import jp.co.future.uroborosql.exception.UroborosqlSQLException;
 import jp.co.future.uroborosql.fluent.SqlEntityDelete;
 import jp.co.future.uroborosql.fluent.SqlEntityUpdate;
+import jp.co.future.uroborosql.jfr.SqlExecutionEvent;
 import jp.co.future.uroborosql.mapping.EntityHandler;
 import jp.co.future.uroborosql.mapping.MappingColumn;
 import jp.co.future.uroborosql.mapping.MappingUtils;
 import jp.co.future.uroborosql.mapping.TableMetadata;
+import jp.co.future.uroborosql.metrics.SqlMetricType;
 import jp.co.future.uroborosql.parameter.Parameter;
 import jp.co.future.uroborosql.utils.CaseFormat;
 
@@ -103,6 +107,29 @@ public class SqlAgentImpl extends AbstractAgent {
 	 */
 	@Override
 	public ResultSet query(final SqlContext sqlContext) throws SQLException {
+		SqlExecutionEvent event = new SqlExecutionEvent();
+		event.begin();
+		try {
+			ResultSet rs = executeQuery(sqlContext, event);
+			if (rs == null) {
+				finishEvent(event, sqlContext, -1L);
+			}
+			return rs;
+		} catch (SQLException | RuntimeException | Error ex) {
+			finishEvent(event, sqlContext, -1L);
+			throw ex;
+		}
+	}
+
+	/**
+	 * 検索SQLを実行する. 結果セットのクローズ時にSQL実行イベントを終了する
+	 *
+	 * @param sqlContext SQLコンテキスト
+	 * @param event SQL実行イベント
+	 * @return 結果セット
+	 * @throws SQLException SQL例外
+	 */
+	private ResultSet executeQuery(final SqlContext sqlContext, final SqlExecutionEvent event) throws SQLException {
 		// パラメータログを出力する
 		MDC.put(SUPPRESS_PARAMETER_LOG_OUTPUT, Boolean.FALSE.toString());
 
@@ -116,7 +143,9 @@ public class SqlAgentImpl extends AbstractAgent {
 		PreparedStatement stmt = getPreparedStatement(sqlContext);
 
 		// INパラメータ設定
+		long bindStartTime = System.nanoTime();
 		sqlContext.bindParams(stmt);
+		recordMetric(sqlContext, SqlMetricType.BIND, System.nanoTime() - bindStartTime);
 
 		Instant startTime = null;
 		if (LOG.isDebugEnabled()) {
@@ -144,35 +173,35 @@ public class SqlAgentImpl extends AbstractAgent {
 			ResultSet rs = null;
 			try {
 				do {
+					boolean retrySavepoint = false;
 					try {
 						if (maxRetryCount > 0 && dialect.isRollbackToSavepointBeforeRetry()) {
-							setSavepoint(RETRY_SAVEPOINT_NAME);
+							retrySavepoint = setRetrySavepoint();
 						}
-						rs = new InnerResultSet(getSqlFilterManager().doQuery(sqlContext, stmt, stmt.executeQuery()),
-								stmt);
+						long executeStartTime = System.nanoTime();
+						ResultSet resultSet = stmt.executeQuery();
+						long executeEndTime = System.nanoTime();
+						recordMetric(sqlContext, SqlMetricType.EXECUTE, executeEndTime - executeStartTime);
+						rs = new InnerResultSet(getSqlFilterManager().doQuery(sqlContext, stmt, resultSet), stmt,
+								sqlContext, executeEndTime, event);
 						stmt.closeOnCompletion();
 						return rs;
 					} catch (SQLException ex) {
 						if (maxRetryCount > 0 && dialect.isRollbackToSavepointBeforeRetry()) {
-							rollback(RETRY_SAVEPOINT_NAME);
+							rollbackForRetry(retrySavepoint);
 						}
 						String errorCode = String.valueOf(ex.getErrorCode());
 						String sqlState = ex.getSQLState();
 						Set<String> pessimisticLockingErrorCodes = dialect.getPessimisticLockingErrorCodes();
 						if (maxRetryCount > loopCount) {
 							if (getSqlRetryCodes().contains(errorCode) || getSqlRetryCodes().contains(sqlState)) {
+								long waitTime = computeRetryWaitTime(retryWaitTime, loopCount);
 								if (LOG.isDebugEnabled()) {
 									LOG.debug(String.format(
 											"Caught the error code to be retried.(%d times). Retry after %,3d ms.",
-											loopCount + 1, retryWaitTime));
-								}
-								if (retryWaitTime > 0) {
-									try {
-										Thread.sleep(retryWaitTime);
-									} catch (InterruptedException ie) {
-										// do nothing
-									}
+											loopCount + 1, waitTime));
 								}
+								sleepForRetry(waitTime);
 							} else {
 								if (pessimisticLockingErrorCodes.contains(errorCode)
 										|| pessimisticLockingErrorCodes.contains(sqlState)) {
@@ -190,7 +219,7 @@ public class SqlAgentImpl extends AbstractAgent {
 							}
 						}
 					} finally {
-						if (maxRetryCount > 0 && dialect.isRollbackToSavepointBeforeRetry()) {
+						if (retrySavepoint) {
 							releaseSavepoint(RETRY_SAVEPOINT_NAME);
 						}
 						sqlContext.contextAttrs().put(CTX_ATTR_KEY_RETRY_COUNT, loopCount);
@@ -209,6 +238,7 @@ public class SqlAgentImpl extends AbstractAgent {
 		} finally {
 			// 後処理
 			afterQuery(sqlContext);
+			recordRetryCount(sqlContext);
 			if (LOG.isDebugEnabled() && startTime != null) {
 				LOG.debug("SQL execution time [{}({})] : [{}]", generateSqlName(sqlContext), sqlContext.getSqlKind(),
 						formatElapsedTime(startTime, Instant.now(Clock.systemDefaultZone())));
@@ -273,6 +303,26 @@ public class SqlAgentImpl extends AbstractAgent {
 	 */
 	@Override
 	public int update(final SqlContext sqlContext) throws SQLException {
+		SqlExecutionEvent event = new SqlExecutionEvent();
+		event.begin();
+		long rowCount = -1L;
+		try {
+			int count = executeUpdate(sqlContext);
+			rowCount = count;
+			return count;
+		} finally {
+			finishEvent(event, sqlContext, rowCount);
+		}
+	}
+
+	/**
+	 * 更新SQLを実行する
+	 *
+	 * @param sqlContext SQLコンテキスト
+	 * @return 更新件数
+	 * @throws SQLException SQL例外
+	 */
+	private int executeUpdate(final SqlContext sqlContext) throws SQLException {
 		// パラメータログを出力する
 		MDC.put(SUPPRESS_PARAMETER_LOG_OUTPUT, Boolean.FALSE.toString());
 
@@ -288,7 +338,9 @@ public class SqlAgentImpl extends AbstractAgent {
 		try (PreparedStatement stmt = getPreparedStatement(sqlContext)) {
 
 			// INパラメータ設定
+			long bindStartTime = System.nanoTime();
 			sqlContext.bindParams(stmt);
+			recordMetric(sqlContext, SqlMetricType.BIND, System.nanoTime() - bindStartTime);
 
 			if (LOG.isDebugEnabled()) {
 				LOG.debug("Execute update SQL.");
@@ -311,11 +363,16 @@ public class SqlAgentImpl extends AbstractAgent {
 			}
 			int loopCount = 0;
 			do {
+				boolean retrySavepoint = false;
 				try {
 					if (maxRetryCount > 0 && getSqlConfig().getDialect().isRollbackToSavepointBeforeRetry()) {
-						setSavepoint(RETRY_SAVEPOINT_NAME);
+						retrySavepoint = setRetrySavepoint();
 					}
-					int count = getSqlFilterManager().doUpdate(sqlContext, stmt, stmt.executeUpdate());
+					long executeStartTime = System.nanoTime();
+					int result = stmt.executeUpdate();
+					recordMetric(sqlContext, SqlMetricType.EXECUTE, System.nanoTime() - executeStartTime);
+					int count = getSqlFilterManager().doUpdate(sqlContext, stmt, result);
+					recordMetric(sqlContext, SqlMetricType.ROW_COUNT, count);
 					if ((SqlKind.INSERT.equals(sqlContext.getSqlKind()) ||
 							SqlKind.BULK_INSERT.equals(sqlContext.getSqlKind()))
 							&& sqlContext.hasGeneratedKeyColumns()) {
@@ -333,24 +390,19 @@ public class SqlAgentImpl extends AbstractAgent {
 					return count;
 				} catch (SQLException ex) {
 					if (maxRetryCount > 0 && getSqlConfig().getDialect().isRollbackToSavepointBeforeRetry()) {
-						rollback(RETRY_SAVEPOINT_NAME);
+						rollbackForRetry(retrySavepoint);
 					}
 					if (maxRetryCount > loopCount) {
 						String errorCode = String.valueOf(ex.getErrorCode());
 						String sqlState = ex.getSQLState();
 						if (getSqlRetryCodes().contains(errorCode) || getSqlRetryCodes().contains(sqlState)) {
+							long waitTime = computeRetryWaitTime(retryWaitTime, loopCount);
 							if (LOG.isDebugEnabled()) {
 								LOG.debug(String.format(
 										"Caught the error code to be retried.(%d times). Retry after %,3d ms.",
-										loopCount + 1, retryWaitTime));
-							}
-							if (retryWaitTime > 0) {
-								try {
-									Thread.sleep(retryWaitTime);
-								} catch (InterruptedException ie) {
-									// do nothing
-								}
+										loopCount + 1, waitTime));
 							}
+							sleepForRetry(waitTime);
 						} else {
 							throw ex;
 						}
@@ -358,7 +410,7 @@ public class SqlAgentImpl extends AbstractAgent {
 						throw ex;
 					}
 				} finally {
-					if (maxRetryCount > 0 && getSqlConfig().getDialect().isRollbackToSavepointBeforeRetry()) {
+					if (retrySavepoint) {
 						releaseSavepoint(RETRY_SAVEPOINT_NAME);
 					}
 					sqlContext.contextAttrs().put(CTX_ATTR_KEY_RETRY_COUNT, loopCount);
@@ -370,6 +422,7 @@ public class SqlAgentImpl extends AbstractAgent {
 			return 0;
 		} finally {
 			afterUpdate(sqlContext);
+			recordRetryCount(sqlContext);
 			if (LOG.isDebugEnabled() && startTime != null) {
 				LOG.debug("SQL execution time [{}({})] : [{}]", generateSqlName(sqlContext), sqlContext.getSqlKind(),
 						formatElapsedTime(startTime, Instant.now(Clock.systemDefaultZone())));
@@ -399,6 +452,26 @@ public class SqlAgentImpl extends AbstractAgent {
 	 */
 	@Override
 	public int[] batch(final SqlContext sqlContext) throws SQLException {
+		SqlExecutionEvent event = new SqlExecutionEvent();
+		event.begin();
+		long rowCount = -1L;
+		try {
+			int[] counts = executeBatch(sqlContext);
+			rowCount = Arrays.stream(counts).filter(c -> c > 0).asLongStream().sum();
+			return counts;
+		} finally {
+			finishEvent(event, sqlContext, rowCount);
+		}
+	}
+
+	/**
+	 * バッチ処理を実行する
+	 *
+	 * @param sqlContext SQLコンテキスト
+	 * @return 更新件数の配列
+	 * @throws SQLException SQL例外
+	 */
+	private int[] executeBatch(final SqlContext sqlContext) throws SQLException {
 		// バッチ処理の場合大量のログが出力されるため、パラメータログの出力を抑止する
 		MDC.put(SUPPRESS_PARAMETER_LOG_OUTPUT, Boolean.TRUE.toString());
 
@@ -414,7 +487,10 @@ public class SqlAgentImpl extends AbstractAgent {
 		try (PreparedStatement stmt = getPreparedStatement(sqlContext)) {
 
 			// INパラメータ設定
+			recordMetric(sqlContext, SqlMetricType.BATCH_SIZE, sqlContext.batchCount());
+			long bindStartTime = System.nanoTime();
 			sqlContext.bindBatchParams(stmt);
+			recordMetric(sqlContext, SqlMetricType.BIND, System.nanoTime() - bindStartTime);
 
 			if (LOG.isDebugEnabled()) {
 				LOG.debug("Execute batch process.");
@@ -437,11 +513,17 @@ public class SqlAgentImpl extends AbstractAgent {
 			}
 			int loopCount = 0;
 			do {
+				boolean retrySavepoint = false;
 				try {
 					if (maxRetryCount > 0 && getSqlConfig().getDialect().isRollbackToSavepointBeforeRetry()) {
-						setSavepoint(RETRY_SAVEPOINT_NAME);
+						retrySavepoint = setRetrySavepoint();
 					}
-					int[] counts = getSqlFilterManager().doBatch(sqlContext, stmt, stmt.executeBatch());
+					long executeStartTime = System.nanoTime();
+					int[] result = stmt.executeBatch();
+					recordMetric(sqlContext, SqlMetricType.EXECUTE, System.nanoTime() - executeStartTime);
+					int[] counts = getSqlFilterManager().doBatch(sqlContext, stmt, result);
+					recordMetric(sqlContext, SqlMetricType.ROW_COUNT,
+							Arrays.stream(counts).filter(c -> c > 0).asLongStream().sum());
 					if (SqlKind.BATCH_INSERT.equals(sqlContext.getSqlKind())
 							&& sqlContext.hasGeneratedKeyColumns()) {
 						try (ResultSet rs = stmt.getGeneratedKeys()) {
@@ -458,24 +540,19 @@ public class SqlAgentImpl extends AbstractAgent {
 					return counts;
 				} catch (SQLException ex) {
 					if (maxRetryCount > 0 && getSqlConfig().getDialect().isRollbackToSavepointBeforeRetry()) {
-						rollback(RETRY_SAVEPOINT_NAME);
+						rollbackForRetry(retrySavepoint);
 					}
 					if (maxRetryCount > loopCount) {
 						String errorCode = String.valueOf(ex.getErrorCode());
 						String sqlState = ex.getSQLState();
 						if (getSqlRetryCodes().contains(errorCode) || getSqlRetryCodes().contains(sqlState)) {
+							long waitTime = computeRetryWaitTime(retryWaitTime, loopCount);
 							if (LOG.isDebugEnabled()) {
 								LOG.debug(String.format(
 										"Caught the error code to be retried.(%d times). Retry after %,3d ms.",
-										loopCount + 1, retryWaitTime));
-							}
-							if (retryWaitTime > 0) {
-								try {
-									Thread.sleep(retryWaitTime);
-								} catch (InterruptedException ie) {
-									// do nothing
-								}
+										loopCount + 1, waitTime));
 							}
+							sleepForRetry(waitTime);
 						} else {
 							throw ex;
 						}
@@ -483,7 +560,7 @@ public class SqlAgentImpl extends AbstractAgent {
 						throw ex;
 					}
 				} finally {
-					if (maxRetryCount > 0 && getSqlConfig().getDialect().isRollbackToSavepointBeforeRetry()) {
+					if (retrySavepoint) {
 						releaseSavepoint(RETRY_SAVEPOINT_NAME);
 					}
 					sqlContext.clearBatch();
@@ -497,6 +574,7 @@ public class SqlAgentImpl extends AbstractAgent {
 		} finally {
 			// 後処理
 			afterBatch(sqlContext);
+			recordRetryCount(sqlContext);
 			if (LOG.isDebugEnabled() && startTime != null) {
 				LOG.debug("SQL execution time [{}({})] : [{}]", generateSqlName(sqlContext), sqlContext.getSqlKind(),
 						formatElapsedTime(startTime, Instant.now(Clock.systemDefaultZone())));
@@ -528,6 +606,23 @@ public class SqlAgentImpl extends AbstractAgent {
 	 */
 	@Override
 	public Map<String, Object> procedure(final SqlContext sqlContext) throws SQLException {
+		SqlExecutionEvent event = new SqlExecutionEvent();
+		event.begin();
+		try {
+			return executeProcedure(sqlContext);
+		} finally {
+			finishEvent(event, sqlContext, -1L);
+		}
+	}
+
+	/**
+	 * ストアドプロシージャを実行する
+	 *
+	 * @param sqlContext SQLコンテキスト
+	 * @return プロシージャ実行結果のMap
+	 * @throws SQLException SQL例外
+	 */
+	private Map<String, Object> executeProcedure(final SqlContext sqlContext) throws SQLException {
 		// パラメータログを出力する
 		MDC.put(SUPPRESS_PARAMETER_LOG_OUTPUT, Boolean.FALSE.toString());
 
@@ -546,7 +641,9 @@ public class SqlAgentImpl extends AbstractAgent {
 		try (CallableStatement callableStatement = getCallableStatement(sqlContext)) {
 
 			// パラメータ設定
+			long bindStartTime = System.nanoTime();
 			sqlContext.bindParams(callableStatement);
+			recordMetric(sqlContext, SqlMetricType.BIND, System.nanoTime() - bindStartTime);
 
 			if (LOG.isDebugEnabled()) {
 				LOG.debug("Execute stored procedure.");
@@ -568,32 +665,31 @@ public class SqlAgentImpl extends AbstractAgent {
 			}
 			int loopCount = 0;
 			do {
+				boolean retrySavepoint = false;
 				try {
 					if (maxRetryCount > 0 && getSqlConfig().getDialect().isRollbackToSavepointBeforeRetry()) {
-						setSavepoint(RETRY_SAVEPOINT_NAME);
+						retrySavepoint = setRetrySavepoint();
 					}
-					getSqlFilterManager().doProcedure(sqlContext, callableStatement, callableStatement.execute());
+					long executeStartTime = System.nanoTime();
+					boolean result = callableStatement.execute();
+					recordMetric(sqlContext, SqlMetricType.EXECUTE, System.nanoTime() - executeStartTime);
+					getSqlFilterManager().doProcedure(sqlContext, callableStatement, result);
 					break;
 				} catch (SQLException ex) {
 					if (maxRetryCount > 0 && getSqlConfig().getDialect().isRollbackToSavepointBeforeRetry()) {
-						rollback(RETRY_SAVEPOINT_NAME);
+						rollbackForRetry(retrySavepoint);
 					}
 					if (maxRetryCount > loopCount) {
 						String errorCode = String.valueOf(ex.getErrorCode());
 						String sqlState = ex.getSQLState();
 						if (getSqlRetryCodes().contains(errorCode) || getSqlRetryCodes().contains(sqlState)) {
+							long waitTime = computeRetryWaitTime(retryWaitTime, loopCount);
 							if (LOG.isDebugEnabled()) {
 								LOG.debug(String.format(
 										"Caught the error code to be retried.(%d times). Retry after %,3d ms.",
-										loopCount + 1, retryWaitTime));
-							}
-							if (retryWaitTime > 0) {
-								try {
-									Thread.sleep(retryWaitTime);
-								} catch (InterruptedException ie) {
-									// do nothing
-								}
+										loopCount + 1, waitTime));
 							}
+							sleepForRetry(waitTime);
 						} else {
 							throw ex;
 						}
@@ -601,7 +697,7 @@ public class SqlAgentImpl extends AbstractAgent {
 						throw ex;
 					}
 				} finally {
-					if (maxRetryCount > 0 && getSqlConfig().getDialect().isRollbackToSavepointBeforeRetry()) {
+					if (retrySavepoint) {
 						releaseSavepoint(RETRY_SAVEPOINT_NAME);
 					}
 					sqlContext.contextAttrs().put(CTX_ATTR_KEY_RETRY_COUNT, loopCount);
@@ -613,6 +709,7 @@ public class SqlAgentImpl extends AbstractAgent {
 			handleException(sqlContext, ex);
 		} finally {
 			afterProcedure(sqlContext);
+			recordRetryCount(sqlContext);
 			if (LOG.isDebugEnabled() && startTime != null) {
 				LOG.debug("Stored procedure execution time [{}({})] : [{}]", generateSqlName(sqlContext),
 						sqlContext.getSqlKind(), formatElapsedTime(startTime, Instant.now(Clock.systemDefaultZone())));
@@ -639,16 +736,31 @@ public class SqlAgentImpl extends AbstractAgent {
 	protected void afterProcedure(final SqlContext sqlContext) {
 	}
 
-	/** 時間計測用のログに出力するSQL名を生成する.
+	/**
+	 * SQL実行イベントを終了する. イベントが無効な場合は何もしない
+	 *
+	 * @param event SQL実行イベント
+	 * @param sqlContext SQLコンテキスト
+	 * @param rowCount 検索件数または更新件数. 取得できない場合は-1
+	 */
+	private void finishEvent(final SqlExecutionEvent event, final SqlContext sqlContext, final long rowCount) {
+		if (event.isEnabled()) {
+			Map<String, Object> attrs = sqlContext.contextAttrs();
+			event.finish(sqlContext, rowCount, (int) attrs.getOrDefault(CTX_ATTR_KEY_RETRY_COUNT, 0),
+					(long) attrs.getOrDefault(CTX_ATTR_KEY_PARSE_TIME, 0L),
+					(long) attrs.getOrDefault(CTX_ATTR_KEY_TRANSFORM_TIME, 0L));
+		}
+	}
+
+	/**
+	 * リトライ回数をSQL実行メトリクスに記録する
 	 *
-	 * @param sqlContext SqlContext
-	 * @return SQL名. SQL名が取得できない場合はSQL_ID、または空文字を返却する
+	 * @param sqlContext SQLコンテキスト
 	 */
-	protected String generateSqlName(final SqlContext sqlContext) {
-		if (sqlContext.getSqlName() != null) {
-			return sqlContext.getSqlName();
-		} else {
-			return Objects.toString(sqlContext.getSqlId(), "");
+	private void recordRetryCount(final SqlContext sqlContext) {
+		Object retryCount = sqlContext.contextAttrs().get(CTX_ATTR_KEY_RETRY_COUNT);
+		if (retryCount instanceof Integer) {
+			recordMetric(sqlContext, SqlMetricType.RETRY_COUNT, (Integer) retryCount);
 		}
 	}
 
@@ -740,6 +852,163 @@ public class SqlAgentImpl extends AbstractAgent {
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.SqlAgent#findAll(java.lang.Class, java.util.Collection)
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <E> Map<Object, E> findAll(final Class<? extends E> entityType, final Collection<?> keys) {
+		@SuppressWarnings("rawtypes")
+		EntityHandler handler = this.getEntityHandler();
+		if (!handler.getEntityType().isAssignableFrom(entityType)) {
+			throw new IllegalArgumentException("Entity type not supported");
+		}
+
+		try {
+			TableMetadata metadata = handler.getMetadata(this.transactionManager, entityType);
+			List<? extends TableMetadata.Column> keyColumns = metadata.getKeyColumns();
+			if (keyColumns.isEmpty()) {
+				throw new IllegalArgumentException("Entity has no keys");
+			}
+			Map<String, MappingColumn> mappingColumns = MappingUtils.getMappingColumnMap(entityType, SqlKind.NONE);
+			List<MappingColumn> keyMappingColumns = keyColumns.stream()
+					.map(c -> mappingColumns.get(c.getCamelColumnName()))
+					.collect(Collectors.toList());
+
+			// 指定されたキーを単一キー・複合キーとも、キーの値のリストに揃える
+			List<List<Object>> keyList = keys.stream().map(EntityKeys::toKeyValues).filter(Objects::nonNull)
+					.distinct().collect(Collectors.toList());
+			for (List<Object> keyValues : keyList) {
+				if (keyValues.size() != keyColumns.size()) {
+					throw new IllegalArgumentException("Number of keys does not match");
+				}
+			}
+
+			// 取得したエンティティは、指定されたキーと型によらず照合できるよう比較用のキーで保持する
+			Map<Object, E> entities = new HashMap<>();
+			if (keyColumns.size() == 1) {
+				// 単一キーの場合はIN句で分割して取得する. IN句を配列パラメータとしてバインドできる場合は分割しない
+				List<Object> valueList = keyList.stream().map(keyValues -> keyValues.get(0))
+						.collect(Collectors.toList());
+				int chunkSize = isArrayInClauseAvailable(valueList) ? Math.max(valueList.size(), 1)
+						: IN_CLAUSE_MAX_PARAM_SIZE;
+				MappingColumn keyColumn = keyMappingColumns.get(0);
+				for (int start = 0; start < valueList.size(); start = start + chunkSize) {
+					List<Object> subList = valueList.subList(start, Math.min(start + chunkSize, valueList.size()));
+					try (Stream<? extends E> stream = query(entityType)
+							.in(keyColumns.get(0).getCamelColumnName(), subList).stream()) {
+						stream.forEach(e -> entities.put(
+								EntityKeys.toComparableKey(Collections.singletonList(keyColumn.getValue(e))), e));
+					}
+				}
+			} else {
+				// 複合キーの場合は行値式のIN句、またはキーごとのAND条件をORで連結した条件で分割して取得する
+				int chunkSize = Math.max(IN_CLAUSE_MAX_PARAM_SIZE / keyColumns.size(), 1);
+				boolean rowValue = getSqlConfig().getDialect().supportsRowValueInClause();
+				for (int start = 0; start < keyList.size(); start = start + chunkSize) {
+					List<List<Object>> subList = keyList.subList(start,
+							Math.min(start + chunkSize, keyList.size()));
+					Map<String, Object> params = new HashMap<>();
+					String where = rowValue ? buildRowValueInClause(keyColumns, subList, params)
+							: buildKeyOrClause(keyColumns, subList, params);
+					try (Stream<? extends E> stream = query(entityType).where(where, params).stream()) {
+						stream.forEach(e -> entities.put(EntityKeys.toComparableKey(
+								keyMappingColumns.stream().map(c -> c.getValue(e)).collect(Collectors.toList())), e));
+					}
+				}
+			}
+
+			// 指定されたキーの順に、指定されたキーの値をキーとして格納する
+			Map<Object, E> result = new LinkedHashMap<>();
+			for (List<Object> keyValues : keyList) {
+				E entity = entities.get(EntityKeys.toComparableKey(keyValues));
+				if (entity != null) {
+					result.putIfAbsent(EntityKeys.toResultKey(keyValues), entity);
+				}
+			}
+			return result;
+		} catch (SQLException e) {
+			throw new EntitySqlRuntimeException(SqlKind.SELECT, e);
+		}
+	}
+
+	/**
+	 * 行値式を用いたIN句の条件を生成する
+	 *
+	 * @param keyColumns キーカラム
+	 * @param keyList キーの値のリスト
+	 * @param params バインドパラメータの格納先
+	 * @return 条件文字列
+	 */
+	private String buildRowValueInClause(final List<? extends TableMetadata.Column> keyColumns,
+			final List<List<Object>> keyList, final Map<String, Object> params) {
+		StringBuilder where = new StringBuilder("(");
+		where.append(keyColumns.stream().map(TableMetadata.Column::getColumnIdentifier)
+				.collect(Collectors.joining(", ")));
+		where.append(") IN (");
+		for (int i = 0; i < keyList.size(); i++) {
+			if (i > 0) {
+				where.append(", ");
+			}
+			where.append("(");
+			for (int j = 0; j < keyColumns.size(); j++) {
+				if (j > 0) {
+					where.append(", ");
+				}
+				where.append(bindKeyParam(keyColumns.get(j), i, keyList.get(i).get(j), params));
+			}
+			where.append(")");
+		}
+		return where.append(")").toString();
+	}
+
+	/**
+	 * キーごとのAND条件をORで連結した条件を生成する
+	 *
+	 * @param keyColumns キーカラム
+	 * @param keyList キーの値のリスト
+	 * @param params バインドパラメータの格納先
+	 * @return 条件文字列
+	 */
+	private String buildKeyOrClause(final List<? extends TableMetadata.Column> keyColumns,
+			final List<List<Object>> keyList, final Map<String, Object> params) {
+		StringBuilder where = new StringBuilder();
+		for (int i = 0; i < keyList.size(); i++) {
+			if (i > 0) {
+				where.append(" OR ");
+			}
+			where.append("(");
+			for (int j = 0; j < keyColumns.size(); j++) {
+				if (j > 0) {
+					where.append(" AND ");
+				}
+				TableMetadata.Column col = keyColumns.get(j);
+				where.append(col.getColumnIdentifier()).append(" = ")
+						.append(bindKeyParam(col, i, keyList.get(i).get(j), params));
+			}
+			where.append(")");
+		}
+		return where.toString();
+	}
+
+	/**
+	 * キーの値をバインドパラメータに設定し、バインド変数コメントを取得する
+	 *
+	 * @param col キーカラム
+	 * @param index キーのインデックス
+	 * @param value キーの値
+	 * @param params バインドパラメータの格納先
+	 * @return バインド変数コメント
+	 */
+	private String bindKeyParam(final TableMetadata.Column col, final int index, final Object value,
+			final Map<String, Object> params) {
+		String paramName = col.getCamelColumnName() + "$" + index;
+		params.put(paramName, value);
+		return "/*" + paramName + "*/''";
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -1388,11 +1657,14 @@ public class SqlAgentImpl extends AbstractAgent {
 							.collect(Collectors.groupingBy(e -> keyColumn.getValue(e)));
 
 					// updatedEntitiesのサイズが大きいとin句の上限にあたるため、1000件ずつに分割して検索する
+					// ただしIN句を配列パラメータとしてバインドできる場合は分割せずに1度で検索する
 					List<Object> keyList = new ArrayList<>(updatedEntityMap.keySet());
 					int entitySize = updatedEntities.size();
+					int chunkSize = isArrayInClauseAvailable(keyList) ? Math.max(entitySize, 1)
+							: IN_CLAUSE_MAX_PARAM_SIZE;
 
-					for (int start = 0; start < entitySize; start = start + IN_CLAUSE_MAX_PARAM_SIZE) {
-						int end = Math.min(start + IN_CLAUSE_MAX_PARAM_SIZE, entitySize);
+					for (int start = 0; start < entitySize; start = start + chunkSize) {
+						int end = Math.min(start + chunkSize, entitySize);
 						List<Object> subList = keyList.subList(start, end);
 
 						query(entityType).in(keyColumn.getCamelName(), subList).stream()
@@ -1420,6 +1692,22 @@ public class SqlAgentImpl extends AbstractAgent {
 		}
 	}
 
+	/**
+	 * キーのリストをIN句の1つの配列パラメータとしてバインドできるかどうかを判定する
+	 *
+	 * @param keyList キーのリスト
+	 * @return 配列パラメータとしてバインドできる場合<code>true</code>
+	 */
+	private boolean isArrayInClauseAvailable(final List<Object> keyList) {
+		int threshold = getSqlConfig().getSqlContextFactory().getInListArrayBindThreshold();
+		if (threshold <= 0 || keyList.size() < threshold || !getSqlConfig().getDialect().supportsArrayInClause()) {
+			return false;
+		}
+		Class<?> keyType = keyList.get(0) != null ? keyList.get(0).getClass() : null;
+		return getSqlConfig().getDialect().getArrayTypeName(keyType) != null
+				&& keyList.stream().allMatch(key -> key != null && key.getClass() == keyType);
+	}
+
 	/**
 	 * ResultSetをStreamで扱うためのSpliterator
 	 *
@@ -1446,7 +1734,14 @@ public class SqlAgentImpl extends AbstractAgent {
 					finished = true;
 					return false;
 				}
-				action.accept(converter.createRecord(rs));
+				if (rs instanceof InnerResultSet) {
+					long convertStartTime = System.nanoTime();
+					T record = converter.createRecord(rs);
+					((InnerResultSet) rs).addConvertTime(System.nanoTime() - convertStartTime);
+					action.accept(record);
+				} else {
+					action.accept(converter.createRecord(rs));
+				}
 				return true;
 			} catch (RuntimeException | Error ex) {
 				try {
@@ -1471,24 +1766,81 @@ public class SqlAgentImpl extends AbstractAgent {
 	}
 
 	/**
-	 * ResultSetのラッパークラス。ResultSetのクローズに合わせてStatementもクローズする。
+	 * ResultSetのラッパークラス。ResultSetのクローズに合わせてStatementもクローズする。<br>
+	 * SQL実行メトリクスを記録する場合は、最初の行の取得までの時間と、クローズまでの時間、取得件数、変換時間を記録する。
 	 *
 	 * @author H.Sugimoto
 	 * @version 0.5.0
 	 */
-	private static class InnerResultSet extends AbstractResultSetWrapper {
+	private final class InnerResultSet extends AbstractResultSetWrapper {
 		/** 同期してクローズするStatement */
 		private final Statement stmt;
 
+		/** SQLコンテキスト */
+		private final SqlContext sqlContext;
+
+		/** SQLの実行が終了した時刻(ナノ秒) */
+		private final long executeEndTime;
+
+		/** SQL実行メトリクスを記録するかどうか */
+		private final boolean metricsEnabled;
+
+		/** 取得件数 */
+		private long rowCount = 0;
+
+		/** 検索結果の変換時間の合計(ナノ秒). 変換を行っていない場合は-1 */
+		private long convertTime = -1;
+
+		/** メトリクスを記録済みかどうか */
+		private boolean recorded = false;
+
+		/** SQL実行イベント */
+		private final SqlExecutionEvent event;
+
+		/** 取得件数を数えるかどうか */
+		private final boolean counting;
+
 		/**
 		 * コンストラクタ
 		 *
 		 * @param wrapped 元となるResultSet
 		 * @param stmt Statement
+		 * @param sqlContext SQLコンテキスト
+		 * @param executeEndTime SQLの実行が終了した時刻(ナノ秒)
+		 * @param event SQL実行イベント
 		 */
-		InnerResultSet(final ResultSet wrapped, final Statement stmt) {
+		InnerResultSet(final ResultSet wrapped, final Statement stmt, final SqlContext sqlContext,
+				final long executeEndTime, final SqlExecutionEvent event) {
 			super(wrapped);
+			this.event = event;
 			this.stmt = stmt;
+			this.sqlContext = sqlContext;
+			this.executeEndTime = executeEndTime;
+			this.metricsEnabled = isMetricsEnabled();
+			this.counting = metricsEnabled || event.isEnabled();
+		}
+
+		/**
+		 * 検索結果の変換時間を加算する
+		 *
+		 * @param time 変換時間(ナノ秒)
+		 */
+		void addConvertTime(final long time) {
+			convertTime = Math.max(convertTime, 0L) + time;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @see jp.co.future.uroborosql.AbstractResultSetWrapper#next()
+		 */
+		@Override
+		public boolean next() throws SQLException {
+			boolean next = super.next();
+			if (next && counting && rowCount++ == 0 && metricsEnabled) {
+				recordMetric(sqlContext, SqlMetricType.FIRST_ROW, System.nanoTime() - executeEndTime);
+			}
+			return next;
 		}
 
 		/**
@@ -1508,6 +1860,15 @@ public class SqlAgentImpl extends AbstractAgent {
 				} catch (SQLException e) {
 					// do nothing
 				}
+				if (metricsEnabled && !recorded) {
+					recorded = true;
+					recordMetric(sqlContext, SqlMetricType.FETCH, System.nanoTime() - executeEndTime);
+					recordMetric(sqlContext, SqlMetricType.ROW_COUNT, rowCount);
+					if (convertTime >= 0) {
+						recordMetric(sqlContext, SqlMetricType.CONVERT, convertTime);
+					}
+				}
+				finishEvent(event, sqlContext, counting ? rowCount : -1L);
 			}
 		}
 	}
@@ -34,6 +34,8 @@ import jp.co.future.uroborosql.filter.SqlFilterManager;
 import jp.co.future.uroborosql.filter.SqlFilterManagerImpl;
 import jp.co.future.uroborosql.mapping.DefaultEntityHandler;
 import jp.co.future.uroborosql.mapping.EntityHandler;
+import jp.co.future.uroborosql.metrics.InMemorySqlMetrics;
+import jp.co.future.uroborosql.metrics.SqlMetrics;
 import jp.co.future.uroborosql.store.SqlManager;
 import jp.co.future.uroborosql.store.SqlManagerImpl;
 
@@ -70,7 +72,8 @@ public final class UroboroSQL {
 	}
 
 	/**
-	 * DB接続情報を指定してSqlConfigを取得する
+	 * DB接続情報を指定してSqlConfigを取得する<br>
+	 * システムプロパティ <code>uroborosql.connection.pool.size</code> を指定した場合はコネクションプールを利用する.
 	 *
 	 * @param url      JDBC接続URL
 	 * @param user     JDBC接続ユーザ
@@ -117,6 +120,7 @@ public final class UroboroSQL {
 		private Clock clock;
 		private Dialect dialect;
 		private ExpressionParser expressionParser;
+		private SqlMetrics sqlMetrics;
 
 		UroboroSQLBuilder() {
 			this.connectionSupplier = null;
@@ -128,6 +132,7 @@ public final class UroboroSQL {
 			this.clock = null;
 			this.dialect = null;
 			this.expressionParser = null;
+			this.sqlMetrics = new InMemorySqlMetrics();
 		}
 
 		/**
@@ -229,6 +234,18 @@ public final class UroboroSQL {
 			return this;
 		}
 
+		/**
+		 * SqlMetricsの設定.<br>
+		 * 設定しない場合は{@link InMemorySqlMetrics}でメモリ上に記録する.
+		 *
+		 * @param sqlMetrics SqlMetrics. 記録しない場合は<code>null</code>
+		 * @return UroboroSQLBuilder
+		 */
+		public UroboroSQLBuilder setSqlMetrics(final SqlMetrics sqlMetrics) {
+			this.sqlMetrics = sqlMetrics;
+			return this;
+		}
+
 		/**
 		 * Builderに設定された内容を元にSqlConfigを構築する
 		 *
@@ -248,7 +265,8 @@ public final class UroboroSQL {
 					this.entityHandler,
 					this.clock,
 					this.dialect,
-					this.expressionParser);
+					this.expressionParser,
+					this.sqlMetrics);
 		}
 
 	}
@@ -299,6 +317,11 @@ public final class UroboroSQL {
 		 */
 		private final ExpressionParser expressionParser;
 
+		/**
+		 * SQL実行メトリクスの記録先
+		 */
+		private final SqlMetrics sqlMetrics;
+
 		InternalConfig(final ConnectionSupplier connectionSupplier,
 				final SqlManager sqlManager,
 				final SqlContextFactory sqlContextFactory,
@@ -307,13 +330,15 @@ public final class UroboroSQL {
 				final EntityHandler<?> entityHandler,
 				final Clock clock,
 				final Dialect dialect,
-				final ExpressionParser expressionParser) {
+				final ExpressionParser expressionParser,
+				final SqlMetrics sqlMetrics) {
 			this.connectionSupplier = connectionSupplier;
 			this.sqlManager = sqlManager;
 			this.sqlContextFactory = sqlContextFactory;
 			this.sqlAgentFactory = sqlAgentFactory;
 			this.sqlFilterManager = sqlFilterManager;
 			this.entityHandler = entityHandler;
+			this.sqlMetrics = sqlMetrics;
 			if (clock == null) {
 				this.clock = Clock.systemDefaultZone();
 			} else {
@@ -504,5 +529,15 @@ public final class UroboroSQL {
 		public EntityHandler<?> getEntityHandler() {
 			return entityHandler;
 		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @see jp.co.future.uroborosql.config.SqlConfig#getSqlMetrics()
+		 */
+		@Override
+		public SqlMetrics getSqlMetrics() {
+			return sqlMetrics;
+		}
 	}
 }
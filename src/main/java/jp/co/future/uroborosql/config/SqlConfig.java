@@ -21,6 +21,7 @@ import jp.co.future.uroborosql.dialect.Dialect;
 import jp.co.future.uroborosql.expr.ExpressionParser;
 import jp.co.future.uroborosql.filter.SqlFilterManager;
 import jp.co.future.uroborosql.mapping.EntityHandler;
+import jp.co.future.uroborosql.metrics.SqlMetrics;
 import jp.co.future.uroborosql.store.SqlManager;
 
 /**
@@ -140,4 +141,13 @@ public interface SqlConfig {
 	 * @return entityHandler
 	 */
 	EntityHandler<?> getEntityHandler();
-}
\ No newline at end of file
+
+	/**
+	 * sqlMetrics を取得.
+	 *
+	 * @return sqlMetrics. SQL実行メトリクスを記録しない場合は<code>null</code>
+	 */
+	default SqlMetrics getSqlMetrics() {
+		return null;
+	}
+}
@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.connection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * コネクションの状態設定ユーティリティ.<br>
+ * コネクションの状態とDB接続情報の指定が異なる場合のみ設定を行い、冗長な設定を省略する.
+ * トランザクション分離レベルの取得はドライバによってはサーバへの問い合わせとなるため、
+ * 現在の値を取得せずに指定がある場合のみ設定する.
+ * {@link JdbcConnectionPool}から取得したコネクションは最後に設定した状態を保持しており、同じ値の再設定は省略される.
+ */
+final class ConnectionStateUtils {
+	private ConnectionStateUtils() {
+	}
+
+	/**
+	 * コネクションの状態とDB接続情報の指定を比較し、異なる状態のみを設定する.<br>
+	 * トランザクション分離レベルは指定がある場合のみ設定する.
+	 *
+	 * @param connection コネクション
+	 * @param ctx DB接続情報
+	 * @throws SQLException SQL例外
+	 */
+	static void applyIfChanged(final Connection connection, final ConnectionContext ctx) throws SQLException {
+		if (connection.getAutoCommit() != ctx.autoCommit()) {
+			connection.setAutoCommit(ctx.autoCommit());
+		}
+		if (connection.isReadOnly() != ctx.readOnly()) {
+			connection.setReadOnly(ctx.readOnly());
+		}
+		int isolation = ctx.transactionIsolation();
+		if (isolation > 0) {
+			connection.setTransactionIsolation(isolation);
+		}
+	}
+}
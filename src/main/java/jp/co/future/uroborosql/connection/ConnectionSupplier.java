@@ -31,6 +31,17 @@ public interface ConnectionSupplier {
 	 */
 	Connection getConnection(ConnectionContext ctx);
 
+	/**
+	 * {@link #getConnection()}などで取得するコネクションが、他の処理と共有されず、未確定の変更を持たない状態で提供されるかどうか.<br>
+	 * <code>true</code>の場合、トランザクション内で最初のSQLのリトライ時にセーブポイントを使用せずトランザクション全体をロールバックする.
+	 * 保持したコネクションを返す実装やDataSourceから取得する実装では、コネクションが共有される可能性があるため<code>false</code>を返す.
+	 *
+	 * @return 他の処理と共有されないコネクションを提供する場合<code>true</code>
+	 */
+	default boolean isExclusiveConnection() {
+		return false;
+	}
+
 	/**
 	 * 接続しているDBプロダクト名+ バージョンを取得する
 	 *
@@ -18,6 +18,7 @@ import javax.sql.DataSource;
 
 import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
 import jp.co.future.uroborosql.exception.UroborosqlSQLException;
+import jp.co.future.uroborosql.jfr.ConnectionAcquireEvent;
 
 /**
  * データソースを使用したコネクション供給クラス<br>
@@ -91,22 +92,22 @@ public class DataSourceConnectionSupplierImpl implements ConnectionSupplier {
 			throw new IllegalArgumentException("ctx must be of type DataSourceConnectionContext.");
 		}
 		String datasourceName = ((DataSourceConnectionContext) ctx).dataSourceName();
+		ConnectionAcquireEvent event = new ConnectionAcquireEvent();
+		event.begin();
 		try {
 			DataSource ds = datasources.computeIfAbsent(datasourceName,
 					DataSourceConnectionSupplierImpl::getNewDataSource);
-			final Connection connection;
-			synchronized (ds) {
-				connection = ds.getConnection();
-			}
-			connection.setAutoCommit(ctx.autoCommit());
-			connection.setReadOnly(ctx.readOnly());
-			int transactionIsolation = ctx.transactionIsolation();
-			if (transactionIsolation > 0) {
-				connection.setTransactionIsolation(transactionIsolation);
-			}
+			// DataSourceはスレッドセーフであるため排他せずに取得する
+			Connection connection = ds.getConnection();
+			ConnectionStateUtils.applyIfChanged(connection, ctx);
 			return connection;
 		} catch (SQLException ex) {
 			throw new UroborosqlSQLException("Connection[" + datasourceName + "] can not be acquired.", ex);
+		} finally {
+			if (event.shouldCommit()) {
+				event.setDataSourceName(datasourceName);
+				event.commit();
+			}
 		}
 	}
 
@@ -24,6 +24,21 @@ public class JdbcConnectionContext extends ConnectionContext {
 	public static final String PROPS_JDBC_PASSWORD = "jdbc.password";
 	/** プロパティキー：JDBC 接続スキーマ */
 	public static final String PROPS_JDBC_SCHEMA = "jdbc.schema";
+	/** プロパティキー：コネクションプールの最大サイズ */
+	public static final String PROPS_POOL_MAX_SIZE = "jdbc.pool.maxsize";
+	/** プロパティキー：コネクションプールの取得待ちタイムアウト(ミリ秒) */
+	public static final String PROPS_POOL_ACQUIRE_TIMEOUT = "jdbc.pool.acquiretimeout";
+	/** プロパティキー：コネクションプールの最大アイドル時間(ミリ秒) */
+	public static final String PROPS_POOL_MAX_IDLE_TIME = "jdbc.pool.maxidletime";
+	/** プロパティキー：コネクションプールの有効性検証タイムアウト(秒) */
+	public static final String PROPS_POOL_VALIDATION_TIMEOUT = "jdbc.pool.validationtimeout";
+
+	/**
+	 * コネクションプールの最大サイズの初期値.<br>
+	 * システムプロパティ <code>uroborosql.connection.pool.size</code> で指定する(デフォルト0). 0以下の場合はプールを利用しない.
+	 */
+	private static final int DEFAULT_POOL_MAX_SIZE = Integer
+			.valueOf(System.getProperty("uroborosql.connection.pool.size", "0"));
 
 	/**
 	 * コンストラクタ
@@ -160,6 +175,86 @@ public class JdbcConnectionContext extends ConnectionContext {
 		return this;
 	}
 
+	/**
+	 * コネクションプールの最大サイズの取得.
+	 *
+	 * @return コネクションプールの最大サイズ. 0以下の場合はプールを利用しない
+	 */
+	public int maxPoolSize() {
+		return (int) getOrDefault(PROPS_POOL_MAX_SIZE, DEFAULT_POOL_MAX_SIZE);
+	}
+
+	/**
+	 * コネクションプールの最大サイズの設定.
+	 *
+	 * @param maxPoolSize コネクションプールの最大サイズ. 0以下の場合はプールを利用しない
+	 * @return {@link JdbcConnectionContext}
+	 */
+	public JdbcConnectionContext maxPoolSize(final int maxPoolSize) {
+		put(PROPS_POOL_MAX_SIZE, maxPoolSize);
+		return this;
+	}
+
+	/**
+	 * コネクションプールの取得待ちタイムアウトの取得.
+	 *
+	 * @return 取得待ちタイムアウト(ミリ秒). 初期値は<code>30000</code>
+	 */
+	public long poolAcquireTimeout() {
+		return (long) getOrDefault(PROPS_POOL_ACQUIRE_TIMEOUT, 30000L);
+	}
+
+	/**
+	 * コネクションプールの取得待ちタイムアウトの設定.
+	 *
+	 * @param acquireTimeout 取得待ちタイムアウト(ミリ秒)
+	 * @return {@link JdbcConnectionContext}
+	 */
+	public JdbcConnectionContext poolAcquireTimeout(final long acquireTimeout) {
+		put(PROPS_POOL_ACQUIRE_TIMEOUT, acquireTimeout);
+		return this;
+	}
+
+	/**
+	 * コネクションプールの最大アイドル時間の取得.
+	 *
+	 * @return 最大アイドル時間(ミリ秒). 初期値は<code>600000</code>
+	 */
+	public long poolMaxIdleTime() {
+		return (long) getOrDefault(PROPS_POOL_MAX_IDLE_TIME, 600000L);
+	}
+
+	/**
+	 * コネクションプールの最大アイドル時間の設定.
+	 *
+	 * @param maxIdleTime 最大アイドル時間(ミリ秒). 0以下の場合はアイドル時間によるクローズを行わない
+	 * @return {@link JdbcConnectionContext}
+	 */
+	public JdbcConnectionContext poolMaxIdleTime(final long maxIdleTime) {
+		put(PROPS_POOL_MAX_IDLE_TIME, maxIdleTime);
+		return this;
+	}
+
+	/**
+	 * コネクションプールの有効性検証タイムアウトの取得.
+	 *
+	 * @return 有効性検証タイムアウト(秒). 初期値は<code>5</code>
+	 */
+	public int poolValidationTimeout() {
+		return (int) getOrDefault(PROPS_POOL_VALIDATION_TIMEOUT, 5);
+	}
+
+	/**
+	 * コネクションプールの有効性検証タイムアウトの設定.
+	 *
+	 * @param validationTimeout 有効性検証タイムアウト(秒)
+	 * @return {@link JdbcConnectionContext}
+	 */
+	public JdbcConnectionContext poolValidationTimeout(final int validationTimeout) {
+		put(PROPS_POOL_VALIDATION_TIMEOUT, validationTimeout);
+		return this;
+	}
+
 	/**
 	 * JDBC接続時に渡すプロパティの取得
 	 *
@@ -182,6 +277,10 @@ public class JdbcConnectionContext extends ConnectionContext {
 					key != PROPS_JDBC_USER &&
 					key != PROPS_JDBC_PASSWORD &&
 					key != PROPS_JDBC_SCHEMA &&
+					key != PROPS_POOL_MAX_SIZE &&
+					key != PROPS_POOL_ACQUIRE_TIMEOUT &&
+					key != PROPS_POOL_MAX_IDLE_TIME &&
+					key != PROPS_POOL_VALIDATION_TIMEOUT &&
 					key != PROPS_AUTO_COMMIT &&
 					key != PROPS_READ_ONLY &&
 					key != PROPS_TRANSACTION_ISOLATION) {
@@ -0,0 +1,512 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.connection;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JDBCコネクションの簡易プール.<br>
+ * 取得したコネクションを{@link Connection#close()}すると物理的にはクローズせず、プールに戻して再利用する.
+ * 同時に払い出すコネクションの数は最大サイズまでとし、超えた場合は取得待ちのタイムアウトまで返却を待つ.
+ * 未使用のコネクションは排他制御を行わないキューで保持し、再利用前に{@link Connection#isValid(int)}で有効性を検証する.
+ * 最大アイドル時間を超えて使用されなかったコネクションは、コネクションの取得・返却時にクローズする.
+ * 利用中に変更されたスキーマ、カタログ、保持機能は返却時に変更前の値に戻し、次の利用者に引き継がない.
+ * 自動コミット、読み取り専用、トランザクション分離レベルは物理コネクションごとに最後に設定した値を保持し、
+ * 値の取得や同じ値の再設定ではドライバを呼び出さない. SQLで直接変更した状態は保持する値に反映されない.
+ */
+public class JdbcConnectionPool {
+	/** ロガー */
+	private static final Logger LOG = LoggerFactory.getLogger(JdbcConnectionPool.class);
+
+	/** 状態を保持するトランザクションの設定の取得メソッド名と設定メソッド名 */
+	private static final Map<String, String> TRANSACTION_STATE_GETTERS = new HashMap<>();
+
+	static {
+		TRANSACTION_STATE_GETTERS.put("getAutoCommit", "setAutoCommit");
+		TRANSACTION_STATE_GETTERS.put("isReadOnly", "setReadOnly");
+		TRANSACTION_STATE_GETTERS.put("getTransactionIsolation", "setTransactionIsolation");
+	}
+
+	/** 物理コネクションの生成処理 */
+	private final ConnectionCreator creator;
+
+	/** 最大サイズ */
+	private final int maxSize;
+
+	/** 取得待ちのタイムアウト(ミリ秒) */
+	private final long acquireTimeout;
+
+	/** 最大アイドル時間(ミリ秒) */
+	private final long maxIdleTime;
+
+	/** 有効性検証のタイムアウト(秒) */
+	private final int validationTimeout;
+
+	/** 払い出し可能なコネクションの数 */
+	private final Semaphore permits;
+
+	/** 未使用のコネクション. 先頭が直近に返却されたコネクション */
+	private final Deque<PooledConnection> idleConnections = new ConcurrentLinkedDeque<>();
+
+	/** 未使用のコネクションの数 */
+	private final AtomicInteger idleCount = new AtomicInteger();
+
+	/** 払い出し中のコネクションの数 */
+	private final AtomicInteger activeCount = new AtomicInteger();
+
+	/** 物理コネクションの生成数 */
+	private final LongAdder createdCount = new LongAdder();
+
+	/** 物理コネクションのクローズ数 */
+	private final LongAdder destroyedCount = new LongAdder();
+
+	/** コネクションの払い出し数 */
+	private final LongAdder borrowedCount = new LongAdder();
+
+	/** 取得待ちのタイムアウト数 */
+	private final LongAdder timeoutCount = new LongAdder();
+
+	/** プールがクローズされたかどうか */
+	private volatile boolean closed = false;
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param creator 物理コネクションの生成処理
+	 * @param maxSize 最大サイズ
+	 * @param acquireTimeout 取得待ちのタイムアウト(ミリ秒)
+	 * @param maxIdleTime 最大アイドル時間(ミリ秒). 0以下の場合はアイドル時間によるクローズを行わない
+	 * @param validationTimeout 有効性検証のタイムアウト(秒)
+	 */
+	public JdbcConnectionPool(final ConnectionCreator creator, final int maxSize, final long acquireTimeout,
+			final long maxIdleTime, final int validationTimeout) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSize must be greater than 0.");
+		}
+		this.creator = creator;
+		this.maxSize = maxSize;
+		this.acquireTimeout = acquireTimeout;
+		this.maxIdleTime = maxIdleTime;
+		this.validationTimeout = validationTimeout;
+		this.permits = new Semaphore(maxSize, true);
+	}
+
+	/**
+	 * コネクションを取得する. 未使用のコネクションがない場合は新たに生成する
+	 *
+	 * @return コネクション
+	 * @throws SQLException コネクションの取得に失敗した場合
+	 * @throws SQLTimeoutException 取得待ちのタイムアウトまでにコネクションが返却されなかった場合
+	 */
+	public Connection getConnection() throws SQLException {
+		if (closed) {
+			throw new SQLException("Connection pool is closed.");
+		}
+		try {
+			if (!permits.tryAcquire(acquireTimeout, TimeUnit.MILLISECONDS)) {
+				timeoutCount.increment();
+				throw new SQLTimeoutException("Connection is not available, request timed out after "
+						+ acquireTimeout + "ms.");
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted while waiting for a connection.", ex);
+		}
+
+		try {
+			PooledConnection pooled;
+			while ((pooled = idleConnections.pollFirst()) != null) {
+				idleCount.decrementAndGet();
+				if (isExpired(pooled, System.currentTimeMillis()) || !isValid(pooled)) {
+					destroy(pooled);
+					continue;
+				}
+				break;
+			}
+			if (pooled == null) {
+				pooled = new PooledConnection(creator.create());
+				createdCount.increment();
+			}
+			activeCount.incrementAndGet();
+			borrowedCount.increment();
+			return (Connection) Proxy.newProxyInstance(JdbcConnectionPool.class.getClassLoader(),
+					new Class<?>[] { Connection.class }, new ConnectionHandler(pooled));
+		} catch (SQLException | RuntimeException ex) {
+			permits.release();
+			throw ex;
+		}
+	}
+
+	/**
+	 * 利用を終えたコネクションをプールに戻す
+	 *
+	 * @param handler 利用を終えたコネクションのハンドラ
+	 */
+	private void release(final ConnectionHandler handler) {
+		PooledConnection pooled = handler.pooled;
+		try {
+			activeCount.decrementAndGet();
+			Connection conn = pooled.connection;
+			try {
+				if (closed || handler.discard || conn.isClosed()) {
+					destroy(pooled);
+					return;
+				}
+				// 確定されていない変更は破棄してから戻す
+				if (!conn.getAutoCommit()) {
+					conn.rollback();
+				}
+				conn.clearWarnings();
+				handler.restoreSettings();
+			} catch (SQLException | RuntimeException ex) {
+				destroy(pooled);
+				return;
+			}
+			long now = System.currentTimeMillis();
+			pooled.lastUsedTime = now;
+			idleConnections.offerFirst(pooled);
+			idleCount.incrementAndGet();
+			evictIdleConnections(now);
+		} finally {
+			permits.release();
+		}
+	}
+
+	/**
+	 * 最大アイドル時間を超えた未使用のコネクションをクローズする.<br>
+	 * 返却の古いコネクションは末尾に集まるため、末尾から順に判定する.
+	 *
+	 * @param now 現在時刻
+	 */
+	private void evictIdleConnections(final long now) {
+		PooledConnection pooled;
+		while ((pooled = idleConnections.peekLast()) != null && isExpired(pooled, now)) {
+			if (idleConnections.removeLastOccurrence(pooled)) {
+				idleCount.decrementAndGet();
+				destroy(pooled);
+			}
+		}
+	}
+
+	/**
+	 * 最大アイドル時間を超えたかどうかを判定する
+	 *
+	 * @param pooled コネクション
+	 * @param now 現在時刻
+	 * @return 最大アイドル時間を超えた場合<code>true</code>
+	 */
+	private boolean isExpired(final PooledConnection pooled, final long now) {
+		return maxIdleTime > 0 && now - pooled.lastUsedTime > maxIdleTime;
+	}
+
+	/**
+	 * コネクションが有効かどうかを検証する
+	 *
+	 * @param pooled コネクション
+	 * @return 有効な場合<code>true</code>
+	 */
+	private boolean isValid(final PooledConnection pooled) {
+		try {
+			return pooled.connection.isValid(validationTimeout);
+		} catch (SQLException ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * 物理コネクションを例外を発生させずにクローズする
+	 *
+	 * @param pooled コネクション
+	 */
+	private void destroy(final PooledConnection pooled) {
+		destroyedCount.increment();
+		try {
+			pooled.connection.close();
+		} catch (SQLException ex) {
+			LOG.warn("Failed to close the pooled connection.", ex);
+		}
+	}
+
+	/**
+	 * プールをクローズし、未使用のコネクションをすべてクローズする.<br>
+	 * 払い出し中のコネクションは返却された時点でクローズされる.
+	 */
+	public void close() {
+		closed = true;
+		PooledConnection pooled;
+		while ((pooled = idleConnections.pollFirst()) != null) {
+			idleCount.decrementAndGet();
+			destroy(pooled);
+		}
+	}
+
+	/**
+	 * プールがクローズされたかどうかを取得する
+	 *
+	 * @return クローズされた場合<code>true</code>
+	 */
+	public boolean isClosed() {
+		return closed;
+	}
+
+	/**
+	 * 最大サイズを取得する
+	 *
+	 * @return 最大サイズ
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * 未使用のコネクションの数を取得する
+	 *
+	 * @return 未使用のコネクションの数
+	 */
+	public int getIdleCount() {
+		return idleCount.get();
+	}
+
+	/**
+	 * 払い出し中のコネクションの数を取得する
+	 *
+	 * @return 払い出し中のコネクションの数
+	 */
+	public int getActiveCount() {
+		return activeCount.get();
+	}
+
+	/**
+	 * 物理コネクションの生成数を取得する
+	 *
+	 * @return 物理コネクションの生成数
+	 */
+	public long getCreatedCount() {
+		return createdCount.sum();
+	}
+
+	/**
+	 * 物理コネクションのクローズ数を取得する
+	 *
+	 * @return 物理コネクションのクローズ数
+	 */
+	public long getDestroyedCount() {
+		return destroyedCount.sum();
+	}
+
+	/**
+	 * コネクションの払い出し数を取得する
+	 *
+	 * @return コネクションの払い出し数
+	 */
+	public long getBorrowedCount() {
+		return borrowedCount.sum();
+	}
+
+	/**
+	 * 取得待ちのタイムアウト数を取得する
+	 *
+	 * @return 取得待ちのタイムアウト数
+	 */
+	public long getTimeoutCount() {
+		return timeoutCount.sum();
+	}
+
+	/**
+	 * 物理コネクションの生成処理
+	 */
+	@FunctionalInterface
+	public interface ConnectionCreator {
+		/**
+		 * 物理コネクションを生成する
+		 *
+		 * @return コネクション
+		 * @throws SQLException SQL例外
+		 */
+		Connection create() throws SQLException;
+	}
+
+	/**
+	 * プールで管理する物理コネクション
+	 */
+	private static final class PooledConnection {
+		/** 物理コネクション */
+		private final Connection connection;
+		/** 最後に返却された時刻 */
+		private volatile long lastUsedTime = System.currentTimeMillis();
+		/** 最後に設定または取得したトランザクションの状態. 設定メソッド名をキーとする */
+		private final Map<String, Object> transactionStates = new HashMap<>();
+
+		PooledConnection(final Connection connection) {
+			this.connection = connection;
+		}
+	}
+
+	/**
+	 * プールから払い出したコネクションのハンドラ.<br>
+	 * closeの呼び出しでプールに戻し、以降の呼び出しはクローズ済みとして扱う.
+	 */
+	private final class ConnectionHandler implements InvocationHandler {
+		/** 払い出したコネクション */
+		private final PooledConnection pooled;
+		/** クローズ済みかどうか */
+		private boolean closed = false;
+		/** 変更前のセッションの設定値. 設定メソッド名をキーとし、変更がない場合は<code>null</code> */
+		private Map<String, Object> originalSettings = null;
+		/** 変更前の値に戻せない設定を変更したかどうか */
+		private boolean discard = false;
+
+		ConnectionHandler(final PooledConnection pooled) {
+			this.pooled = pooled;
+		}
+
+		@Override
+		public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+			String name = method.getName();
+			int argCount = args == null ? 0 : args.length;
+			if ("close".equals(name) && argCount == 0) {
+				if (!closed) {
+					closed = true;
+					release(this);
+				}
+				return null;
+			} else if ("isClosed".equals(name) && argCount == 0) {
+				return closed || pooled.connection.isClosed();
+			} else if ("equals".equals(name) && argCount == 1) {
+				return proxy == args[0];
+			} else if ("hashCode".equals(name) && argCount == 0) {
+				return System.identityHashCode(proxy);
+			} else if ("toString".equals(name) && argCount == 0) {
+				return pooled.connection.toString();
+			}
+
+			if (closed) {
+				throw new SQLException("Connection is closed.");
+			}
+			String stateName = TRANSACTION_STATE_GETTERS.get(name);
+			if (stateName != null && argCount == 0) {
+				// 最後に設定または取得した状態が分かっている場合はドライバに問い合わせない
+				Object state = pooled.transactionStates.get(stateName);
+				if (state == null) {
+					state = invokeConnection(method, args);
+					pooled.transactionStates.put(stateName, state);
+				}
+				return state;
+			} else if (TRANSACTION_STATE_GETTERS.containsValue(name) && argCount == 1) {
+				// 現在の状態と同じ値の設定は省略する
+				if (args[0].equals(pooled.transactionStates.get(name))) {
+					return null;
+				}
+				pooled.transactionStates.remove(name);
+				invokeConnection(method, args);
+				pooled.transactionStates.put(name, args[0]);
+				return null;
+			}
+			if (argCount == 1) {
+				saveSetting(name);
+			}
+			return invokeConnection(method, args);
+		}
+
+		/**
+		 * 物理コネクションのメソッドを呼び出す
+		 *
+		 * @param method メソッド
+		 * @param args 引数
+		 * @return 戻り値
+		 * @throws Throwable 呼び出したメソッドがスローした例外
+		 */
+		private Object invokeConnection(final Method method, final Object[] args) throws Throwable {
+			try {
+				return method.invoke(pooled.connection, args);
+			} catch (InvocationTargetException ex) {
+				throw ex.getCause();
+			}
+		}
+
+		/**
+		 * セッションの設定を変更するメソッドの場合は変更前の値を保持する. 同じ設定の2回目以降の変更では保持しない
+		 *
+		 * @param name 呼び出すメソッド名
+		 */
+		private void saveSetting(final String name) {
+			if (originalSettings != null && originalSettings.containsKey(name)) {
+				return;
+			}
+			Connection conn = pooled.connection;
+			Object value;
+			try {
+				switch (name) {
+				case "setCatalog":
+					value = conn.getCatalog();
+					break;
+				case "setSchema":
+					value = conn.getSchema();
+					break;
+				case "setHoldability":
+					value = conn.getHoldability();
+					break;
+				default:
+					return;
+				}
+			} catch (SQLException | RuntimeException ex) {
+				discard = true;
+				return;
+			}
+			if (value == null) {
+				// 変更前の値に戻せないため、返却時にクローズする
+				discard = true;
+				return;
+			}
+			if (originalSettings == null) {
+				originalSettings = new HashMap<>();
+			}
+			originalSettings.put(name, value);
+		}
+
+		/**
+		 * 利用中に変更されたセッションの設定を変更前の値に戻す. カタログの変更でスキーマが変わる場合があるため、カタログから戻す
+		 *
+		 * @throws SQLException SQL例外
+		 */
+		private void restoreSettings() throws SQLException {
+			if (originalSettings == null) {
+				return;
+			}
+			Connection conn = pooled.connection;
+			String catalog = (String) originalSettings.get("setCatalog");
+			if (catalog != null && !catalog.equals(conn.getCatalog())) {
+				conn.setCatalog(catalog);
+			}
+			String schema = (String) originalSettings.get("setSchema");
+			if (schema != null && !schema.equals(conn.getSchema())) {
+				conn.setSchema(schema);
+			}
+			Integer holdability = (Integer) originalSettings.get("setHoldability");
+			if (holdability != null && holdability != conn.getHoldability()) {
+				conn.setHoldability(holdability);
+			}
+		}
+	}
+}
@@ -6,16 +6,30 @@
  */
 package jp.co.future.uroborosql.connection;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
-import java.util.Objects;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jp.co.future.uroborosql.exception.UroborosqlSQLException;
+import jp.co.future.uroborosql.jfr.ConnectionAcquireEvent;
 
 /**
  * JDBCドライバーを使用したコネクション供給クラス<br>
- * 指定されたプロパティをもとにコネクションを都度生成する
+ * 指定されたプロパティをもとにコネクションを都度生成する.
+ * {@link JdbcConnectionContext#maxPoolSize(int)}を指定した場合は、接続先とプールの設定の組み合わせごとの{@link JdbcConnectionPool}からコネクションを取得する.
+ * 接続先が同じでもプールの設定が異なる場合は別のプールとなる.
  *
  * @author H.Sugimoto
  */
@@ -24,6 +38,12 @@ public class JdbcConnectionSupplierImpl implements ConnectionSupplier {
 	/** デフォルトDB接続情報 */
 	private final JdbcConnectionContext defaultConnectionContext;
 
+	/** 接続先とプールの設定の組み合わせごとのコネクションプール */
+	private final Map<List<Object>, JdbcConnectionPool> pools = new ConcurrentHashMap<>();
+
+	/** 接続先ごとの新規コネクションの初期スキーマ */
+	private final Map<List<Object>, String> initialSchemas = new ConcurrentHashMap<>();
+
 	/**
 	 * コンストラクタ
 	 *
@@ -96,22 +116,123 @@ public class JdbcConnectionSupplierImpl implements ConnectionSupplier {
 			throw new IllegalArgumentException("ctx must be of type JdbcConnectionContext.");
 		}
 		JdbcConnectionContext jdbcCtx = (JdbcConnectionContext) ctx;
+		ConnectionAcquireEvent event = new ConnectionAcquireEvent();
+		event.begin();
 		try {
-			Connection connection = DriverManager.getConnection(jdbcCtx.url(), jdbcCtx.toProperties());
-
+			String url = jdbcCtx.url();
+			Properties props = jdbcCtx.toProperties();
 			String schema = jdbcCtx.schema();
-			if (schema != null && !Objects.equals(connection.getSchema(), schema)) {
-				connection.setSchema(schema);
-			}
-			connection.setAutoCommit(jdbcCtx.autoCommit());
-			connection.setReadOnly(jdbcCtx.readOnly());
-			int transactionIsolation = jdbcCtx.transactionIsolation();
-			if (transactionIsolation > 0) {
-				connection.setTransactionIsolation(transactionIsolation);
+			Connection connection;
+			int maxPoolSize = jdbcCtx.maxPoolSize();
+			if (maxPoolSize > 0) {
+				long acquireTimeout = jdbcCtx.poolAcquireTimeout();
+				long maxIdleTime = jdbcCtx.poolMaxIdleTime();
+				int validationTimeout = jdbcCtx.poolValidationTimeout();
+				List<Object> connectionKey = createConnectionKey(url, props);
+				JdbcConnectionPool pool = pools.computeIfAbsent(
+						Arrays.asList(connectionKey, schema, maxPoolSize, acquireTimeout, maxIdleTime,
+								validationTimeout),
+						k -> new JdbcConnectionPool(() -> createConnection(url, props, schema, connectionKey),
+								maxPoolSize, acquireTimeout, maxIdleTime, validationTimeout));
+				connection = pool.getConnection();
+			} else {
+				connection = createConnection(url, props, schema, null);
 			}
+			ConnectionStateUtils.applyIfChanged(connection, jdbcCtx);
 			return connection;
 		} catch (SQLException ex) {
 			throw new UroborosqlSQLException("Connection[" + jdbcCtx.url() + "] can not be acquired.", ex);
+		} finally {
+			if (event.shouldCommit()) {
+				event.setSchema(jdbcCtx.schema());
+				event.setPooled(jdbcCtx.maxPoolSize() > 0);
+				event.commit();
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * コネクションは呼び出し毎に新規に生成するか、コネクションプールから未確定の変更をロールバックした状態で払い出す.
+	 *
+	 * @see jp.co.future.uroborosql.connection.ConnectionSupplier#isExclusiveConnection()
+	 */
+	@Override
+	public boolean isExclusiveConnection() {
+		return true;
+	}
+
+	/**
+	 * 接続先を識別するキーを生成する. パスワードはキーに平文で保持せず、ハッシュ値に置き換える
+	 *
+	 * @param url JDBC URL
+	 * @param props JDBC接続時に渡すプロパティ
+	 * @return 接続先を識別するキー
+	 */
+	private static List<Object> createConnectionKey(final String url, final Properties props) {
+		Properties keyProps = new Properties();
+		keyProps.putAll(props);
+		Object password = keyProps.remove("password");
+		String passwordHash = null;
+		if (password != null) {
+			try {
+				passwordHash = Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256")
+						.digest(password.toString().getBytes(StandardCharsets.UTF_8)));
+			} catch (NoSuchAlgorithmException ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+		return Arrays.asList(url, keyProps, passwordHash);
+	}
+
+	/**
+	 * 物理コネクションを生成し、スキーマを設定する
+	 *
+	 * @param url JDBC URL
+	 * @param props JDBC接続時に渡すプロパティ
+	 * @param schema スキーマ名. 設定しない場合は<code>null</code>
+	 * @param connectionKey 接続先を識別するキー. <code>null</code>の場合はスキーマを設定する際に生成する
+	 * @return コネクション
+	 * @throws SQLException SQL例外
+	 */
+	private Connection createConnection(final String url, final Properties props, final String schema,
+			final List<Object> connectionKey) throws SQLException {
+		Connection connection = DriverManager.getConnection(url, props);
+		if (schema != null) {
+			// 同じ接続先から取得した新規コネクションの初期スキーマは同じになるため、2回目以降はスキーマの取得を省略する
+			List<Object> key = connectionKey != null ? connectionKey : createConnectionKey(url, props);
+			String initialSchema = initialSchemas.get(key);
+			if (initialSchema == null) {
+				initialSchema = connection.getSchema();
+				if (initialSchema != null) {
+					initialSchemas.putIfAbsent(key, initialSchema);
+				}
+			}
+			if (!schema.equals(initialSchema)) {
+				connection.setSchema(schema);
+			}
+		}
+		return connection;
+	}
+
+	/**
+	 * 生成したコネクションプールを取得する
+	 *
+	 * @return コネクションプールのコレクション. コネクションプールを利用しない場合は空
+	 */
+	public Collection<JdbcConnectionPool> getConnectionPools() {
+		return Collections.unmodifiableCollection(pools.values());
+	}
+
+	/**
+	 * 生成したコネクションプールをすべてクローズする.<br>
+	 * 以降のコネクション取得時には新たにコネクションプールを生成する.
+	 */
+	public void closeConnectionPools() {
+		for (Iterator<JdbcConnectionPool> it = pools.values().iterator(); it.hasNext();) {
+			JdbcConnectionPool pool = it.next();
+			it.remove();
+			pool.close();
 		}
 	}
 
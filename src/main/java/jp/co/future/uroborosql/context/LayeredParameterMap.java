@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.context;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import jp.co.future.uroborosql.parameter.Parameter;
+
+/**
+ * 共有される定数パラメータマップの上に、SQLコンテキスト固有のパラメータを重ねた読み取り専用のMap.<br>
+ * 同じキーが存在する場合は上に重ねたパラメータを優先する. 定数パラメータマップはコピーせずに参照する.
+ */
+final class LayeredParameterMap extends AbstractMap<String, Parameter> {
+	/** 共有される定数パラメータマップ */
+	private final Map<String, Parameter> base;
+
+	/** 上に重ねるパラメータマップ */
+	private final Map<String, Parameter> overlay;
+
+	/** 要素の集合. 必要になった時点で生成する */
+	private Set<Entry<String, Parameter>> entrySet;
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param base 共有される定数パラメータマップ
+	 * @param overlay 上に重ねるパラメータマップ
+	 */
+	LayeredParameterMap(final Map<String, Parameter> base, final Map<String, Parameter> overlay) {
+		this.base = base;
+		this.overlay = overlay;
+	}
+
+	@Override
+	public Parameter get(final Object key) {
+		Parameter param = overlay.get(key);
+		return param != null ? param : base.get(key);
+	}
+
+	@Override
+	public boolean containsKey(final Object key) {
+		return overlay.containsKey(key) || base.containsKey(key);
+	}
+
+	@Override
+	public Set<Entry<String, Parameter>> entrySet() {
+		if (entrySet == null) {
+			Map<String, Parameter> merged = new HashMap<>(base);
+			merged.putAll(overlay);
+			entrySet = Collections.unmodifiableMap(merged).entrySet();
+		}
+		return entrySet;
+	}
+}
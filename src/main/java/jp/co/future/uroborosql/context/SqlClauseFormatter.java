@@ -0,0 +1,244 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.context;
+
+/**
+ * 実行時SQLの整形処理.<br>
+ * SQLを先頭から1度だけ走査し、句の構造に基づいて以下の除去を行う.
+ * <ul>
+ * <li>WHERE句の直後に来るANDやOR</li>
+ * <li>SELECT, ORDER BY, GROUP BY, SET句および開き括弧の直後に来るカンマ</li>
+ * <li>空白のみの行</li>
+ * </ul>
+ * 句と除去対象の間の空白やコメントは無視する. 文字列リテラル内の文字は除去の対象としない.
+ */
+final class SqlClauseFormatter {
+	/** 直前の句の種類 : 除去対象となる句の直後ではない */
+	private static final int STATE_NONE = 0;
+	/** 直前の句の種類 : WHERE句の直後 */
+	private static final int STATE_WHERE = 1;
+	/** 直前の句の種類 : カンマで始まる要素の並びが続く句の直後 */
+	private static final int STATE_LIST = 2;
+
+	private SqlClauseFormatter() {
+	}
+
+	/**
+	 * SQLを整形する
+	 *
+	 * @param sql 整形対象のSQL
+	 * @return 整形後のSQL
+	 */
+	static String format(final String sql) {
+		return removeBlankLines(removeDanglingTokens(sql));
+	}
+
+	/**
+	 * 句の直後に来る不要なAND/ORとカンマを除去する
+	 *
+	 * @param sql 対象のSQL
+	 * @return 除去後のSQL
+	 */
+	private static String removeDanglingTokens(final String sql) {
+		int length = sql.length();
+		StringBuilder builder = new StringBuilder(length);
+		int state = STATE_NONE;
+		// 直前のトークンが空白に続くORDERまたはGROUPであるかどうか
+		boolean orderOrGroup = false;
+		int pos = 0;
+		while (pos < length) {
+			char c = sql.charAt(pos);
+			int end;
+			if (isSpace(c)) {
+				builder.append(c);
+				pos++;
+				continue;
+			} else if (sql.startsWith("--", pos)) {
+				end = indexOfLineBreak(sql, pos);
+				orderOrGroup = false;
+			} else if (sql.startsWith("/*", pos)) {
+				int close = sql.indexOf("*/", pos + 2);
+				end = close < 0 ? length : close + 2;
+				orderOrGroup = false;
+			} else if (c == '\'' || c == '"') {
+				end = skipQuoted(sql, pos, c);
+				state = STATE_NONE;
+				orderOrGroup = false;
+			} else if (c == '(') {
+				end = pos + 1;
+				state = STATE_LIST;
+				orderOrGroup = false;
+			} else if (c == ',') {
+				if (state == STATE_LIST) {
+					pos++;
+				} else {
+					builder.append(c);
+					pos++;
+				}
+				state = STATE_NONE;
+				orderOrGroup = false;
+				continue;
+			} else {
+				end = skipWord(sql, pos);
+				boolean precededBySpace = pos == 0 || isSpace(sql.charAt(pos - 1));
+				boolean followedBySpace = end < length && isSpace(sql.charAt(end));
+				if (state == STATE_WHERE && followedBySpace && isWord(sql, pos, end, "AND", "OR")) {
+					// ANDやORとその後に続く空白を除去する
+					pos = end;
+					while (pos < length && isSpace(sql.charAt(pos))) {
+						pos++;
+					}
+					state = STATE_NONE;
+					orderOrGroup = false;
+					continue;
+				}
+				state = STATE_NONE;
+				if (precededBySpace && followedBySpace) {
+					if (isWord(sql, pos, end, "WHERE")) {
+						state = STATE_WHERE;
+					} else if (isWord(sql, pos, end, "SELECT", "SET") || orderOrGroup && isWord(sql, pos, end, "BY")) {
+						state = STATE_LIST;
+					}
+				}
+				orderOrGroup = precededBySpace && followedBySpace && isWord(sql, pos, end, "ORDER", "GROUP");
+			}
+			builder.append(sql, pos, end);
+			pos = end;
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * 空白のみの行を除去する
+	 *
+	 * @param sql 対象のSQL
+	 * @return 除去後のSQL
+	 */
+	private static String removeBlankLines(final String sql) {
+		int length = sql.length();
+		StringBuilder builder = new StringBuilder(length);
+		int pos = 0;
+		while (pos < length) {
+			// 行頭から続く空白の中で最後の改行までを除去する
+			int lineBreakEnd = -1;
+			for (int i = pos; i < length && isSpace(sql.charAt(i)); i++) {
+				char c = sql.charAt(i);
+				if (c == '\n') {
+					lineBreakEnd = i + 1;
+				} else if (c == '\r') {
+					if (i + 1 < length && sql.charAt(i + 1) == '\n') {
+						i++;
+					}
+					lineBreakEnd = i + 1;
+				}
+			}
+			if (lineBreakEnd >= 0) {
+				pos = lineBreakEnd;
+			}
+			// 次の行頭までを出力する
+			int end = indexOfLineBreak(sql, pos);
+			if (end < length) {
+				end += sql.startsWith("\r\n", end) ? 2 : 1;
+			}
+			builder.append(sql, pos, end);
+			pos = end;
+		}
+		return builder.length() == length ? sql : builder.toString();
+	}
+
+	/**
+	 * 正規表現の<code>\s</code>に該当する空白文字かどうかを判定する
+	 *
+	 * @param c 文字
+	 * @return 空白文字の場合<code>true</code>
+	 */
+	private static boolean isSpace(final char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == '\u000B';
+	}
+
+	/**
+	 * 指定位置以降の最初の改行文字の位置を取得する
+	 *
+	 * @param sql SQL
+	 * @param from 開始位置
+	 * @return 改行文字の位置. 改行文字がない場合はSQLの長さ
+	 */
+	private static int indexOfLineBreak(final String sql, final int from) {
+		int length = sql.length();
+		for (int i = from; i < length; i++) {
+			char c = sql.charAt(i);
+			if (c == '\n' || c == '\r') {
+				return i;
+			}
+		}
+		return length;
+	}
+
+	/**
+	 * 引用符で囲まれた範囲の終了位置を取得する. 引用符の連続はエスケープとして扱う
+	 *
+	 * @param sql SQL
+	 * @param start 開始引用符の位置
+	 * @param quote 引用符
+	 * @return 終了引用符の次の位置. 終了引用符がない場合はSQLの長さ
+	 */
+	private static int skipQuoted(final String sql, final int start, final char quote) {
+		int length = sql.length();
+		int pos = start + 1;
+		while (pos < length) {
+			if (sql.charAt(pos) == quote) {
+				if (pos + 1 < length && sql.charAt(pos + 1) == quote) {
+					pos += 2;
+					continue;
+				}
+				return pos + 1;
+			}
+			pos++;
+		}
+		return length;
+	}
+
+	/**
+	 * 単語の終了位置を取得する
+	 *
+	 * @param sql SQL
+	 * @param start 単語の開始位置
+	 * @return 単語の終了位置
+	 */
+	private static int skipWord(final String sql, final int start) {
+		int length = sql.length();
+		int pos = start + 1;
+		while (pos < length) {
+			char c = sql.charAt(pos);
+			if (isSpace(c) || c == '(' || c == ')' || c == ',' || c == '\'' || c == '"'
+					|| sql.startsWith("--", pos) || sql.startsWith("/*", pos)) {
+				break;
+			}
+			pos++;
+		}
+		return pos;
+	}
+
+	/**
+	 * 指定範囲の単語がいずれかのキーワードと一致するかどうかを大文字小文字を区別せずに判定する
+	 *
+	 * @param sql SQL
+	 * @param start 単語の開始位置
+	 * @param end 単語の終了位置
+	 * @param keywords キーワード
+	 * @return 一致する場合<code>true</code>
+	 */
+	private static boolean isWord(final String sql, final int start, final int end, final String... keywords) {
+		int wordLength = end - start;
+		for (String keyword : keywords) {
+			if (keyword.length() == wordLength && sql.regionMatches(true, start, keyword, 0, wordLength)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -25,6 +25,12 @@ public interface SqlContextFactory extends SqlConfigAware {
 	/** BEAN名 */
 	String FACTORY_BEAN_NAME = "sqlContextFactory";
 
+	/** IN句のパディング : パディングしない */
+	int IN_LIST_PADDING_NONE = 0;
+
+	/** IN句のパディング : 要素数を2のべき乗に揃える */
+	int IN_LIST_PADDING_POWER_OF_TWO = -1;
+
 	/**
 	 * 初期化処理.
 	 */
@@ -195,4 +201,62 @@ public interface SqlContextFactory extends SqlConfigAware {
 	 */
 	SqlContextFactory setDefaultResultSetConcurrency(int resultSetConcurrency);
 
+	/**
+	 * 正規表現を用いてSQLを整形するかどうかを取得.
+	 *
+	 * @return 正規表現を用いてSQLを整形する場合<code>true</code>
+	 */
+	boolean isRegexSqlFormat();
+
+	/**
+	 * 正規表現を用いてSQLを整形するかどうかを指定.<br>
+	 * 指定しない場合はSQLの構造に基づいて整形する. 従来の整形結果と互換性を保つ必要がある場合に<code>true</code>を指定する.
+	 *
+	 * @param regexSqlFormat 正規表現を用いてSQLを整形する場合<code>true</code>
+	 * @return SqlContextFactory
+	 */
+	SqlContextFactory setRegexSqlFormat(boolean regexSqlFormat);
+
+	/**
+	 * IN句のパディング単位を取得.
+	 *
+	 * @return IN句のパディング単位
+	 */
+	int getInListPaddingStep();
+
+	/**
+	 * IN句のパディング単位を指定.<br>
+	 * IN句にバインドするリストの要素数を、最後の要素を繰り返して指定した単位に揃える.
+	 * 要素数ごとに異なるSQLが生成されることを防ぎ、PreparedStatementや実行計画のキャッシュを効きやすくする.
+	 * パディング後の要素数は1000を超えない.
+	 * <ul>
+	 * <li>{@link #IN_LIST_PADDING_NONE} : パディングしない(初期値)</li>
+	 * <li>{@link #IN_LIST_PADDING_POWER_OF_TWO} : 2のべき乗に揃える</li>
+	 * <li>正の値 : 指定した値の倍数に揃える</li>
+	 * </ul>
+	 *
+	 * @param inListPaddingStep IN句のパディング単位
+	 * @return SqlContextFactory
+	 */
+	SqlContextFactory setInListPaddingStep(int inListPaddingStep);
+
+	/**
+	 * IN句を配列パラメータとしてバインドする要素数の閾値を取得.
+	 *
+	 * @return IN句を配列パラメータとしてバインドする要素数の閾値
+	 */
+	int getInListArrayBindThreshold();
+
+	/**
+	 * IN句を配列パラメータとしてバインドする要素数の閾値を指定.<br>
+	 * {@link jp.co.future.uroborosql.dialect.Dialect#supportsArrayInClause()}が<code>true</code>のDBで、
+	 * IN句にバインドするリストの要素数が閾値以上の場合に<code>col IN /*list*&#47;()</code>を<code>col = ANY(?)</code>に変換し、
+	 * 1つの配列パラメータとしてバインドする. NOT INや要素の型が混在する場合は変換しない.
+	 * 0以下を指定した場合は変換しない(初期値).
+	 *
+	 * @param inListArrayBindThreshold 配列パラメータとしてバインドする要素数の閾値
+	 * @return SqlContextFactory
+	 */
+	SqlContextFactory setInListArrayBindThreshold(int inListArrayBindThreshold);
+
 }
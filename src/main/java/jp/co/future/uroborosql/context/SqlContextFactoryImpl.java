@@ -27,7 +27,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
@@ -88,6 +87,15 @@ public class SqlContextFactoryImpl implements SqlContextFactory {
 	/** ResultSetConcurrencyの初期値*/
 	private int defaultResultSetConcurrency = ResultSet.CONCUR_READ_ONLY;
 
+	/** 正規表現を用いてSQLを整形するかどうか */
+	private boolean regexSqlFormat = false;
+
+	/** IN句のパディング単位 */
+	private int inListPaddingStep = IN_LIST_PADDING_NONE;
+
+	/** IN句を配列パラメータとしてバインドする要素数の閾値 */
+	private int inListArrayBindThreshold = 0;
+
 	/** パラメータ変換マネージャ */
 	private BindParameterMapperManager parameterMapperManager = new BindParameterMapperManager(
 			Clock.systemDefaultZone());
@@ -100,26 +108,40 @@ public class SqlContextFactoryImpl implements SqlContextFactory {
 	@Override
 	public SqlContext createSqlContext() {
 		SqlContextImpl sqlContext = new SqlContextImpl();
-		Map<String, Parameter> paramMap = new ConcurrentHashMap<>(getConstParameterMap());
+		// 定数パラメータマップは全SQLコンテキストで共有し(変更時にコピー)、自動バインド用パラメータがある場合のみ上に重ねる
+		Map<String, Parameter> paramMap = getConstParameterMap();
 
 		// 自動バインド用パラメータ生成クラスが指定されている場合は、そこで生成されたパラメータをパラメータマップに追加する
 		if (autoBindParameterCreators != null && !autoBindParameterCreators.isEmpty()) {
+			Map<String, Parameter> autoBindMap = null;
 			for (AutoBindParameterCreator creator : getAutoBindParameterCreators()) {
 				Map<String, Parameter> bindMap = creator.getBindParameterMap();
 				if (bindMap != null && !bindMap.isEmpty()) {
-					paramMap.putAll(bindMap);
+					if (autoBindMap == null) {
+						autoBindMap = new HashMap<>();
+					}
+					autoBindMap.putAll(bindMap);
 				}
 			}
+			if (autoBindMap != null) {
+				paramMap = new LayeredParameterMap(paramMap, autoBindMap);
+			}
 		}
 
-		sqlContext.setConstParameterMap(paramMap);
+		sqlContext.setSharedConstParameterMap(paramMap);
 		sqlContext.setSqlFilterManager(getSqlConfig().getSqlFilterManager());
-		sqlContext.setParameterMapperManager(
-				new BindParameterMapperManager(parameterMapperManager, getSqlConfig().getClock()));
+		// パラメータ変換マネージャは共有し、SQLコンテキストで変更する場合にのみコピーする
+		sqlContext.setSharedParameterMapperManager(parameterMapperManager);
 		sqlContext.setQueryAutoParameterBinder(queryAutoParameterBinder);
 		sqlContext.setUpdateAutoParameterBinder(updateAutoParameterBinder);
 		sqlContext.setResultSetType(defaultResultSetType);
 		sqlContext.setResultSetConcurrency(defaultResultSetConcurrency);
+		sqlContext.setRegexSqlFormat(regexSqlFormat);
+		sqlContext.setInListPaddingStep(inListPaddingStep);
+		if (inListArrayBindThreshold > 0 && getSqlConfig().getDialect().supportsArrayInClause()) {
+			sqlContext.setInListArrayBindThreshold(inListArrayBindThreshold);
+			sqlContext.setDialect(getSqlConfig().getDialect());
+		}
 
 		return sqlContext;
 	}
@@ -591,4 +613,67 @@ public class SqlContextFactoryImpl implements SqlContextFactory {
 		return this;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.context.SqlContextFactory#isRegexSqlFormat()
+	 */
+	@Override
+	public boolean isRegexSqlFormat() {
+		return regexSqlFormat;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.context.SqlContextFactory#setRegexSqlFormat(boolean)
+	 */
+	@Override
+	public SqlContextFactory setRegexSqlFormat(final boolean regexSqlFormat) {
+		this.regexSqlFormat = regexSqlFormat;
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.context.SqlContextFactory#getInListPaddingStep()
+	 */
+	@Override
+	public int getInListPaddingStep() {
+		return inListPaddingStep;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.context.SqlContextFactory#setInListPaddingStep(int)
+	 */
+	@Override
+	public SqlContextFactory setInListPaddingStep(final int inListPaddingStep) {
+		this.inListPaddingStep = inListPaddingStep;
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.context.SqlContextFactory#getInListArrayBindThreshold()
+	 */
+	@Override
+	public int getInListArrayBindThreshold() {
+		return inListArrayBindThreshold;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.context.SqlContextFactory#setInListArrayBindThreshold(int)
+	 */
+	@Override
+	public SqlContextFactory setInListArrayBindThreshold(final int inListArrayBindThreshold) {
+		this.inListArrayBindThreshold = inListArrayBindThreshold;
+		return this;
+	}
+
 }
@@ -8,7 +8,9 @@ package jp.co.future.uroborosql.context;
 
 import java.io.InputStream;
 import java.io.Reader;
+import java.lang.reflect.Array;
 import java.sql.CallableStatement;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -24,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
@@ -32,6 +35,7 @@ import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jp.co.future.uroborosql.dialect.Dialect;
 import jp.co.future.uroborosql.enums.SqlKind;
 import jp.co.future.uroborosql.exception.ParameterNotFoundRuntimeException;
 import jp.co.future.uroborosql.filter.SqlFilterManager;
@@ -42,6 +46,8 @@ import jp.co.future.uroborosql.parameter.Parameter;
 import jp.co.future.uroborosql.parameter.ReaderParameter;
 import jp.co.future.uroborosql.parameter.StreamParameter;
 import jp.co.future.uroborosql.parameter.mapper.BindParameterMapperManager;
+import jp.co.future.uroborosql.parameter.mapper.JdbcParameterFactory;
+import jp.co.future.uroborosql.parser.SqlShape;
 import jp.co.future.uroborosql.parser.TransformContext;
 import jp.co.future.uroborosql.utils.BeanAccessor;
 import jp.co.future.uroborosql.utils.StringUtils;
@@ -73,6 +79,82 @@ public class SqlContextImpl implements SqlContext {
 		}
 	}
 
+	/**
+	 * バッチ処理用のバインド計画.<br>
+	 * バインド対象パラメータ名の解析(プロパティ参照の分割など)を1度だけ行い、各行ではパラメータの取得のみを行う.
+	 */
+	private static final class BindPlan {
+		/** バインド対象パラメータ名 */
+		private final String[] names;
+		/** パラメータMapのキー */
+		private final String[] baseNames;
+		/** プロパティ名. プロパティ参照でない場合は<code>null</code> */
+		private final String[] propertyNames;
+		/** 定数パラメータMapのキー */
+		private final String[] constNames;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param bindNames バインド対象パラメータ名リスト
+		 */
+		BindPlan(final List<String> bindNames) {
+			int size = bindNames.size();
+			this.names = bindNames.toArray(new String[size]);
+			this.baseNames = new String[size];
+			this.propertyNames = new String[size];
+			this.constNames = new String[size];
+			for (int i = 0; i < size; i++) {
+				String name = names[i];
+				constNames[i] = name.toUpperCase();
+				if (name.contains(".") && name.contains("(") && name.contains(")")) {
+					// メソッド呼び出しの場合はそのままのキーで取得する
+					baseNames[i] = name;
+				} else {
+					String[] keys = name.split("\\.");
+					baseNames[i] = keys[0];
+					propertyNames[i] = keys.length > 1 ? keys[1] : null;
+				}
+			}
+		}
+
+		/**
+		 * バインド対象パラメータ数を取得する
+		 *
+		 * @return バインド対象パラメータ数
+		 */
+		int size() {
+			return names.length;
+		}
+
+		/**
+		 * 指定した位置のパラメータを取得する
+		 *
+		 * @param index 位置
+		 * @param paramMap パラメータMap
+		 * @param constParams 定数パラメータMap
+		 * @return パラメータ. 存在しない場合は<code>null</code>
+		 */
+		Parameter resolve(final int index, final Map<String, Parameter> paramMap,
+				final Map<String, Parameter> constParams) {
+			Parameter param = paramMap.get(baseNames[index]);
+			if (param != null) {
+				return propertyNames[index] != null ? param.createSubParameter(propertyNames[index]) : param;
+			}
+			return constParams != null ? constParams.get(constNames[index]) : null;
+		}
+
+		/**
+		 * 指定した位置のパラメータ名を取得する
+		 *
+		 * @param index 位置
+		 * @return パラメータ名
+		 */
+		String getName(final int index) {
+			return names[index];
+		}
+	}
+
 	/** where句の直後にくるANDやORを除外するための正規表現 */
 	protected static final Pattern WHERE_CLAUSE_PATTERN = Pattern
 			.compile("(?i)(?<clause>(^|\\s+)(WHERE\\s+(--.*|/\\*.*\\*/\\s*)*\\s*))(AND\\s+|OR\\s+)");
@@ -87,6 +169,8 @@ public class SqlContextImpl implements SqlContext {
 	/** ロガー */
 	private static final Logger LOG = LoggerFactory.getLogger(SqlContextImpl.class);
 
+	/** IN句のパディング後の最大要素数 */
+	private static final int IN_LIST_PADDING_MAX_SIZE = 1000;
 	/** SQL名 */
 	private String sqlName;
 
@@ -99,6 +183,24 @@ public class SqlContextImpl implements SqlContext {
 	/** 変換後のSQL文字列をキャッシュしたもの。 */
 	private String executableSqlCache = "";
 
+	/** 正規表現を用いてSQLを整形するかどうか */
+	private boolean regexSqlFormat = false;
+
+	/** IN句のパディング単位 */
+	private int inListPaddingStep = SqlContextFactory.IN_LIST_PADDING_NONE;
+
+	/** パディングしたIN句の要素数. バインド変数名の位置をキーとする */
+	private Map<Integer, Integer> paddedInListSizes = null;
+
+	/** IN句を配列パラメータとしてバインドする要素数の閾値. 0以下の場合は配列パラメータとしてバインドしない */
+	private int inListArrayBindThreshold = 0;
+
+	/** IN句を配列パラメータとしてバインドする場合に配列要素の型名を決定するDialect */
+	private Dialect dialect = null;
+
+	/** 配列パラメータとしてバインドする配列要素の型名. バインド変数名の位置をキーとする */
+	private Map<Integer, String> arrayBindTypeNames = null;
+
 	/** SQL文の識別子 */
 	private String sqlId;
 
@@ -114,6 +216,9 @@ public class SqlContextImpl implements SqlContext {
 	/** 定数パラメータ保持用マップ */
 	private Map<String, Parameter> constParameterMap = null;
 
+	/** 定数パラメータ保持用マップを他のSQLコンテキストと共有しているかどうか */
+	private boolean sharedConstParameterMap = false;
+
 	/** SqlFilter管理クラス */
 	private SqlFilterManager sqlFilterManager = new SqlFilterManagerImpl();
 
@@ -126,6 +231,9 @@ public class SqlContextImpl implements SqlContext {
 	/** 有効フラグ（BEGIN句で使用） */
 	private boolean enabled = true;
 
+	/** 変換後のSQLの形. 記録しない場合は<code>null</code> */
+	private SqlShape shape = null;
+
 	/** バッチ処理用パラメータ保持用マップリスト */
 	private final List<Map<String, Parameter>> batchParameters = new ArrayList<>();
 
@@ -159,6 +267,9 @@ public class SqlContextImpl implements SqlContext {
 	/** パラメータ変換マネージャ */
 	private BindParameterMapperManager parameterMapperManager;
 
+	/** パラメータ変換マネージャを他のSQLコンテキストと共有しているかどうか */
+	private boolean sharedParameterMapperManager = false;
+
 	private ParameterNames parameterNames;
 
 	/**
@@ -180,6 +291,8 @@ public class SqlContextImpl implements SqlContext {
 		retryWaitTime = parent.retryWaitTime;
 		parameterMap = parent.parameterMap;
 		constParameterMap = parent.constParameterMap;
+		shape = parent.shape;
+		sharedConstParameterMap = parent.sharedConstParameterMap;
 		sqlFilterManager = parent.sqlFilterManager;
 		batchParameters.addAll(parent.batchParameters);
 		defineColumnTypeMap.putAll(parent.defineColumnTypeMap);
@@ -189,6 +302,11 @@ public class SqlContextImpl implements SqlContext {
 		contextAttributes.putAll(parent.contextAttributes);
 		queryAutoParameterBinder = parent.queryAutoParameterBinder;
 		parameterMapperManager = parent.parameterMapperManager;
+		sharedParameterMapperManager = parent.sharedParameterMapperManager;
+		regexSqlFormat = parent.regexSqlFormat;
+		inListPaddingStep = parent.inListPaddingStep;
+		inListArrayBindThreshold = parent.inListArrayBindThreshold;
+		dialect = parent.dialect;
 	}
 
 	/**
@@ -201,6 +319,44 @@ public class SqlContextImpl implements SqlContext {
 		return new SqlContextImpl(this);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#addTransformContext(jp.co.future.uroborosql.parser.TransformContext)
+	 */
+	@Override
+	public TransformContext addTransformContext(final TransformContext childContext) {
+		int offset = bindNames.size();
+		addSqlPart(childContext.getExecutableSql());
+		addBindNames(childContext.getBindNames());
+		addBindVariables(childContext.getBindVariables());
+		if (childContext instanceof SqlContextImpl) {
+			SqlContextImpl child = (SqlContextImpl) childContext;
+			paddedInListSizes = mergeByBindIndex(paddedInListSizes, child.paddedInListSizes, offset);
+			arrayBindTypeNames = mergeByBindIndex(arrayBindTypeNames, child.arrayBindTypeNames, offset);
+		}
+		return this;
+	}
+
+	/**
+	 * バインド変数名の位置をキーとするMapに、複製したコンテキストのMapを位置をずらして追加する
+	 *
+	 * @param <V> 値の型
+	 * @param target 追加先のMap. <code>null</code>の場合は必要に応じて生成する
+	 * @param source 複製したコンテキストのMap
+	 * @param offset 複製したコンテキストのバインド変数名を追加する位置
+	 * @return 追加後のMap
+	 */
+	private static <V> Map<Integer, V> mergeByBindIndex(final Map<Integer, V> target, final Map<Integer, V> source,
+			final int offset) {
+		if (source == null || source.isEmpty()) {
+			return target;
+		}
+		Map<Integer, V> merged = target != null ? target : new HashMap<>();
+		source.forEach((index, value) -> merged.put(offset + index, value));
+		return merged;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -210,35 +366,49 @@ public class SqlContextImpl implements SqlContext {
 	public String getExecutableSql() {
 		if (StringUtils.isEmpty(executableSqlCache)) {
 			if (executableSql.length() > 0) {
-				executableSqlCache = executableSql.toString();
-				if (executableSqlCache.toUpperCase().contains("WHERE")) {
-					// where句の直後に来るANDやORの除去
-					StringBuffer buff = new StringBuffer();
-					Matcher matcher = WHERE_CLAUSE_PATTERN.matcher(executableSqlCache);
-					while (matcher.find()) {
-						String whereClause = matcher.group("clause");
-						matcher.appendReplacement(buff, whereClause);
-					}
-					matcher.appendTail(buff);
-					executableSqlCache = buff.toString();
+				if (regexSqlFormat) {
+					executableSqlCache = formatByRegex(executableSql.toString());
+				} else {
+					executableSqlCache = SqlClauseFormatter.format(executableSql.toString());
 				}
-				// 各句の直後に現れる不要なカンマの除去
-				StringBuffer buff = new StringBuffer();
-				Matcher removeCommaMatcher = REMOVE_FIRST_COMMA_PATTERN.matcher(executableSqlCache);
-				while (removeCommaMatcher.find()) {
-					String clauseWords = removeCommaMatcher.group("keyword");
-					removeCommaMatcher.appendReplacement(buff, clauseWords);
-				}
-				removeCommaMatcher.appendTail(buff);
-				executableSqlCache = buff.toString();
-
-				// 空行の除去
-				executableSqlCache = CLEAR_BLANK_PATTERN.matcher(executableSqlCache).replaceAll("");
 			}
 		}
 		return executableSqlCache;
 	}
 
+	/**
+	 * 正規表現を用いてSQLを整形する
+	 *
+	 * @param sql 整形対象のSQL
+	 * @return 整形後のSQL
+	 */
+	private static String formatByRegex(final String sql) {
+		String formattedSql = sql;
+		if (formattedSql.toUpperCase().contains("WHERE")) {
+			// where句の直後に来るANDやORの除去
+			StringBuffer buff = new StringBuffer();
+			Matcher matcher = WHERE_CLAUSE_PATTERN.matcher(formattedSql);
+			while (matcher.find()) {
+				String whereClause = matcher.group("clause");
+				matcher.appendReplacement(buff, whereClause);
+			}
+			matcher.appendTail(buff);
+			formattedSql = buff.toString();
+		}
+		// 各句の直後に現れる不要なカンマの除去
+		StringBuffer buff = new StringBuffer();
+		Matcher removeCommaMatcher = REMOVE_FIRST_COMMA_PATTERN.matcher(formattedSql);
+		while (removeCommaMatcher.find()) {
+			String clauseWords = removeCommaMatcher.group("keyword");
+			removeCommaMatcher.appendReplacement(buff, clauseWords);
+		}
+		removeCommaMatcher.appendTail(buff);
+		formattedSql = buff.toString();
+
+		// 空行の除去
+		return CLEAR_BLANK_PATTERN.matcher(formattedSql).replaceAll("");
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -353,7 +523,7 @@ public class SqlContextImpl implements SqlContext {
 	public Parameter getParam(final String paramName) {
 		Parameter param = getBindParameter(paramName);
 		if (param == null) {
-			Map<String, Parameter> constParams = getConstParameterMap();
+			Map<String, Parameter> constParams = constParameterMap;
 			if (constParams != null) {
 				param = constParams.get(paramName.toUpperCase());
 			}
@@ -766,6 +936,57 @@ public class SqlContextImpl implements SqlContext {
 		return this;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#addSqlPart(java.lang.String, int, int)
+	 */
+	@Override
+	public TransformContext addSqlPart(final String sql, final int start, final int end) {
+		executableSql.append(sql, start, end);
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#getShape()
+	 */
+	@Override
+	public SqlShape getShape() {
+		return shape;
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * SQLの整形方法によって整形後のSQLが異なるため、整形方法もSQLの形として記録する.
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#setShape(jp.co.future.uroborosql.parser.SqlShape)
+	 */
+	@Override
+	public void setShape(final SqlShape shape) {
+		this.shape = shape;
+		if (shape != null) {
+			shape.add(regexSqlFormat ? 1 : 0);
+			if (executableSql.length() > 0) {
+				shape.invalidate();
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#setExecutableSql(java.lang.String)
+	 */
+	@Override
+	public TransformContext setExecutableSql(final String executableSql) {
+		this.executableSql.setLength(0);
+		this.executableSql.append(executableSql);
+		this.executableSqlCache = executableSql;
+		return this;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -868,12 +1089,15 @@ public class SqlContextImpl implements SqlContext {
 	 */
 	@Override
 	public void bindParams(final PreparedStatement preparedStatement) throws SQLException {
-		Parameter[] bindParameters = getBindParameters();
-
 		Set<String> matchParams = new HashSet<>();
 		int parameterIndex = 1;
-		for (Parameter bindParameter : bindParameters) {
-			Parameter parameter = getSqlFilterManager().doParameter(bindParameter);
+		for (int i = 0; i < bindNames.size(); i++) {
+			Parameter bindParameter = getParam(bindNames.get(i));
+			if (bindParameter == null) {
+				continue;
+			}
+			Parameter parameter = toInListParameter(i, getSqlFilterManager().doParameter(bindParameter),
+					preparedStatement);
 			parameterIndex = parameter.setParameter(preparedStatement, parameterIndex, parameterMapperManager);
 			matchParams.add(parameter.getParameterName());
 		}
@@ -892,9 +1116,34 @@ public class SqlContextImpl implements SqlContext {
 	 */
 	@Override
 	public void bindBatchParams(final PreparedStatement preparedStatement) throws SQLException {
+		// パラメータ名の解析は全行で共通のため、最初に1度だけ行う
+		BindPlan plan = new BindPlan(bindNames);
+		Map<String, Parameter> constParams = constParameterMap;
+		SqlFilterManager filterManager = getSqlFilterManager();
+		Parameter[] bindParameters = new Parameter[plan.size()];
 		for (Map<String, Parameter> paramMap : batchParameters) {
 			parameterMap = paramMap;
-			bindParams(preparedStatement);
+			Set<String> missMatchParams = null;
+			for (int i = 0; i < bindParameters.length; i++) {
+				bindParameters[i] = plan.resolve(i, paramMap, constParams);
+				if (bindParameters[i] == null) {
+					if (missMatchParams == null) {
+						missMatchParams = new LinkedHashSet<>();
+					}
+					missMatchParams.add(plan.getName(i));
+				}
+			}
+			// SQL上のバインドパラメータ群（bindNames）に対応する値がすべて設定されているかどうかをチェックする
+			if (missMatchParams != null) {
+				throw new ParameterNotFoundRuntimeException(
+						"Parameter " + missMatchParams.toString() + " is not found.");
+			}
+			int parameterIndex = 1;
+			for (int i = 0; i < bindParameters.length; i++) {
+				Parameter parameter = toInListParameter(i, filterManager.doParameter(bindParameters[i]),
+						preparedStatement);
+				parameterIndex = parameter.setParameter(preparedStatement, parameterIndex, parameterMapperManager);
+			}
 			preparedStatement.addBatch();
 		}
 		LOG.debug("{} items Added for batch process.", batchParameters.size());
@@ -923,7 +1172,10 @@ public class SqlContextImpl implements SqlContext {
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * {@inheritDoc}<br>
+	 * 追加した行のパラメータは{@link #bindBatchParams(PreparedStatement)}でバインドするまで保持する.
+	 * バインド先のPreparedStatementとバインド順は、バッチ実行時のSQL変換後に決まるため、行を追加した時点ではバインドできない.
+	 * そのため、保持する行数(メモリ使用量)はバッチ実行までに追加した行数に比例する.
 	 *
 	 * @see jp.co.future.uroborosql.context.SqlContext#addBatch()
 	 */
@@ -931,7 +1183,8 @@ public class SqlContextImpl implements SqlContext {
 	public SqlContext addBatch() {
 		acceptUpdateAutoParameterBinder();
 		batchParameters.add(parameterMap);
-		parameterMap = new HashMap<>();
+		// 次の行も同程度のパラメータ数となるため、初期容量を合わせて再ハッシュを避ける
+		parameterMap = new HashMap<>(parameterMap.size() * 4 / 3 + 1);
 		return this;
 	}
 
@@ -1061,11 +1314,17 @@ public class SqlContextImpl implements SqlContext {
 	}
 
 	/**
-	 * 定数パラメータマップの取得
+	 * 定数パラメータマップの取得.<br>
+	 * 他のSQLコンテキストと共有している場合は、取得する時点でこのSQLコンテキスト用のコピーを作成する.
 	 *
 	 * @return 定数パラメータマップ
 	 */
 	public Map<String, Parameter> getConstParameterMap() {
+		if (sharedConstParameterMap) {
+			// 呼び出し元で変更される可能性があるため、共有している定数パラメータマップはコピーしてから返す
+			constParameterMap = new ConcurrentHashMap<>(constParameterMap);
+			sharedConstParameterMap = false;
+		}
 		return constParameterMap;
 	}
 
@@ -1076,6 +1335,18 @@ public class SqlContextImpl implements SqlContext {
 	 */
 	public void setConstParameterMap(final Map<String, Parameter> constParameterMap) {
 		this.constParameterMap = constParameterMap;
+		this.sharedConstParameterMap = false;
+	}
+
+	/**
+	 * 他のSQLコンテキストと共有する定数パラメータマップを設定します.<br>
+	 * {@link #getConstParameterMap()}で取得する時点でコピーを作成するため、共有元の定数パラメータマップは変更されません.
+	 *
+	 * @param constParameterMap 共有する定数パラメータマップ
+	 */
+	public void setSharedConstParameterMap(final Map<String, Parameter> constParameterMap) {
+		this.constParameterMap = constParameterMap;
+		this.sharedConstParameterMap = true;
 	}
 
 	/**
@@ -1102,6 +1373,11 @@ public class SqlContextImpl implements SqlContext {
 	 * @return パラメータ変換マネージャ
 	 */
 	public BindParameterMapperManager getParameterMapperManager() {
+		if (sharedParameterMapperManager) {
+			// 呼び出し元で変更される可能性があるため、共有しているパラメータ変換マネージャはコピーしてから返す
+			parameterMapperManager = new BindParameterMapperManager(parameterMapperManager);
+			sharedParameterMapperManager = false;
+		}
 		return parameterMapperManager;
 	}
 
@@ -1112,6 +1388,213 @@ public class SqlContextImpl implements SqlContext {
 	 */
 	public void setParameterMapperManager(final BindParameterMapperManager parameterMapperManager) {
 		this.parameterMapperManager = parameterMapperManager;
+		this.sharedParameterMapperManager = false;
+	}
+
+	/**
+	 * 他のSQLコンテキストと共有するパラメータ変換マネージャを設定します.<br>
+	 * {@link #getParameterMapperManager()}で取得する時点でコピーを作成するため、共有元のパラメータ変換マネージャは変更されません.
+	 *
+	 * @param parameterMapperManager 共有するパラメータ変換マネージャ
+	 */
+	public void setSharedParameterMapperManager(final BindParameterMapperManager parameterMapperManager) {
+		this.parameterMapperManager = parameterMapperManager;
+		this.sharedParameterMapperManager = true;
+	}
+
+	/**
+	 * 正規表現を用いてSQLを整形するかどうかを設定します.<br>
+	 * <code>false</code>の場合はSQLの構造に基づいて1度の走査で整形します.
+	 *
+	 * @param regexSqlFormat 正規表現を用いてSQLを整形する場合<code>true</code>
+	 */
+	public void setRegexSqlFormat(final boolean regexSqlFormat) {
+		this.regexSqlFormat = regexSqlFormat;
+	}
+
+	/**
+	 * IN句のパディング単位を設定します
+	 *
+	 * @param inListPaddingStep IN句のパディング単位
+	 * @see SqlContextFactory#setInListPaddingStep(int)
+	 */
+	public void setInListPaddingStep(final int inListPaddingStep) {
+		this.inListPaddingStep = inListPaddingStep;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#padInList(int)
+	 */
+	@Override
+	public int padInList(final int size) {
+		if (inListPaddingStep == SqlContextFactory.IN_LIST_PADDING_NONE) {
+			return size;
+		}
+		int paddedSize = getPaddedInListSize(size);
+		// バッチ処理では行ごとに要素数が異なるため、パディングしない要素数でも記録して各行の値を揃える
+		if (paddedInListSizes == null) {
+			paddedInListSizes = new HashMap<>();
+		}
+		paddedInListSizes.put(bindNames.size(), paddedSize);
+		return paddedSize;
+	}
+
+	/**
+	 * IN句にバインドする要素数からパディング後の要素数を取得する
+	 *
+	 * @param size IN句にバインドする要素数
+	 * @return パディング後の要素数. パディングを行わない場合は<code>size</code>
+	 */
+	public int getPaddedInListSize(final int size) {
+		if (inListPaddingStep == SqlContextFactory.IN_LIST_PADDING_NONE || size <= 1
+				|| size >= IN_LIST_PADDING_MAX_SIZE) {
+			return size;
+		}
+		int paddedSize;
+		if (inListPaddingStep == SqlContextFactory.IN_LIST_PADDING_POWER_OF_TWO) {
+			paddedSize = Integer.highestOneBit(size - 1) << 1;
+		} else if (inListPaddingStep > 0) {
+			paddedSize = (size + inListPaddingStep - 1) / inListPaddingStep * inListPaddingStep;
+		} else {
+			return size;
+		}
+		return Math.min(paddedSize, IN_LIST_PADDING_MAX_SIZE);
+	}
+
+	/**
+	 * IN句を配列パラメータとしてバインドする要素数の閾値を設定します
+	 *
+	 * @param inListArrayBindThreshold 配列パラメータとしてバインドする要素数の閾値. 0以下の場合は配列パラメータとしてバインドしない
+	 * @see SqlContextFactory#setInListArrayBindThreshold(int)
+	 */
+	public void setInListArrayBindThreshold(final int inListArrayBindThreshold) {
+		this.inListArrayBindThreshold = inListArrayBindThreshold;
+	}
+
+	/**
+	 * IN句を配列パラメータとしてバインドする場合に配列要素の型名を決定するDialectを設定します
+	 *
+	 * @param dialect Dialect
+	 * @see jp.co.future.uroborosql.dialect.Dialect#getArrayTypeName(Class)
+	 */
+	public void setDialect(final Dialect dialect) {
+		this.dialect = dialect;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#bindInListAsArray(java.lang.String, java.lang.Object)
+	 */
+	@Override
+	public boolean bindInListAsArray(final String bindName, final Object values) {
+		if (inListArrayBindThreshold <= 0 || dialect == null) {
+			return false;
+		}
+		int length = Array.getLength(values);
+		if (length < inListArrayBindThreshold) {
+			return false;
+		}
+		// 要素の型がすべて同じ場合のみ配列パラメータとしてバインドする
+		Object first = Array.get(values, 0);
+		String typeName = first != null ? dialect.getArrayTypeName(first.getClass()) : null;
+		if (typeName == null) {
+			return false;
+		}
+		for (int i = 1; i < length; i++) {
+			Object value = Array.get(values, i);
+			if (value == null || value.getClass() != first.getClass()) {
+				return false;
+			}
+		}
+		if (!replaceLastInKeyword()) {
+			return false;
+		}
+		if (arrayBindTypeNames == null) {
+			arrayBindTypeNames = new HashMap<>();
+		}
+		arrayBindTypeNames.put(bindNames.size(), typeName);
+		return true;
+	}
+
+	/**
+	 * 変換後のSQLの末尾にあるINを<code>= ANY</code>に置き換える.<br>
+	 * NOT INの場合は置き換えない.
+	 *
+	 * @return 置き換えた場合<code>true</code>
+	 */
+	private boolean replaceLastInKeyword() {
+		int end = executableSql.length();
+		while (end > 0 && Character.isWhitespace(executableSql.charAt(end - 1))) {
+			end--;
+		}
+		int start = end - 2;
+		if (start < 1 || !Character.isWhitespace(executableSql.charAt(start - 1))
+				|| !"IN".equalsIgnoreCase(executableSql.substring(start, end))) {
+			return false;
+		}
+		int pos = start;
+		while (pos > 0 && Character.isWhitespace(executableSql.charAt(pos - 1))) {
+			pos--;
+		}
+		if (pos >= 3 && "NOT".equalsIgnoreCase(executableSql.substring(pos - 3, pos))
+				&& (pos == 3 || Character.isWhitespace(executableSql.charAt(pos - 4)))) {
+			return false;
+		}
+		executableSql.replace(start, end, "= ANY");
+		return true;
+	}
+
+	/**
+	 * IN句のバインド変数の場合は、変換時の扱いに合わせてパラメータの値を変換する.<br>
+	 * 配列パラメータとしてバインドした場合は配列パラメータに変換し、パディングした場合は変換時に記録した要素数に揃える.
+	 *
+	 * @param index バインド変数名の位置
+	 * @param parameter パラメータ
+	 * @param preparedStatement ステートメント
+	 * @return 変換したパラメータ. 変換しない場合は<code>parameter</code>
+	 * @throws SQLException SQL例外
+	 */
+	private Parameter toInListParameter(final int index, final Parameter parameter,
+			final PreparedStatement preparedStatement) throws SQLException {
+		String arrayTypeName = arrayBindTypeNames != null ? arrayBindTypeNames.get(index) : null;
+		if (arrayTypeName != null) {
+			return toArrayParameter(parameter, arrayTypeName, preparedStatement.getConnection());
+		}
+		Integer paddedSize = paddedInListSizes != null ? paddedInListSizes.get(index) : null;
+		if (paddedSize != null) {
+			return parameter.createPaddedParameter(size -> paddedSize);
+		}
+		return parameter;
+	}
+
+	/**
+	 * パラメータの値を配列パラメータに変換する
+	 *
+	 * @param parameter パラメータ
+	 * @param typeName 配列要素の型名
+	 * @param connection コネクション
+	 * @return 配列パラメータ
+	 */
+	private Parameter toArrayParameter(final Parameter parameter, final String typeName,
+			final Connection connection) {
+		Object value = parameter.getValue();
+		List<Object> elements = new ArrayList<>();
+		if (value instanceof Iterable) {
+			for (Object e : (Iterable<?>) value) {
+				elements.add(e);
+			}
+		} else if (value != null && value.getClass().isArray()) {
+			for (int i = 0; i < Array.getLength(value); i++) {
+				elements.add(Array.get(value, i));
+			}
+		} else {
+			elements.add(value);
+		}
+		return new Parameter(parameter.getParameterName(),
+				JdbcParameterFactory.createArrayOf(connection, typeName, elements.toArray()));
 	}
 
 	/**
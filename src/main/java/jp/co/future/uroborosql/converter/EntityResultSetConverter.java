@@ -18,6 +18,7 @@ import org.slf4j.LoggerFactory;
 import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
 import jp.co.future.uroborosql.mapping.MappingColumn;
 import jp.co.future.uroborosql.mapping.MappingUtils;
+import jp.co.future.uroborosql.mapping.mapper.ColumnReader;
 import jp.co.future.uroborosql.mapping.mapper.PropertyMapperManager;
 import jp.co.future.uroborosql.utils.CaseFormat;
 
@@ -35,8 +36,10 @@ public class EntityResultSetConverter<E> implements ResultSetConverter<E> {
 	private final PropertyMapperManager mapperManager;
 	private final Constructor<E> constructor;
 	private final MappingColumn[] columns;
-	private int columnCount;
-	private String[] columnLabels;
+	/** columnsの各要素に対応する検索結果のカラムIndex. 対応するカラムがない場合は0 */
+	private int[] columnIndexes;
+	/** columnsの各要素に対応するカラムの読み込み処理 */
+	private ColumnReader[] readers;
 
 	/**
 	 * コンストラクタ
@@ -64,20 +67,22 @@ public class EntityResultSetConverter<E> implements ResultSetConverter<E> {
 	@Override
 	public E createRecord(final ResultSet rs) throws SQLException {
 		try {
-			if (columnLabels == null) {
-				ResultSetMetaData rsmd = rs.getMetaData();
-				columnCount = rsmd.getColumnCount();
-
-				// columnLabelsは1始まりの配列で値を格納
-				columnLabels = new String[columnCount + 1];
-				for (int i = 1; i <= columnCount; i++) {
-					columnLabels[i] = rsmd.getColumnLabel(i);
+			if (columnIndexes == null) {
+				columnIndexes = createColumnIndexes(rs.getMetaData());
+				readers = new ColumnReader[columns.length];
+				for (int i = 0; i < columns.length; i++) {
+					if (columnIndexes[i] > 0) {
+						readers[i] = mapperManager.getColumnReader(columns[i].getJavaType());
+					}
 				}
 			}
 
 			E rec = constructor.newInstance();
-			for (MappingColumn column : columns) {
-				bindValue(rec, rs, column);
+			for (int i = 0; i < columns.length; i++) {
+				int columnIndex = columnIndexes[i];
+				if (columnIndex > 0) {
+					columns[i].setValue(rec, readers[i].read(rs, columnIndex));
+				}
 			}
 			return rec;
 		} catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
@@ -89,13 +94,32 @@ public class EntityResultSetConverter<E> implements ResultSetConverter<E> {
 		}
 	}
 
-	private void bindValue(final E rec, final ResultSet rs, final MappingColumn column) throws SQLException {
+	/**
+	 * ResultSetMetaDataからエンティティの各フィールドに対応するカラムIndexを解決する.<br>
+	 * 同じ名前に変換されるカラムが複数ある場合は先頭のカラムを対象とする.
+	 *
+	 * @param rsmd ResultSetMetaData
+	 * @return columnsの各要素に対応するカラムIndexの配列. 対応するカラムがない場合は0
+	 * @throws SQLException SQL例外
+	 */
+	private int[] createColumnIndexes(final ResultSetMetaData rsmd) throws SQLException {
+		int columnCount = rsmd.getColumnCount();
+		String[] columnNames = new String[columnCount + 1];
 		for (int i = 1; i <= columnCount; i++) {
-			if (CaseFormat.UPPER_SNAKE_CASE.convert(columnLabels[i]).equalsIgnoreCase(column.getName())) {
-				column.setValue(rec, mapperManager.getValue(column.getJavaType(), rs, i));
-				return;
+			columnNames[i] = CaseFormat.UPPER_SNAKE_CASE.convert(rsmd.getColumnLabel(i));
+		}
+
+		int[] indexes = new int[columns.length];
+		for (int i = 0; i < columns.length; i++) {
+			String name = columns[i].getName();
+			for (int j = 1; j <= columnCount; j++) {
+				if (columnNames[j].equalsIgnoreCase(name)) {
+					indexes[i] = j;
+					break;
+				}
 			}
 		}
+		return indexes;
 	}
 
 }
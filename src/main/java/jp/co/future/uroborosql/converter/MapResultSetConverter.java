@@ -14,6 +14,7 @@ import java.util.Map;
 
 import jp.co.future.uroborosql.config.SqlConfig;
 import jp.co.future.uroborosql.mapping.JavaType;
+import jp.co.future.uroborosql.mapping.mapper.ColumnReader;
 import jp.co.future.uroborosql.mapping.mapper.PropertyMapperManager;
 import jp.co.future.uroborosql.utils.CaseFormat;
 
@@ -27,6 +28,14 @@ public class MapResultSetConverter implements ResultSetConverter<Map<String, Obj
 	private final PropertyMapperManager mapperManager;
 	private final SqlConfig sqlConfig;
 	private final CaseFormat caseFormat;
+	/** キー情報を解決したResultSet */
+	private ResultSet resultSet;
+	/** 全行で共有するMapのキー */
+	private RecordMap.Keys keys;
+	/** カラムごとの値の格納位置 */
+	private int[] slots;
+	/** カラムごとの読み込み処理 */
+	private ColumnReader[] readers;
 
 	/**
 	 * コンストラクタ
@@ -70,29 +79,45 @@ public class MapResultSetConverter implements ResultSetConverter<Map<String, Obj
 	 */
 	@Override
 	public Map<String, Object> createRecord(final ResultSet rs) throws SQLException {
-		ResultSetMetaData rsmd = rs.getMetaData();
-		int columnCount = rsmd.getColumnCount();
-		Map<String, Object> record = new LinkedHashMap<>(columnCount);
-		for (int i = 1; i <= columnCount; i++) {
-			record.put(caseFormat.convert(rsmd.getColumnLabel(i)), getValue(rs, rsmd, i));
+		if (resultSet != rs) {
+			prepare(rs);
+		}
+		Object[] values = new Object[keys.size()];
+		for (int i = 0; i < readers.length; i++) {
+			values[slots[i]] = readers[i].read(rs, i + 1);
 		}
-		return record;
+		return new RecordMap(keys, values);
 	}
 
 	/**
-	 * ResultSetからMapperManager経由で値を取得する
+	 * ResultSetMetaDataから、全行で共有するMapのキーとカラムごとの読み込み処理を解決する.<br>
+	 * 同じキーに変換されるカラムが複数ある場合は、キーの位置は先頭のカラム、値は後ろのカラムの値となる.
 	 *
 	 * @param rs ResultSet
-	 * @param rsmd ResultSetMetadata
-	 * @param columnIndex カラムインデックス
-	 * @return 指定したカラムインデックスの値
-	 * @throws SQLException
+	 * @throws SQLException SQL例外
 	 */
-	private Object getValue(final ResultSet rs, final ResultSetMetaData rsmd, final int columnIndex)
-			throws SQLException {
-		JavaType javaType = this.sqlConfig.getDialect().getJavaType(rsmd.getColumnType(columnIndex),
-				rsmd.getColumnTypeName(columnIndex));
-		return this.mapperManager.getValue(javaType, rs, columnIndex);
+	private void prepare(final ResultSet rs) throws SQLException {
+		ResultSetMetaData rsmd = rs.getMetaData();
+		int columnCount = rsmd.getColumnCount();
+		Map<String, Integer> positions = new LinkedHashMap<>(columnCount);
+		int[] newSlots = new int[columnCount];
+		ColumnReader[] newReaders = new ColumnReader[columnCount];
+		for (int i = 1; i <= columnCount; i++) {
+			String key = caseFormat.convert(rsmd.getColumnLabel(i));
+			Integer pos = positions.get(key);
+			if (pos == null) {
+				pos = positions.size();
+				positions.put(key, pos);
+			}
+			newSlots[i - 1] = pos;
+			JavaType javaType = this.sqlConfig.getDialect().getJavaType(rsmd.getColumnType(i),
+					rsmd.getColumnTypeName(i));
+			newReaders[i - 1] = this.mapperManager.getColumnReader(javaType);
+		}
+		this.keys = new RecordMap.Keys(positions.keySet().toArray(new String[positions.size()]));
+		this.slots = newSlots;
+		this.readers = newReaders;
+		this.resultSet = rs;
 	}
 
 }
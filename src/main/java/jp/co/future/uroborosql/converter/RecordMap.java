@@ -0,0 +1,282 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.converter;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * 検索結果の1行を保持するMap.<br>
+ * キーの並びと位置は同じ検索結果の全行で共有し、各行は値の配列のみを保持する.
+ * 既存キーの値の更新と削除は配列上で行い、新しいキーの追加など並び順が変わる操作が行われた時点で
+ * 内部的に{@link LinkedHashMap}へ切り替える. そのため{@link LinkedHashMap}と同じ振る舞いとなる.
+ */
+final class RecordMap extends AbstractMap<String, Object> implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/** 削除された値を表すオブジェクト */
+	private static final Object ABSENT = new Object();
+
+	/** 共有されるキー情報 */
+	private final Keys keys;
+
+	/** 値の配列 */
+	private final Object[] values;
+
+	/** 要素数 */
+	private int size;
+
+	/** 並び順が変わる操作が行われた後の格納先 */
+	private LinkedHashMap<String, Object> map;
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param keys 共有されるキー情報
+	 * @param values 値の配列. 要素の並びはキー情報の並びと一致させること
+	 */
+	RecordMap(final Keys keys, final Object[] values) {
+		this.keys = keys;
+		this.values = values;
+		this.size = values.length;
+	}
+
+	/**
+	 * 並び順が変わる操作に備えてLinkedHashMapへ切り替える
+	 *
+	 * @return 切り替え後のMap
+	 */
+	private Map<String, Object> toMap() {
+		if (map == null) {
+			LinkedHashMap<String, Object> m = new LinkedHashMap<>(values.length + 1, 1.0f);
+			for (int i = 0; i < values.length; i++) {
+				if (values[i] != ABSENT) {
+					m.put(keys.names[i], values[i]);
+				}
+			}
+			map = m;
+		}
+		return map;
+	}
+
+	@Override
+	public int size() {
+		return map != null ? map.size() : size;
+	}
+
+	@Override
+	public boolean containsKey(final Object key) {
+		if (map != null) {
+			return map.containsKey(key);
+		}
+		Integer pos = keys.positions.get(key);
+		return pos != null && values[pos] != ABSENT;
+	}
+
+	@Override
+	public Object get(final Object key) {
+		if (map != null) {
+			return map.get(key);
+		}
+		Integer pos = keys.positions.get(key);
+		if (pos == null) {
+			return null;
+		}
+		Object value = values[pos];
+		return value != ABSENT ? value : null;
+	}
+
+	@Override
+	public Object put(final String key, final Object value) {
+		if (map == null) {
+			Integer pos = keys.positions.get(key);
+			if (pos != null && values[pos] != ABSENT) {
+				Object old = values[pos];
+				values[pos] = value;
+				return old;
+			}
+		}
+		return toMap().put(key, value);
+	}
+
+	@Override
+	public Object remove(final Object key) {
+		if (map != null) {
+			return map.remove(key);
+		}
+		Integer pos = keys.positions.get(key);
+		if (pos == null || values[pos] == ABSENT) {
+			return null;
+		}
+		Object old = values[pos];
+		values[pos] = ABSENT;
+		size--;
+		return old;
+	}
+
+	@Override
+	public void clear() {
+		if (map != null) {
+			map.clear();
+		} else {
+			Arrays.fill(values, ABSENT);
+			size = 0;
+		}
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		if (map != null) {
+			return map.entrySet();
+		}
+		return new AbstractSet<Entry<String, Object>>() {
+			@Override
+			public Iterator<Entry<String, Object>> iterator() {
+				return map != null ? map.entrySet().iterator() : new EntryIterator();
+			}
+
+			@Override
+			public int size() {
+				return RecordMap.this.size();
+			}
+		};
+	}
+
+	/**
+	 * 値の配列を走査するIterator
+	 */
+	private final class EntryIterator implements Iterator<Entry<String, Object>> {
+		/** 次の位置 */
+		private int next = advance(0);
+		/** 直前に返した位置 */
+		private int last = -1;
+
+		private int advance(final int from) {
+			int i = from;
+			while (i < values.length && values[i] == ABSENT) {
+				i++;
+			}
+			return i;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next < values.length;
+		}
+
+		@Override
+		public Entry<String, Object> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			int pos = next;
+			last = pos;
+			next = advance(pos + 1);
+			return new Entry<String, Object>() {
+				@Override
+				public String getKey() {
+					return keys.names[pos];
+				}
+
+				@Override
+				public Object getValue() {
+					return values[pos];
+				}
+
+				@Override
+				public Object setValue(final Object value) {
+					Object old = values[pos];
+					values[pos] = value;
+					return old;
+				}
+
+				@Override
+				public boolean equals(final Object o) {
+					if (!(o instanceof Entry)) {
+						return false;
+					}
+					Entry<?, ?> e = (Entry<?, ?>) o;
+					return eq(getKey(), e.getKey()) && eq(getValue(), e.getValue());
+				}
+
+				@Override
+				public int hashCode() {
+					Object value = getValue();
+					return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+				}
+
+				@Override
+				public String toString() {
+					return getKey() + "=" + getValue();
+				}
+			};
+		}
+
+		@Override
+		public void remove() {
+			if (last < 0) {
+				throw new IllegalStateException();
+			}
+			values[last] = ABSENT;
+			size--;
+			last = -1;
+		}
+	}
+
+	/**
+	 * シリアライズ時はLinkedHashMapとして書き出す
+	 *
+	 * @return シリアライズするオブジェクト
+	 */
+	private Object writeReplace() {
+		return new LinkedHashMap<>(this);
+	}
+
+	private static boolean eq(final Object o1, final Object o2) {
+		return o1 == null ? o2 == null : o1.equals(o2);
+	}
+
+	/**
+	 * 同じ検索結果の全行で共有されるキー情報
+	 */
+	static final class Keys {
+		/** キー名の配列 */
+		private final String[] names;
+		/** キー名と位置の対応 */
+		private final Map<Object, Integer> positions;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param names キー名の配列. 重複を含まないこと
+		 */
+		Keys(final String[] names) {
+			this.names = names;
+			this.positions = new HashMap<>(names.length * 4 / 3 + 1);
+			for (int i = 0; i < names.length; i++) {
+				positions.put(names[i], i);
+			}
+		}
+
+		/**
+		 * キーの数を取得する
+		 *
+		 * @return キーの数
+		 */
+		int size() {
+			return names.length;
+		}
+	}
+}
@@ -69,6 +69,35 @@ public interface Dialect {
 		return false;
 	}
 
+	/**
+	 * IN句にバインドする値を1つの配列パラメータとして比較する<code>= ANY(?)</code>をサポートするかどうか.
+	 *
+	 * @return 配列パラメータとの比較をサポートする場合<code>true</code>
+	 */
+	default boolean supportsArrayInClause() {
+		return false;
+	}
+
+	/**
+	 * IN句を配列パラメータとしてバインドする場合に、配列の要素がマッピングされる型のSQL名を取得する.<br>
+	 * 取得した型名は{@link java.sql.Connection#createArrayOf(String, Object[])}に指定する.
+	 *
+	 * @param elementType 配列の要素の型
+	 * @return 配列の要素がマッピングされる型のSQL名. 配列パラメータとしてバインドしない型の場合は<code>null</code>
+	 */
+	default String getArrayTypeName(final Class<?> elementType) {
+		return null;
+	}
+
+	/**
+	 * 行値式を用いたIN句<code>(col1, col2) IN ((?, ?), (?, ?))</code>をサポートするかどうか.
+	 *
+	 * @return 行値式を用いたIN句をサポートする場合<code>true</code>
+	 */
+	default boolean supportsRowValueInClause() {
+		return false;
+	}
+
 	/**
 	 * LIMIT 句をサポートするかどうか.
 	 *
@@ -6,8 +6,11 @@
  */
 package jp.co.future.uroborosql.dialect;
 
+import java.math.BigDecimal;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -26,6 +29,18 @@ public class H2Dialect extends AbstractDialect {
 	 */
 	private static final Set<String> pessimisticLockingErrorCodes = Collections.singleton("50200");
 
+	/** 配列の要素の型と配列の要素がマッピングされる型のSQL名 */
+	private static final Map<Class<?>, String> arrayTypeNames = new HashMap<>();
+
+	static {
+		arrayTypeNames.put(Short.class, "SMALLINT");
+		arrayTypeNames.put(Integer.class, "INTEGER");
+		arrayTypeNames.put(Long.class, "BIGINT");
+		arrayTypeNames.put(Double.class, "DOUBLE");
+		arrayTypeNames.put(BigDecimal.class, "DECIMAL");
+		arrayTypeNames.put(String.class, "VARCHAR");
+	}
+
 	/**
 	 * コンストラクタ
 	 */
@@ -53,6 +68,36 @@ public class H2Dialect extends AbstractDialect {
 		return true;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.dialect.Dialect#supportsArrayInClause()
+	 */
+	@Override
+	public boolean supportsArrayInClause() {
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.dialect.Dialect#getArrayTypeName(java.lang.Class)
+	 */
+	@Override
+	public String getArrayTypeName(final Class<?> elementType) {
+		return arrayTypeNames.get(elementType);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.dialect.Dialect#supportsRowValueInClause()
+	 */
+	@Override
+	public boolean supportsRowValueInClause() {
+		return true;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
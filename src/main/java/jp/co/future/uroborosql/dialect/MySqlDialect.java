@@ -52,6 +52,16 @@ public class MySqlDialect extends AbstractDialect {
 		return true;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.dialect.Dialect#supportsRowValueInClause()
+	 */
+	@Override
+	public boolean supportsRowValueInClause() {
+		return true;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
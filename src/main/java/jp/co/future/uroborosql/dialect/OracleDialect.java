@@ -78,6 +78,16 @@ public abstract class OracleDialect extends AbstractDialect {
 		return true;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.dialect.Dialect#supportsRowValueInClause()
+	 */
+	@Override
+	public boolean supportsRowValueInClause() {
+		return true;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
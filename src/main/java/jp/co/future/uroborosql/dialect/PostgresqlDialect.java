@@ -6,10 +6,13 @@
  */
 package jp.co.future.uroborosql.dialect;
 
+import java.math.BigDecimal;
 import java.sql.JDBCType;
 import java.sql.SQLType;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -27,6 +30,18 @@ public class PostgresqlDialect extends AbstractDialect {
 	 */
 	private static final Set<String> pessimisticLockingErrorCodes = Collections.singleton("55P03");
 
+	/** 配列の要素の型と配列の要素がマッピングされる型のSQL名 */
+	private static final Map<Class<?>, String> arrayTypeNames = new HashMap<>();
+
+	static {
+		arrayTypeNames.put(Short.class, "int2");
+		arrayTypeNames.put(Integer.class, "int4");
+		arrayTypeNames.put(Long.class, "int8");
+		arrayTypeNames.put(Double.class, "float8");
+		arrayTypeNames.put(BigDecimal.class, "numeric");
+		arrayTypeNames.put(String.class, "varchar");
+	}
+
 	/**
 	 * コンストラクタ
 	 */
@@ -64,6 +79,36 @@ public class PostgresqlDialect extends AbstractDialect {
 		return true;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.dialect.Dialect#supportsArrayInClause()
+	 */
+	@Override
+	public boolean supportsArrayInClause() {
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.dialect.Dialect#getArrayTypeName(java.lang.Class)
+	 */
+	@Override
+	public String getArrayTypeName(final Class<?> elementType) {
+		return arrayTypeNames.get(elementType);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.dialect.Dialect#supportsRowValueInClause()
+	 */
+	@Override
+	public boolean supportsRowValueInClause() {
+		return true;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -6,7 +6,10 @@
  */
 package jp.co.future.uroborosql.expr;
 
+import java.util.function.Function;
+
 import jp.co.future.uroborosql.config.SqlConfig;
+import jp.co.future.uroborosql.utils.BoundedCache;
 
 /**
  * 評価式パーサの共通親クラス
@@ -14,10 +17,16 @@ import jp.co.future.uroborosql.config.SqlConfig;
  * @author H.Sugimoto
  */
 public abstract class AbstractExpressionParser implements ExpressionParser {
+	/** 評価式キャッシュの最大サイズ. 0以下の場合はキャッシュを行わない */
+	private static final int DEFAULT_CACHE_SIZE = Integer
+			.valueOf(System.getProperty("uroborosql.expr.cache.size", "1000"));
 
 	/** SqlConfig */
 	private SqlConfig sqlConfig;
 
+	/** 解析済み評価式のキャッシュ */
+	private volatile BoundedCache<String, Expression> expressionCache = new BoundedCache<>(DEFAULT_CACHE_SIZE);
+
 	/**
 	 * コンストラクタ
 	 */
@@ -53,4 +62,41 @@ public abstract class AbstractExpressionParser implements ExpressionParser {
 	@Override
 	public void initialize() {
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 評価式キャッシュを利用して評価式を取得する. キャッシュに存在しない場合は<code>parser</code>で解析し、キャッシュに格納する.<br>
+	 * サブクラスは{@link #parse(String)}からこのメソッドを呼び出すことで、同じ文字列に対して同じ評価式を返すことができる.
+	 *
+	 * @param expression 評価を行う文字列
+	 * @param parser キャッシュに存在しない場合に解析を行う関数
+	 * @return 評価式
+	 */
+	protected Expression parseWithCache(final String expression, final Function<String, Expression> parser) {
+		return expressionCache.get(expression, parser);
+	}
+
+	/**
+	 * 評価式キャッシュの最大サイズを取得する.
+	 *
+	 * @return 評価式キャッシュの最大サイズ
+	 */
+	public int getCacheSize() {
+		return expressionCache.getMaxSize();
+	}
+
+	/**
+	 * 評価式キャッシュの最大サイズを設定する. 0以下を指定した場合はキャッシュを行わない.
+	 *
+	 * @param cacheSize 評価式キャッシュの最大サイズ
+	 */
+	public void setCacheSize(final int cacheSize) {
+		this.expressionCache = new BoundedCache<>(cacheSize);
+	}
+
+	/**
+	 * 評価式キャッシュをクリアする.
+	 */
+	public void clearCache() {
+		expressionCache.clear();
+	}
+}
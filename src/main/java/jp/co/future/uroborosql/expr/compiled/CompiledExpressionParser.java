@@ -0,0 +1,196 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.expr.compiled;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.stream.StreamSupport;
+
+import jp.co.future.uroborosql.config.SqlConfig;
+import jp.co.future.uroborosql.expr.AbstractExpressionParser;
+import jp.co.future.uroborosql.expr.Expression;
+import jp.co.future.uroborosql.expr.ExpressionParser;
+import jp.co.future.uroborosql.expr.ExpressionParserFactory;
+import jp.co.future.uroborosql.expr.compiled.ExpressionCompiler.CompiledNode;
+import jp.co.future.uroborosql.parser.TransformContext;
+
+/**
+ * 2WaySQLでよく利用される条件式(nullチェック、SF.isNotEmpty()、比較、論理演算)を
+ * 直接評価可能な形にコンパイルする評価式パーサー.<br>
+ * パラメータの値はプロパティアクセサを経由せずTransformContextから直接取得する.
+ * コンパイルできない評価式や、評価時にサポート範囲外の値となった場合は委譲先の評価式パーサー(OGNL/SpEL)で評価する.
+ *
+ * <pre>
+ * SqlConfig config = UroboroSQL.builder(...)
+ *     .setExpressionParser(new CompiledExpressionParser())
+ *     .build();
+ * </pre>
+ */
+public class CompiledExpressionParser extends AbstractExpressionParser {
+	/** 委譲先の評価式パーサー */
+	private final ExpressionParser delegate;
+
+	/**
+	 * コンストラクタ<br>
+	 * 委譲先の評価式パーサーはクラスパス上で利用可能なものから選択する.
+	 */
+	public CompiledExpressionParser() {
+		this(StreamSupport.stream(ServiceLoader.load(ExpressionParserFactory.class).spliterator(), false)
+				.filter(e -> e.accept()).findFirst()
+				.orElseThrow(() -> new IllegalStateException("ExpressionParser not found."))
+				.create());
+	}
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param delegate コンパイルできない評価式を評価する委譲先の評価式パーサー
+	 */
+	public CompiledExpressionParser(final ExpressionParser delegate) {
+		super();
+		this.delegate = delegate;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.expr.AbstractExpressionParser#setSqlConfig(jp.co.future.uroborosql.config.SqlConfig)
+	 */
+	@Override
+	public void setSqlConfig(final SqlConfig sqlConfig) {
+		super.setSqlConfig(sqlConfig);
+		delegate.setSqlConfig(sqlConfig);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.expr.AbstractExpressionParser#initialize()
+	 */
+	@Override
+	public void initialize() {
+		super.initialize();
+		delegate.initialize();
+	}
+
+	/**
+	 * 委譲先の評価式パーサーを取得する
+	 *
+	 * @return 委譲先の評価式パーサー
+	 */
+	public ExpressionParser getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.expr.ExpressionParser#parse(java.lang.String)
+	 */
+	@Override
+	public Expression parse(final String expression) {
+		return parseWithCache(expression, this::doParse);
+	}
+
+	/**
+	 * 文字列を評価し、評価式を取得する.
+	 *
+	 * @param expression 評価を行う文字列
+	 * @return 評価式
+	 */
+	private Expression doParse(final String expression) {
+		Set<String> params = new LinkedHashSet<>();
+		CompiledNode node = ExpressionCompiler.compile(expression,
+				getSqlConfig().getDialect().getExpressionFunction(), params);
+		if (node == null) {
+			return delegate.parse(expression);
+		}
+		return new CompiledExpression(expression, node, Collections.unmodifiableSet(params));
+	}
+
+	/**
+	 * コンパイル済み評価式
+	 */
+	private class CompiledExpression implements Expression {
+		/** 評価式 */
+		private final String expression;
+
+		/** コンパイル済みノード */
+		private final CompiledNode node;
+
+		/** 評価式で参照されるパラメータ名 */
+		private final Set<String> params;
+
+		/** 委譲先の評価式. 必要になった時点で生成する */
+		private volatile Expression fallback;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param expression 評価式
+		 * @param node コンパイル済みノード
+		 * @param params 評価式で参照されるパラメータ名
+		 */
+		CompiledExpression(final String expression, final CompiledNode node, final Set<String> params) {
+			this.expression = expression;
+			this.node = node;
+			this.params = params;
+		}
+
+		/**
+		 * 委譲先の評価式を取得する
+		 *
+		 * @return 委譲先の評価式
+		 */
+		private Expression getFallback() {
+			Expression expr = fallback;
+			if (expr == null) {
+				expr = delegate.parse(expression);
+				fallback = expr;
+			}
+			return expr;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @see jp.co.future.uroborosql.expr.Expression#getValue(java.lang.Object)
+		 */
+		@Override
+		public Object getValue(final Object context) {
+			if (context instanceof TransformContext) {
+				Object value = node.eval((TransformContext) context);
+				if (value != ExpressionCompiler.UNSUPPORTED) {
+					return value;
+				}
+			}
+			return getFallback().getValue(context);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @see jp.co.future.uroborosql.expr.Expression#dumpNode(java.lang.Object)
+		 */
+		@Override
+		public StringBuilder dumpNode(final Object context) {
+			return getFallback().dumpNode(context);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @see jp.co.future.uroborosql.expr.Expression#collectParams(java.util.Set)
+		 */
+		@Override
+		public void collectParams(final Set<String> params) {
+			params.addAll(this.params);
+		}
+	}
+}
@@ -0,0 +1,493 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.expr.compiled;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import jp.co.future.uroborosql.parameter.Parameter;
+import jp.co.future.uroborosql.parser.TransformContext;
+import jp.co.future.uroborosql.utils.StringFunction;
+
+/**
+ * 2WaySQLの条件式で利用される限定された文法の評価式を、直接評価可能なノードの木に変換するコンパイラ.<br>
+ * 以下の文法をサポートする. サポートしない文法が含まれる場合はコンパイルに失敗し<code>null</code>を返す.
+ *
+ * <pre>
+ * 論理演算     : &amp;&amp;, ||, !, and, or, not
+ * 比較演算     : ==, !=, &lt;, &lt;=, &gt;, &gt;=
+ * リテラル     : null, true, false, 整数, 'string'(2文字以上または空文字)
+ * パラメータ   : paramName (ドットを含まない名前)
+ * 関数         : SF.isEmpty(x), SF.isNotEmpty(x), SF.isBlank(x), SF.isNotBlank(x)
+ * </pre>
+ *
+ * 評価時に値の型がサポート範囲外(Boolean以外の論理演算、数値と文字列の比較など)となった場合は
+ * {@link #UNSUPPORTED} を返し、呼び出し元で委譲先の評価式による評価を行う.
+ */
+final class ExpressionCompiler {
+	/** 評価時にサポート範囲外となったことを表す値 */
+	static final Object UNSUPPORTED = new Object();
+
+	/** パラメータ名として扱わないキーワード */
+	private static final Set<String> KEYWORDS = new HashSet<>(Arrays.asList("and", "or", "not", "null", "true",
+			"false", "eq", "neq", "ne", "lt", "lte", "le", "gt", "gte", "ge", "in", "instanceof", "new", "this",
+			"matches", "between", "div", "mod", "shl", "shr", "ushr", "band", "bor", "xor", "T"));
+
+	/** サポートするSFの関数名 */
+	private static final Set<String> FUNCTIONS = new HashSet<>(Arrays.asList("isEmpty", "isNotEmpty", "isBlank",
+			"isNotBlank"));
+
+	/** 評価式 */
+	private final String expression;
+
+	/** 評価式内で利用できる関数 */
+	private final StringFunction expressionFunction;
+
+	/** トークンのリスト */
+	private final List<String> tokens = new ArrayList<>();
+
+	/** 参照されるパラメータ名 */
+	private final Set<String> params;
+
+	/** 解析位置 */
+	private int pos = 0;
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param expression 評価式
+	 * @param expressionFunction 評価式内で利用できる関数
+	 * @param params 参照されるパラメータ名を格納するSet
+	 */
+	private ExpressionCompiler(final String expression, final StringFunction expressionFunction,
+			final Set<String> params) {
+		this.expression = expression;
+		this.expressionFunction = expressionFunction;
+		this.params = params;
+	}
+
+	/**
+	 * 評価式をコンパイルする
+	 *
+	 * @param expression 評価式
+	 * @param expressionFunction 評価式内で利用できる関数
+	 * @param params 参照されるパラメータ名を格納するSet
+	 * @return コンパイル結果. サポートしない文法が含まれる場合は<code>null</code>
+	 */
+	static CompiledNode compile(final String expression, final StringFunction expressionFunction,
+			final Set<String> params) {
+		if (expression == null) {
+			return null;
+		}
+		ExpressionCompiler compiler = new ExpressionCompiler(expression, expressionFunction, params);
+		if (!compiler.tokenize()) {
+			return null;
+		}
+		CompiledNode node = compiler.parseOr();
+		if (node == null || compiler.pos != compiler.tokens.size()) {
+			return null;
+		}
+		return node;
+	}
+
+	/**
+	 * コンパイルされた評価式のノード
+	 */
+	@FunctionalInterface
+	interface CompiledNode {
+		/**
+		 * 評価を行う
+		 *
+		 * @param ctx TransformContext
+		 * @return 評価結果. サポート範囲外の場合は{@link ExpressionCompiler#UNSUPPORTED}
+		 */
+		Object eval(TransformContext ctx);
+	}
+
+	/**
+	 * 評価式をトークンに分割する
+	 *
+	 * @return 分割できた場合<code>true</code>
+	 */
+	private boolean tokenize() {
+		int len = expression.length();
+		int i = 0;
+		while (i < len) {
+			char c = expression.charAt(i);
+			if (Character.isWhitespace(c)) {
+				i++;
+			} else if (c == '(' || c == ')' || c == '.') {
+				tokens.add(String.valueOf(c));
+				i++;
+			} else if (c == '=' || c == '!' || c == '<' || c == '>') {
+				if (i + 1 < len && expression.charAt(i + 1) == '=') {
+					tokens.add(expression.substring(i, i + 2));
+					i += 2;
+				} else if (c == '=') {
+					return false;
+				} else {
+					tokens.add(String.valueOf(c));
+					i++;
+				}
+			} else if (c == '&' || c == '|') {
+				if (i + 1 < len && expression.charAt(i + 1) == c) {
+					tokens.add(expression.substring(i, i + 2));
+					i += 2;
+				} else {
+					return false;
+				}
+			} else if (c == '\'') {
+				int end = expression.indexOf('\'', i + 1);
+				if (end < 0 || end - i - 1 == 1 || expression.substring(i + 1, end).indexOf('\\') >= 0) {
+					// 1文字のリテラルはOGNLではCharacterとして扱われるためサポート対象外とする
+					return false;
+				}
+				tokens.add(expression.substring(i, end + 1));
+				i = end + 1;
+			} else if (Character.isDigit(c)) {
+				int start = i;
+				while (i < len && Character.isDigit(expression.charAt(i))) {
+					i++;
+				}
+				if (i < len && (Character.isLetter(expression.charAt(i)) || expression.charAt(i) == '.')) {
+					// 小数や1Lなどの型指定付きリテラルはサポート対象外
+					return false;
+				}
+				tokens.add(expression.substring(start, i));
+			} else if (Character.isJavaIdentifierStart(c) && c != '$') {
+				int start = i;
+				while (i < len && Character.isJavaIdentifierPart(expression.charAt(i))
+						&& expression.charAt(i) != '$') {
+					i++;
+				}
+				tokens.add(expression.substring(start, i));
+			} else {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 次のトークンを取得する(位置は進めない)
+	 *
+	 * @return 次のトークン. 存在しない場合は<code>null</code>
+	 */
+	private String peek() {
+		return pos < tokens.size() ? tokens.get(pos) : null;
+	}
+
+	/**
+	 * 次のトークンが指定したトークンのいずれかに一致する場合、位置を進めて<code>true</code>を返す
+	 *
+	 * @param candidates 候補
+	 * @return 一致した場合<code>true</code>
+	 */
+	private boolean accept(final String... candidates) {
+		String token = peek();
+		if (token != null) {
+			for (String candidate : candidates) {
+				if (candidate.equals(token)) {
+					pos++;
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * OR式の解析
+	 *
+	 * @return ノード
+	 */
+	private CompiledNode parseOr() {
+		CompiledNode left = parseAnd();
+		while (left != null && accept("||", "or")) {
+			CompiledNode l = left;
+			CompiledNode r = parseAnd();
+			if (r == null) {
+				return null;
+			}
+			left = ctx -> {
+				Object lv = l.eval(ctx);
+				if (!(lv instanceof Boolean)) {
+					return UNSUPPORTED;
+				}
+				if ((Boolean) lv) {
+					return Boolean.TRUE;
+				}
+				Object rv = r.eval(ctx);
+				return rv instanceof Boolean ? rv : UNSUPPORTED;
+			};
+		}
+		return left;
+	}
+
+	/**
+	 * AND式の解析
+	 *
+	 * @return ノード
+	 */
+	private CompiledNode parseAnd() {
+		CompiledNode left = parseComparison();
+		while (left != null && accept("&&", "and")) {
+			CompiledNode l = left;
+			CompiledNode r = parseComparison();
+			if (r == null) {
+				return null;
+			}
+			left = ctx -> {
+				Object lv = l.eval(ctx);
+				if (!(lv instanceof Boolean)) {
+					return UNSUPPORTED;
+				}
+				if (!(Boolean) lv) {
+					return Boolean.FALSE;
+				}
+				Object rv = r.eval(ctx);
+				return rv instanceof Boolean ? rv : UNSUPPORTED;
+			};
+		}
+		return left;
+	}
+
+	/**
+	 * 比較式の解析
+	 *
+	 * @return ノード
+	 */
+	private CompiledNode parseComparison() {
+		CompiledNode left = parseUnary();
+		if (left == null) {
+			return null;
+		}
+		String op = peek();
+		if (op == null || !("==".equals(op) || "!=".equals(op) || "<".equals(op) || "<=".equals(op)
+				|| ">".equals(op) || ">=".equals(op))) {
+			return left;
+		}
+		pos++;
+		CompiledNode right = parseUnary();
+		if (right == null) {
+			return null;
+		}
+		switch (op) {
+		case "==":
+			return ctx -> equal(left.eval(ctx), right.eval(ctx));
+		case "!=":
+			return ctx -> {
+				Object result = equal(left.eval(ctx), right.eval(ctx));
+				return result instanceof Boolean ? Boolean.valueOf(!(Boolean) result) : result;
+			};
+		default:
+			return ctx -> {
+				int result = compare(left.eval(ctx), right.eval(ctx));
+				if (result == Integer.MIN_VALUE) {
+					return UNSUPPORTED;
+				}
+				switch (op) {
+				case "<":
+					return result < 0;
+				case "<=":
+					return result <= 0;
+				case ">":
+					return result > 0;
+				default:
+					return result >= 0;
+				}
+			};
+		}
+	}
+
+	/**
+	 * 単項式(否定)の解析
+	 *
+	 * @return ノード
+	 */
+	private CompiledNode parseUnary() {
+		if (accept("!", "not")) {
+			CompiledNode operand = parseUnary();
+			if (operand == null) {
+				return null;
+			}
+			return ctx -> {
+				Object v = operand.eval(ctx);
+				return v instanceof Boolean ? Boolean.valueOf(!(Boolean) v) : UNSUPPORTED;
+			};
+		}
+		return parsePrimary();
+	}
+
+	/**
+	 * 一次式(括弧、リテラル、パラメータ、関数呼び出し)の解析
+	 *
+	 * @return ノード
+	 */
+	private CompiledNode parsePrimary() {
+		String token = peek();
+		if (token == null) {
+			return null;
+		}
+		pos++;
+
+		if ("(".equals(token)) {
+			CompiledNode node = parseOr();
+			return node != null && accept(")") ? node : null;
+		} else if ("null".equals(token)) {
+			return ctx -> null;
+		} else if ("true".equals(token)) {
+			return ctx -> Boolean.TRUE;
+		} else if ("false".equals(token)) {
+			return ctx -> Boolean.FALSE;
+		} else if (token.charAt(0) == '\'') {
+			String value = token.substring(1, token.length() - 1);
+			return ctx -> value;
+		} else if (Character.isDigit(token.charAt(0))) {
+			Object value = toNumber(token);
+			return value != null ? ctx -> value : null;
+		} else if (StringFunction.SHORT_NAME.equals(token)) {
+			return parseFunction();
+		} else if (Character.isJavaIdentifierStart(token.charAt(0)) && !KEYWORDS.contains(token)) {
+			if (".".equals(peek()) || "(".equals(peek())) {
+				// プロパティやメソッドへのアクセスはサポート対象外
+				return null;
+			}
+			params.add(token);
+			return ctx -> {
+				Parameter param = ctx.getParam(token);
+				return param != null ? param.getValue() : null;
+			};
+		}
+		return null;
+	}
+
+	/**
+	 * SFの関数呼び出しの解析
+	 *
+	 * @return ノード
+	 */
+	private CompiledNode parseFunction() {
+		if (!accept(".")) {
+			return null;
+		}
+		String name = peek();
+		if (name == null || !FUNCTIONS.contains(name)) {
+			return null;
+		}
+		pos++;
+		if (!accept("(")) {
+			return null;
+		}
+		CompiledNode arg = parsePrimary();
+		if (arg == null || !accept(")")) {
+			return null;
+		}
+		StringFunction sf = expressionFunction;
+		switch (name) {
+		case "isEmpty":
+			return ctx -> {
+				Object v = arg.eval(ctx);
+				return v == UNSUPPORTED ? v : sf.isEmpty(v);
+			};
+		case "isNotEmpty":
+			return ctx -> {
+				Object v = arg.eval(ctx);
+				return v == UNSUPPORTED ? v : sf.isNotEmpty(v);
+			};
+		case "isBlank":
+			return ctx -> {
+				Object v = arg.eval(ctx);
+				return v == UNSUPPORTED ? v : sf.isBlank(v);
+			};
+		default:
+			return ctx -> {
+				Object v = arg.eval(ctx);
+				return v == UNSUPPORTED ? v : sf.isNotBlank(v);
+			};
+		}
+	}
+
+	/**
+	 * 数値リテラルの変換
+	 *
+	 * @param token トークン
+	 * @return 変換した数値. 変換できない場合は<code>null</code>
+	 */
+	private static Object toNumber(final String token) {
+		try {
+			long value = Long.parseLong(token);
+			return value <= Integer.MAX_VALUE ? Integer.valueOf((int) value) : Long.valueOf(value);
+		} catch (NumberFormatException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * 等価判定. OGNL/SpELで結果が一致する型の組み合わせのみ判定を行う.
+	 *
+	 * @param left 左辺値
+	 * @param right 右辺値
+	 * @return 判定結果. サポート範囲外の場合は{@link #UNSUPPORTED}
+	 */
+	private static Object equal(final Object left, final Object right) {
+		if (left == UNSUPPORTED || right == UNSUPPORTED) {
+			return UNSUPPORTED;
+		}
+		if (left == null || right == null) {
+			return left == right;
+		}
+		BigDecimal l = toBigDecimal(left);
+		BigDecimal r = toBigDecimal(right);
+		if (l != null && r != null) {
+			return l.compareTo(r) == 0;
+		}
+		if (left instanceof String && right instanceof String
+				|| left instanceof Boolean && right instanceof Boolean) {
+			return left.equals(right);
+		}
+		return UNSUPPORTED;
+	}
+
+	/**
+	 * 大小比較. 数値同士の比較のみ判定を行う.
+	 *
+	 * @param left 左辺値
+	 * @param right 右辺値
+	 * @return 比較結果. サポート範囲外の場合は{@link Integer#MIN_VALUE}
+	 */
+	private static int compare(final Object left, final Object right) {
+		BigDecimal l = toBigDecimal(left);
+		BigDecimal r = toBigDecimal(right);
+		if (l == null || r == null) {
+			return Integer.MIN_VALUE;
+		}
+		return Integer.signum(l.compareTo(r));
+	}
+
+	/**
+	 * 整数型、BigDecimal、BigIntegerの値をBigDecimalに変換する
+	 *
+	 * @param value 値
+	 * @return 変換後の値. 変換対象外の型の場合は<code>null</code>
+	 */
+	private static BigDecimal toBigDecimal(final Object value) {
+		if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+			return BigDecimal.valueOf(((Number) value).longValue());
+		} else if (value instanceof BigDecimal) {
+			return (BigDecimal) value;
+		} else if (value instanceof BigInteger) {
+			return new BigDecimal((BigInteger) value);
+		}
+		return null;
+	}
+}
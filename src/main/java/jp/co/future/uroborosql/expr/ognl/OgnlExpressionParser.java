@@ -54,6 +54,16 @@ public class OgnlExpressionParser extends AbstractExpressionParser {
 	 */
 	@Override
 	public Expression parse(final String expression) {
+		return parseWithCache(expression, this::doParse);
+	}
+
+	/**
+	 * 文字列を評価し、評価式を取得する.
+	 *
+	 * @param expression 評価を行う文字列
+	 * @return 評価式
+	 */
+	private Expression doParse(final String expression) {
 		try {
 			return new OgnlExpression(Ognl.parseExpression(expression));
 		} catch (OgnlException ex) {
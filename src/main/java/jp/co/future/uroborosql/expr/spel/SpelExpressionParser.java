@@ -61,6 +61,16 @@ public class SpelExpressionParser extends AbstractExpressionParser {
 	 */
 	@Override
 	public Expression parse(final String expression) {
+		return parseWithCache(expression, this::doParse);
+	}
+
+	/**
+	 * 文字列を評価し、評価式を取得する.
+	 *
+	 * @param expression 評価を行う文字列
+	 * @return 評価式
+	 */
+	private Expression doParse(final String expression) {
 		return new SpringElExpression(parser.parseExpression(expression));
 	}
 
@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * ConnectionSupplierによるコネクション取得のJFRイベント.<br>
+ * 接続先にはデータソース名を設定し、認証情報を含む可能性があるJDBC URLは設定しない.
+ */
+@Name(ConnectionAcquireEvent.NAME)
+@Label("Connection Acquire")
+@Category("uroboroSQL")
+@Description("Acquisition of a connection by ConnectionSupplier")
+@StackTrace(false)
+public class ConnectionAcquireEvent extends Event {
+	/** イベント名 */
+	public static final String NAME = "jp.co.future.uroborosql.ConnectionAcquire";
+
+	/** データソース名. データソースを使用しない場合は<code>null</code> */
+	@Label("Data Source Name")
+	private String dataSourceName;
+
+	/** スキーマ名 */
+	@Label("Schema")
+	private String schema;
+
+	/** コネクションプールから取得したかどうか */
+	@Label("Pooled")
+	private boolean pooled;
+
+	/**
+	 * データソース名を設定する
+	 *
+	 * @param dataSourceName データソース名
+	 */
+	public void setDataSourceName(final String dataSourceName) {
+		this.dataSourceName = dataSourceName;
+	}
+
+	/**
+	 * スキーマ名を設定する
+	 *
+	 * @param schema スキーマ名
+	 */
+	public void setSchema(final String schema) {
+		this.schema = schema;
+	}
+
+	/**
+	 * コネクションプールから取得したかどうかを設定する
+	 *
+	 * @param pooled コネクションプールから取得した場合<code>true</code>
+	 */
+	public void setPooled(final boolean pooled) {
+		this.pooled = pooled;
+	}
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import jp.co.future.uroborosql.context.SqlContext;
+
+/**
+ * SQL実行のJFRイベント.<br>
+ * 検索SQLの場合は結果セットをクローズするまで、それ以外はSQLの実行が終了するまでを期間とする.
+ * イベントが無効な場合は属性の設定を行わない.
+ */
+@Name(SqlExecutionEvent.NAME)
+@Label("SQL Execution")
+@Category("uroboroSQL")
+@Description("Execution of a SQL statement by SqlAgent")
+@StackTrace(false)
+public class SqlExecutionEvent extends Event {
+	/** イベント名 */
+	public static final String NAME = "jp.co.future.uroborosql.SqlExecution";
+
+	/** SQL名 */
+	@Label("SQL Name")
+	private String sqlName;
+
+	/** SQL-ID */
+	@Label("SQL ID")
+	private String sqlId;
+
+	/** SQL種別 */
+	@Label("SQL Kind")
+	private String sqlKind;
+
+	/** 実行時SQLのハッシュ値 */
+	@Label("SQL Hash")
+	@Description("Hash code of the executable SQL")
+	private int sqlHash;
+
+	/** バインドパラメータ数 */
+	@Label("Bind Count")
+	private int bindCount;
+
+	/** 検索件数または更新件数. 取得できない場合は-1 */
+	@Label("Row Count")
+	private long rowCount;
+
+	/** リトライ回数 */
+	@Label("Retry Count")
+	private int retryCount;
+
+	/** SQLの解析時間 */
+	@Label("Parse Time")
+	@Timespan(Timespan.NANOSECONDS)
+	private long parseTime;
+
+	/** SQLの変換時間 */
+	@Label("Transform Time")
+	@Timespan(Timespan.NANOSECONDS)
+	private long transformTime;
+
+	/** イベントを終了したかどうか */
+	private transient boolean finished = false;
+
+	/**
+	 * イベントを終了し、有効な場合は属性を設定して記録する. 2回目以降の呼び出しは何もしない
+	 *
+	 * @param sqlContext SQLコンテキスト
+	 * @param rowCount 検索件数または更新件数. 取得できない場合は-1
+	 * @param retryCount リトライ回数
+	 * @param parseTime SQLの解析時間(ナノ秒)
+	 * @param transformTime SQLの変換時間(ナノ秒)
+	 */
+	public void finish(final SqlContext sqlContext, final long rowCount, final int retryCount, final long parseTime,
+			final long transformTime) {
+		if (finished) {
+			return;
+		}
+		finished = true;
+		end();
+		if (shouldCommit()) {
+			this.sqlName = sqlContext.getSqlName();
+			this.sqlId = sqlContext.getSqlId();
+			this.sqlKind = String.valueOf(sqlContext.getSqlKind());
+			String executableSql = sqlContext.getExecutableSql();
+			this.sqlHash = executableSql != null ? executableSql.hashCode() : 0;
+			this.bindCount = sqlContext.getBindNames().size();
+			this.rowCount = rowCount;
+			this.retryCount = retryCount;
+			this.parseTime = parseTime;
+			this.transformTime = transformTime;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * トランザクションのコミット、ロールバックのJFRイベント
+ */
+@Name(TransactionEvent.NAME)
+@Label("Transaction End")
+@Category("uroboroSQL")
+@Description("Commit or rollback of a local transaction")
+@StackTrace(false)
+public class TransactionEvent extends Event {
+	/** イベント名 */
+	public static final String NAME = "jp.co.future.uroborosql.Transaction";
+
+	/** コミットの場合<code>true</code>、ロールバックの場合<code>false</code> */
+	@Label("Commit")
+	private final boolean commit;
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param commit コミットの場合<code>true</code>、ロールバックの場合<code>false</code>
+	 */
+	public TransactionEvent(final boolean commit) {
+		this.commit = commit;
+	}
+}
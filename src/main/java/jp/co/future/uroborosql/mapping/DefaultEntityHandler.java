@@ -6,15 +6,20 @@
  */
 package jp.co.future.uroborosql.mapping;
 
+import java.lang.reflect.Method;
 import java.sql.JDBCType;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -28,6 +33,7 @@ import jp.co.future.uroborosql.enums.SqlKind;
 import jp.co.future.uroborosql.mapping.TableMetadata.Column;
 import jp.co.future.uroborosql.mapping.mapper.PropertyMapper;
 import jp.co.future.uroborosql.mapping.mapper.PropertyMapperManager;
+import jp.co.future.uroborosql.utils.BoundedCache;
 import jp.co.future.uroborosql.utils.CaseFormat;
 import jp.co.future.uroborosql.utils.StringUtils;
 
@@ -37,17 +43,32 @@ import jp.co.future.uroborosql.utils.StringUtils;
  * @author ota
  */
 public class DefaultEntityHandler implements EntityHandler<Object> {
+	/**
+	 * 生成したSQLのキャッシュサイズ.<br>
+	 * システムプロパティ <code>uroborosql.entity.sql.cache.size</code> で指定する(デフォルト256). 0以下を指定した場合はキャッシュしない.
+	 */
+	private static final int SQL_CACHE_SIZE = Integer
+			.valueOf(System.getProperty("uroborosql.entity.sql.cache.size", "256"));
+
+	/** SQLの生成に利用するメソッド名. サブクラスでいずれかをオーバーライドした場合は生成したSQLをキャッシュしない */
+	private static final Set<String> SQL_BUILDER_METHOD_NAMES = new HashSet<>(Arrays.asList("buildSelectSQL",
+			"buildSelectClause", "buildInsertSQL", "buildUpdateSQL", "buildDeleteSQL", "buildInsertTargetBlock",
+			"buildInsertRowBlock", "isStringType", "wrapIfComment"));
 
 	protected static Map<Class<?>, TableMetadata> CONTEXTS = new ConcurrentHashMap<>();
 	protected PropertyMapperManager propertyMapperManager;
 	protected boolean emptyStringEqualsNull = true;
 	protected SqlConfig sqlConfig = null;
 
+	/** 生成したSQLのキャッシュ */
+	private final BoundedCache<SqlCacheKey, String> sqlCache;
+
 	/**
 	 * コンストラクタ
 	 */
 	public DefaultEntityHandler() {
 		super();
+		this.sqlCache = new BoundedCache<>(isSqlBuilderOverridden(getClass()) ? 0 : SQL_CACHE_SIZE);
 	}
 
 	/**
@@ -79,7 +100,8 @@ public class DefaultEntityHandler implements EntityHandler<Object> {
 	@Override
 	public SqlContext createSelectContext(final SqlAgent agent, final TableMetadata metadata,
 			final Class<? extends Object> entityType, final boolean addCondition) {
-		return agent.contextWith(buildSelectSQL(metadata, entityType, agent.getSqlConfig(), addCondition))
+		return agent.contextWith(getSql(metadata, entityType, SqlKind.SELECT, addCondition,
+				() -> buildSelectSQL(metadata, entityType, agent.getSqlConfig(), addCondition)))
 				.setSqlId(createSqlId(metadata, entityType));
 	}
 
@@ -102,7 +124,8 @@ public class DefaultEntityHandler implements EntityHandler<Object> {
 	@Override
 	public SqlContext createInsertContext(final SqlAgent agent, final TableMetadata metadata,
 			final Class<? extends Object> entityType) {
-		return agent.contextWith(buildInsertSQL(metadata, entityType, agent.getSqlConfig()))
+		return agent.contextWith(getSql(metadata, entityType, SqlKind.INSERT, true,
+				() -> buildInsertSQL(metadata, entityType, agent.getSqlConfig())))
 				.setSqlId(createSqlId(metadata, entityType));
 	}
 
@@ -114,7 +137,8 @@ public class DefaultEntityHandler implements EntityHandler<Object> {
 	@Override
 	public SqlContext createUpdateContext(final SqlAgent agent, final TableMetadata metadata,
 			final Class<? extends Object> entityType, final boolean addCondition) {
-		return agent.contextWith(buildUpdateSQL(metadata, entityType, agent.getSqlConfig(), addCondition, true))
+		return agent.contextWith(getSql(metadata, entityType, SqlKind.UPDATE, addCondition,
+				() -> buildUpdateSQL(metadata, entityType, agent.getSqlConfig(), addCondition, true)))
 				.setSqlId(createSqlId(metadata, entityType));
 	}
 
@@ -126,7 +150,8 @@ public class DefaultEntityHandler implements EntityHandler<Object> {
 	@Override
 	public SqlContext createDeleteContext(final SqlAgent agent, final TableMetadata metadata,
 			final Class<? extends Object> entityType, final boolean addCondition) {
-		return agent.contextWith(buildDeleteSQL(metadata, entityType, agent.getSqlConfig(), addCondition))
+		return agent.contextWith(getSql(metadata, entityType, SqlKind.DELETE, addCondition,
+				() -> buildDeleteSQL(metadata, entityType, agent.getSqlConfig(), addCondition)))
 				.setSqlId(createSqlId(metadata, entityType));
 	}
 
@@ -138,7 +163,8 @@ public class DefaultEntityHandler implements EntityHandler<Object> {
 	@Override
 	public SqlContext createBatchInsertContext(final SqlAgent agent, final TableMetadata metadata,
 			final Class<? extends Object> entityType) {
-		return agent.contextWith(buildInsertSQL(metadata, entityType, agent.getSqlConfig(), false))
+		return agent.contextWith(getSql(metadata, entityType, SqlKind.BATCH_INSERT, true,
+				() -> buildInsertSQL(metadata, entityType, agent.getSqlConfig(), false)))
 				.setSqlId(createSqlId(metadata, entityType));
 	}
 
@@ -161,7 +187,8 @@ public class DefaultEntityHandler implements EntityHandler<Object> {
 	@Override
 	public SqlContext createBatchUpdateContext(final SqlAgent agent, final TableMetadata metadata,
 			final Class<? extends Object> entityType) {
-		return agent.contextWith(buildUpdateSQL(metadata, entityType, agent.getSqlConfig(), true, false))
+		return agent.contextWith(getSql(metadata, entityType, SqlKind.BATCH_UPDATE, true,
+				() -> buildUpdateSQL(metadata, entityType, agent.getSqlConfig(), true, false)))
 				.setSqlId(createSqlId(metadata, entityType));
 	}
 
@@ -259,6 +286,50 @@ public class DefaultEntityHandler implements EntityHandler<Object> {
 		return this;
 	}
 
+	/**
+	 * 生成したSQLをキャッシュから取得する. キャッシュに存在しない場合は<code>builder</code>を用いて生成する.<br>
+	 * 同じSQL文字列を返すことで、解析済みSQLのキャッシュ({@link jp.co.future.uroborosql.parser.ContextTransformerCache})も利用される.
+	 *
+	 * @param metadata エンティティメタ情報
+	 * @param entityType エイティティタイプ
+	 * @param kind SQL種別
+	 * @param addCondition 条件を追加するかどうか
+	 * @param builder SQLの生成処理
+	 * @return SQL
+	 */
+	private String getSql(final TableMetadata metadata, final Class<? extends Object> entityType,
+			final SqlKind kind, final boolean addCondition, final Supplier<String> builder) {
+		return sqlCache.get(new SqlCacheKey(metadata, entityType, kind, addCondition, emptyStringEqualsNull),
+				key -> builder.get());
+	}
+
+	/**
+	 * SQLの生成に利用するメソッドがサブクラスでオーバーライドされているかどうか.<br>
+	 * オーバーライドしたメソッドは呼び出しごとに異なるSQLを生成する可能性があるため、生成したSQLをキャッシュしない.
+	 *
+	 * @param handlerType ハンドラの型
+	 * @return オーバーライドされている場合<code>true</code>
+	 */
+	private static boolean isSqlBuilderOverridden(final Class<?> handlerType) {
+		Class<?> type = handlerType;
+		while (type != null && type != DefaultEntityHandler.class) {
+			for (Method method : type.getDeclaredMethods()) {
+				if (!method.isSynthetic() && SQL_BUILDER_METHOD_NAMES.contains(method.getName())) {
+					return true;
+				}
+			}
+			type = type.getSuperclass();
+		}
+		return false;
+	}
+
+	/**
+	 * 生成したSQLのキャッシュをクリアする
+	 */
+	public void clearSqlCache() {
+		sqlCache.clear();
+	}
+
 	/**
 	 * エンティティ型から、EntityMetadataの生成
 	 *
@@ -824,6 +895,7 @@ public class DefaultEntityHandler implements EntityHandler<Object> {
 	@Override
 	public void setSqlConfig(final SqlConfig sqlConfig) {
 		this.sqlConfig = sqlConfig;
+		clearSqlCache();
 	}
 
 	/**
@@ -836,4 +908,54 @@ public class DefaultEntityHandler implements EntityHandler<Object> {
 		return this.sqlConfig;
 	}
 
+	/**
+	 * 生成したSQLのキャッシュのキー.<br>
+	 * バージョンカラムやTransientの指定はエンティティ型ごとに決まるため、エンティティ型で識別する.
+	 */
+	private static final class SqlCacheKey {
+		/** エンティティメタ情報 */
+		private final TableMetadata metadata;
+		/** エンティティ型 */
+		private final Class<?> entityType;
+		/** SQL種別 */
+		private final SqlKind kind;
+		/** 条件を追加するかどうか */
+		private final boolean addCondition;
+		/** 空文字とNULLを同じに扱うかどうか */
+		private final boolean emptyStringEqualsNull;
+		/** ハッシュ値 */
+		private final int hash;
+
+		SqlCacheKey(final TableMetadata metadata, final Class<?> entityType, final SqlKind kind,
+				final boolean addCondition, final boolean emptyStringEqualsNull) {
+			this.metadata = metadata;
+			this.entityType = entityType;
+			this.kind = kind;
+			this.addCondition = addCondition;
+			this.emptyStringEqualsNull = emptyStringEqualsNull;
+			this.hash = Objects.hash(System.identityHashCode(metadata), entityType, kind, addCondition,
+					emptyStringEqualsNull);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof SqlCacheKey)) {
+				return false;
+			}
+			SqlCacheKey other = (SqlCacheKey) obj;
+			return metadata == other.metadata
+					&& entityType == other.entityType
+					&& kind == other.kind
+					&& addCondition == other.addCondition
+					&& emptyStringEqualsNull == other.emptyStringEqualsNull;
+		}
+	}
 }
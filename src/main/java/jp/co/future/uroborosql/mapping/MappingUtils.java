@@ -6,6 +6,9 @@
  */
 package jp.co.future.uroborosql.mapping;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
@@ -23,6 +26,7 @@ import jp.co.future.uroborosql.mapping.annotations.Id;
 import jp.co.future.uroborosql.mapping.annotations.SequenceGenerator;
 import jp.co.future.uroborosql.mapping.annotations.Transient;
 import jp.co.future.uroborosql.mapping.annotations.Version;
+import jp.co.future.uroborosql.utils.BoundedCache;
 import jp.co.future.uroborosql.utils.CaseFormat;
 
 /**
@@ -56,6 +60,12 @@ public final class MappingUtils {
 
 	private static class MappingColumnImpl implements MappingColumn {
 		private final Field field;
+		/** フィールド値取得用のMethodHandle. 型は (Object)Object */
+		private final MethodHandle getter;
+		/** フィールド値設定用のMethodHandle. 型は (Object, Object)void */
+		private final MethodHandle setter;
+		/** MethodHandleで設定できる値の型. プリミティブ型の場合はラッパー型 */
+		private final Class<?> valueType;
 		private final JavaType javaType;
 		private final String name;
 		private final String camelName;
@@ -71,6 +81,9 @@ public final class MappingUtils {
 			Column column = field.getAnnotation(Column.class);
 			// アクセス可能にする
 			field.setAccessible(true);
+			this.getter = createGetter(field);
+			this.setter = createSetter(field);
+			this.valueType = MethodType.methodType(field.getType()).wrap().returnType();
 
 			if (column != null) {
 				this.name = column.name();
@@ -91,6 +104,36 @@ public final class MappingUtils {
 			}
 		}
 
+		/**
+		 * フィールド値取得用のMethodHandleを生成する
+		 *
+		 * @param field フィールド
+		 * @return MethodHandle. 生成できない場合は<code>null</code>
+		 */
+		private static MethodHandle createGetter(final Field field) {
+			try {
+				return MethodHandles.lookup().unreflectGetter(field)
+						.asType(MethodType.methodType(Object.class, Object.class));
+			} catch (IllegalAccessException | RuntimeException e) {
+				return null;
+			}
+		}
+
+		/**
+		 * フィールド値設定用のMethodHandleを生成する
+		 *
+		 * @param field フィールド
+		 * @return MethodHandle. 生成できない場合は<code>null</code>
+		 */
+		private static MethodHandle createSetter(final Field field) {
+			try {
+				return MethodHandles.lookup().unreflectSetter(field)
+						.asType(MethodType.methodType(void.class, Object.class, Object.class));
+			} catch (IllegalAccessException | RuntimeException e) {
+				return null;
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 *
@@ -98,6 +141,15 @@ public final class MappingUtils {
 		 */
 		@Override
 		public Object getValue(final Object entity) {
+			if (this.getter != null && this.field.getDeclaringClass().isInstance(entity)) {
+				try {
+					return (Object) this.getter.invokeExact(entity);
+				} catch (RuntimeException | Error e) {
+					throw e;
+				} catch (Throwable e) {
+					throw new UroborosqlRuntimeException(e);
+				}
+			}
 			try {
 				return this.field.get(entity);
 			} catch (IllegalArgumentException | IllegalAccessException e) {
@@ -112,6 +164,18 @@ public final class MappingUtils {
 		 */
 		@Override
 		public void setValue(final Object entity, final Object value) {
+			if (this.setter != null && this.field.getDeclaringClass().isInstance(entity)
+					&& (value == null ? !this.field.getType().isPrimitive() : this.valueType.isInstance(value))) {
+				try {
+					this.setter.invokeExact(entity, value);
+					return;
+				} catch (RuntimeException | Error e) {
+					throw e;
+				} catch (Throwable e) {
+					throw new UroborosqlRuntimeException(e);
+				}
+			}
+			// プリミティブ型の拡大変換やnullの設定などはリフレクションで設定する
 			try {
 				this.field.set(entity, value);
 			} catch (IllegalArgumentException | IllegalAccessException e) {
@@ -231,14 +295,12 @@ public final class MappingUtils {
 		}
 	}
 
-	private static final Map<Class<?>, Map<SqlKind, MappingColumn[]>> CACHE = new LinkedHashMap<Class<?>, Map<SqlKind, MappingColumn[]>>() {
-		private final int cacheSize = Integer.valueOf(System.getProperty("uroborosql.entity.cache.size", "30"));
-
-		@Override
-		protected boolean removeEldestEntry(final Map.Entry<Class<?>, Map<SqlKind, MappingColumn[]>> eldest) {
-			return size() > cacheSize;
-		}
-	};
+	/**
+	 * カラムマッピング情報のキャッシュ.<br>
+	 * キャッシュサイズはシステムプロパティ <code>uroborosql.entity.cache.size</code> で指定する(デフォルト1000). 0以下を指定した場合はキャッシュしない.
+	 */
+	private static final BoundedCache<Class<?>, Map<SqlKind, MappingColumn[]>> CACHE = new BoundedCache<>(
+			Integer.valueOf(System.getProperty("uroborosql.entity.cache.size", "1000")));
 
 	/**
 	 * エンティティ型からテーブル情報の取得
@@ -309,14 +371,17 @@ public final class MappingUtils {
 			return new MappingColumn[0];
 		}
 
-		Map<SqlKind, MappingColumn[]> cols;
-		synchronized (CACHE) {
-			cols = CACHE.get(entityType);
-		}
-		if (cols != null) {
-			return cols.computeIfAbsent(kind, k -> cols.get(SqlKind.NONE));
-		}
+		final Map<SqlKind, MappingColumn[]> cols = CACHE.get(entityType, MappingUtils::createMappingColumns);
+		return cols.computeIfAbsent(kind, k -> cols.get(SqlKind.NONE));
+	}
 
+	/**
+	 * エンティティ型のカラムマッピング情報を生成する
+	 *
+	 * @param entityType エンティティ型
+	 * @return SQL種別ごとのカラムマッピング情報
+	 */
+	private static Map<SqlKind, MappingColumn[]> createMappingColumns(final Class<?> entityType) {
 		Map<SqlKind, Map<String, MappingColumn>> fieldsMap = Stream.of(SqlKind.NONE, SqlKind.INSERT, SqlKind.UPDATE)
 				.collect(Collectors.toMap(e -> e, e -> new LinkedHashMap<>()));
 
@@ -324,14 +389,43 @@ public final class MappingUtils {
 
 		walkFields(entityType, implementClass, fieldsMap);
 
-		final Map<SqlKind, MappingColumn[]> entityCols = fieldsMap.entrySet().stream()
+		return fieldsMap.entrySet().stream()
 				.collect(Collectors.toConcurrentMap(e -> e.getKey(),
 						e -> e.getValue().values().toArray(new MappingColumn[e.getValue().size()])));
+	}
 
-		synchronized (CACHE) {
-			CACHE.put(entityType, entityCols);
-		}
-		return entityCols.computeIfAbsent(kind, k -> entityCols.get(SqlKind.NONE));
+	/**
+	 * カラムマッピング情報のキャッシュをクリアする
+	 */
+	public static void clearCache() {
+		CACHE.clear();
+	}
+
+	/**
+	 * カラムマッピング情報をキャッシュしているエンティティ型の数を取得する
+	 *
+	 * @return キャッシュしているエンティティ型の数
+	 */
+	public static int getCacheSize() {
+		return CACHE.size();
+	}
+
+	/**
+	 * カラムマッピング情報のキャッシュのヒット数を取得する
+	 *
+	 * @return ヒット数
+	 */
+	public static long getCacheHitCount() {
+		return CACHE.getHitCount();
+	}
+
+	/**
+	 * カラムマッピング情報のキャッシュのミス数を取得する
+	 *
+	 * @return ミス数
+	 */
+	public static long getCacheMissCount() {
+		return CACHE.getMissCount();
 	}
 
 	/**
@@ -0,0 +1,28 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.mapping.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * ResultSetの1カラムの値をプロパティの型に変換して読み込むインタフェース<br>
+ * {@link PropertyMapperManager#getColumnReader(jp.co.future.uroborosql.mapping.JavaType)} で
+ * 変換対象の型ごとに解決し、ResultSetの全行で再利用する.
+ */
+@FunctionalInterface
+public interface ColumnReader {
+	/**
+	 * プロパティの型に変換した値を取得します
+	 *
+	 * @param rs ResultSet
+	 * @param columnIndex 変換対象データのカラムIndex
+	 * @return プロパティの型に変換した値
+	 * @throws SQLException SQL例外
+	 */
+	Object read(ResultSet rs, int columnIndex) throws SQLException;
+}
@@ -11,8 +11,12 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -37,6 +41,9 @@ public final class PropertyMapperManager {
 			new ArrayPropertyMapper()
 	};
 
+	/** 基本型の読み込み処理 */
+	private static final Map<Class<?>, ColumnReader> BASIC_READERS = createBasicReaders();
+
 	/** Serviceに登録されたMapper */
 	private static final List<PropertyMapper<?>> LOADED_MAPPERS = load();
 
@@ -46,6 +53,59 @@ public final class PropertyMapperManager {
 		return list;
 	}
 
+	private static Map<Class<?>, ColumnReader> createBasicReaders() {
+		Map<Class<?>, ColumnReader> readers = new HashMap<>();
+		readers.put(String.class, ResultSet::getString);
+		readers.put(Boolean.class, (rs, i) -> {
+			boolean result = rs.getBoolean(i);
+			return rs.wasNull() ? null : result;
+		});
+		readers.put(boolean.class, ResultSet::getBoolean);
+		readers.put(Byte.class, (rs, i) -> {
+			byte result = rs.getByte(i);
+			return rs.wasNull() ? null : result;
+		});
+		readers.put(byte.class, ResultSet::getByte);
+		readers.put(Short.class, (rs, i) -> {
+			short result = rs.getShort(i);
+			return rs.wasNull() ? null : result;
+		});
+		readers.put(short.class, ResultSet::getShort);
+		readers.put(Integer.class, (rs, i) -> {
+			int result = rs.getInt(i);
+			return rs.wasNull() ? null : result;
+		});
+		readers.put(int.class, ResultSet::getInt);
+		readers.put(Long.class, (rs, i) -> {
+			long result = rs.getLong(i);
+			return rs.wasNull() ? null : result;
+		});
+		readers.put(long.class, ResultSet::getLong);
+		readers.put(Float.class, (rs, i) -> {
+			float result = rs.getFloat(i);
+			return rs.wasNull() ? null : result;
+		});
+		readers.put(float.class, ResultSet::getFloat);
+		readers.put(Double.class, (rs, i) -> {
+			double result = rs.getDouble(i);
+			return rs.wasNull() ? null : result;
+		});
+		readers.put(double.class, ResultSet::getDouble);
+		readers.put(BigDecimal.class, ResultSet::getBigDecimal);
+		readers.put(byte[].class, ResultSet::getBytes);
+		readers.put(java.sql.Timestamp.class, ResultSet::getTimestamp);
+		readers.put(java.sql.Time.class, ResultSet::getTime);
+		readers.put(java.sql.Date.class, ResultSet::getDate);
+		readers.put(Date.class, ResultSet::getTimestamp);
+		readers.put(java.sql.Array.class, ResultSet::getArray);
+		readers.put(java.sql.Blob.class, ResultSet::getBlob);
+		readers.put(java.sql.Clob.class, ResultSet::getClob);
+		readers.put(java.sql.NClob.class, ResultSet::getNClob);
+		readers.put(java.sql.Ref.class, ResultSet::getRef);
+		readers.put(java.sql.SQLXML.class, ResultSet::getSQLXML);
+		return Collections.unmodifiableMap(readers);
+	}
+
 	/** プロパティMapperのリスト */
 	private final List<PropertyMapper<?>> mappers;
 
@@ -109,126 +169,90 @@ public final class PropertyMapperManager {
 			}
 		}
 
-		if (String.class.equals(rawType)) {
-			return rs.getString(columnIndex);
-		}
-		if (Boolean.class.equals(rawType)) {
-			boolean result = rs.getBoolean(columnIndex);
-			if (rs.wasNull()) {
-				return null;
-			}
-			return result;
-		}
-		if (boolean.class.equals(rawType)) {
-			return rs.getBoolean(columnIndex);
-		}
-		if (Byte.class.equals(rawType)) {
-			byte result = rs.getByte(columnIndex);
-			if (rs.wasNull()) {
-				return null;
-			}
-			return result;
-		}
-		if (byte.class.equals(rawType)) {
-			return rs.getByte(columnIndex);
+		ColumnReader reader = BASIC_READERS.get(rawType);
+		if (reader != null) {
+			return reader.read(rs, columnIndex);
 		}
-		if (Short.class.equals(rawType)) {
-			short result = rs.getShort(columnIndex);
-			if (rs.wasNull()) {
-				return null;
-			}
-			return result;
-		}
-		if (short.class.equals(rawType)) {
-			return rs.getShort(columnIndex);
+
+		if (dateTimeApiPropertyMapper.canAccept(rawType)
+				&& dateTimeApiPropertyMapper.canAcceptTest(type, rs, columnIndex, this)) {
+			return dateTimeApiPropertyMapper.getValue(type, rs, columnIndex, this);
 		}
-		if (Integer.class.equals(rawType)) {
-			int result = rs.getInt(columnIndex);
-			if (rs.wasNull()) {
-				return null;
+
+		for (PropertyMapper<?> propertyMapper : DEFAULT_MAPPERS) {
+			if (propertyMapper.canAccept(rawType) && propertyMapper.canAcceptTest(type, rs, columnIndex, this)) {
+				return propertyMapper.getValue(type, rs, columnIndex, this);
 			}
-			return result;
 		}
-		if (int.class.equals(rawType)) {
-			return rs.getInt(columnIndex);
-		}
-		if (Long.class.equals(rawType)) {
-			long result = rs.getLong(columnIndex);
-			if (rs.wasNull()) {
-				return null;
+		return rs.getObject(columnIndex);
+	}
+
+	/**
+	 * 指定した型の値を読み込む{@link ColumnReader}を取得する.<br>
+	 * 変換に利用する{@link PropertyMapper}の選択は型に対して一度だけ行うため、
+	 * 同じResultSetの全行で再利用することで行ごとのMapperの探索を省略できる.
+	 * 値によって変換可否が変わる({@link PropertyMapper#canAcceptTest}を実装している)Mapperが対象となる場合は、
+	 * 行ごとに{@link #getValue(JavaType, ResultSet, int)}で判定を行う.
+	 *
+	 * @param type 変換対象の型
+	 * @return ColumnReader
+	 */
+	public ColumnReader getColumnReader(final JavaType type) {
+		Class<?> rawType = type.getRawType();
+		for (PropertyMapper<?> propertyMapper : this.mappers) {
+			if (propertyMapper.canAccept(rawType)) {
+				return toColumnReader(type, propertyMapper);
 			}
-			return result;
 		}
-		if (long.class.equals(rawType)) {
-			return rs.getLong(columnIndex);
-		}
-		if (Float.class.equals(rawType)) {
-			float result = rs.getFloat(columnIndex);
-			if (rs.wasNull()) {
-				return null;
-			}
-			return result;
+
+		ColumnReader reader = BASIC_READERS.get(rawType);
+		if (reader != null) {
+			return reader;
 		}
-		if (float.class.equals(rawType)) {
-			return rs.getFloat(columnIndex);
+
+		if (dateTimeApiPropertyMapper.canAccept(rawType)) {
+			return toColumnReader(type, dateTimeApiPropertyMapper);
 		}
-		if (Double.class.equals(rawType)) {
-			double result = rs.getDouble(columnIndex);
-			if (rs.wasNull()) {
-				return null;
+
+		for (PropertyMapper<?> propertyMapper : DEFAULT_MAPPERS) {
+			if (propertyMapper.canAccept(rawType)) {
+				return toColumnReader(type, propertyMapper);
 			}
-			return result;
-		}
-		if (double.class.equals(rawType)) {
-			return rs.getDouble(columnIndex);
-		}
-		if (BigDecimal.class.equals(rawType)) {
-			return rs.getBigDecimal(columnIndex);
-		}
-		if (byte[].class.equals(rawType)) {
-			return rs.getBytes(columnIndex);
-		}
-		if (java.sql.Timestamp.class.equals(rawType)) {
-			return rs.getTimestamp(columnIndex);
-		}
-		if (java.sql.Time.class.equals(rawType)) {
-			return rs.getTime(columnIndex);
-		}
-		if (java.sql.Date.class.equals(rawType)) {
-			return rs.getDate(columnIndex);
-		}
-		if (Date.class.equals(rawType)) {
-			return rs.getTimestamp(columnIndex);
-		}
-		if (java.sql.Array.class.equals(rawType)) {
-			return rs.getArray(columnIndex);
-		}
-		if (java.sql.Blob.class.equals(rawType)) {
-			return rs.getBlob(columnIndex);
-		}
-		if (java.sql.Clob.class.equals(rawType)) {
-			return rs.getClob(columnIndex);
-		}
-		if (java.sql.NClob.class.equals(rawType)) {
-			return rs.getNClob(columnIndex);
-		}
-		if (java.sql.Ref.class.equals(rawType)) {
-			return rs.getRef(columnIndex);
-		}
-		if (java.sql.SQLXML.class.equals(rawType)) {
-			return rs.getSQLXML(columnIndex);
 		}
+		return ResultSet::getObject;
+	}
 
-		if (dateTimeApiPropertyMapper.canAccept(rawType)
-				&& dateTimeApiPropertyMapper.canAcceptTest(type, rs, columnIndex, this)) {
-			return dateTimeApiPropertyMapper.getValue(type, rs, columnIndex, this);
+	/**
+	 * PropertyMapperを利用するColumnReaderを生成する
+	 *
+	 * @param type 変換対象の型
+	 * @param propertyMapper 変換に利用するPropertyMapper
+	 * @return ColumnReader
+	 */
+	private ColumnReader toColumnReader(final JavaType type, final PropertyMapper<?> propertyMapper) {
+		if (hasCanAcceptTest(propertyMapper)) {
+			// 値によって変換可否が変わるため、行ごとに判定する
+			return (rs, columnIndex) -> getValue(type, rs, columnIndex);
 		}
+		if (propertyMapper.getClass() == OptionalPropertyMapper.class) {
+			ColumnReader reader = getColumnReader(type.getParam(0));
+			return (rs, columnIndex) -> Optional.ofNullable(reader.read(rs, columnIndex));
+		}
+		return (rs, columnIndex) -> propertyMapper.getValue(type, rs, columnIndex, this);
+	}
 
-		for (PropertyMapper<?> propertyMapper : DEFAULT_MAPPERS) {
-			if (propertyMapper.canAccept(rawType) && propertyMapper.canAcceptTest(type, rs, columnIndex, this)) {
-				return propertyMapper.getValue(type, rs, columnIndex, this);
-			}
+	/**
+	 * PropertyMapperが{@link PropertyMapper#canAcceptTest}を実装しているかどうかを判定する
+	 *
+	 * @param propertyMapper 判定対象のPropertyMapper
+	 * @return 実装している場合<code>true</code>
+	 */
+	private static boolean hasCanAcceptTest(final PropertyMapper<?> propertyMapper) {
+		try {
+			return !PropertyMapper.class.equals(propertyMapper.getClass().getMethod("canAcceptTest", JavaType.class,
+					ResultSet.class, int.class, PropertyMapperManager.class).getDeclaringClass());
+		} catch (NoSuchMethodException ex) {
+			return true;
 		}
-		return rs.getObject(columnIndex);
 	}
 }
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jp.co.future.uroborosql.enums.SqlKind;
+
+/**
+ * SQL実行メトリクスをメモリ上のヒストグラムに記録する実装.<br>
+ * SQL名、SQL種別、メトリクスの種類ごとに{@link SqlHistogram}を保持し、{@link #getHistograms()}で参照できる.
+ * 保持するヒストグラムの数はシステムプロパティ<code>uroborosql.metrics.max.size</code>で指定し(デフォルト:2000)、
+ * 上限に達した後の新たな組み合わせは記録せずに件数のみを数える. デフォルトの上限でのヒストグラムの使用メモリは約6MBとなる.
+ */
+public class InMemorySqlMetrics implements SqlMetrics {
+	/** 保持するヒストグラムの最大数 */
+	private static final int MAX_SIZE = Integer.valueOf(System.getProperty("uroborosql.metrics.max.size", "2000"));
+
+	/** ヒストグラム */
+	private final ConcurrentHashMap<SqlMetricKey, SqlHistogram> histograms = new ConcurrentHashMap<>();
+
+	/** 上限を超えたため記録しなかった件数 */
+	private final LongAdder droppedCount = new LongAdder();
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.metrics.SqlMetrics#record(java.lang.String,
+	 *      jp.co.future.uroborosql.enums.SqlKind, jp.co.future.uroborosql.metrics.SqlMetricType, long)
+	 */
+	@Override
+	public void record(final String sqlName, final SqlKind sqlKind, final SqlMetricType type, final long value) {
+		SqlMetricKey key = new SqlMetricKey(sqlName, sqlKind, type);
+		SqlHistogram histogram = histograms.get(key);
+		if (histogram == null) {
+			if (histograms.size() >= MAX_SIZE) {
+				droppedCount.increment();
+				return;
+			}
+			histogram = histograms.computeIfAbsent(key, k -> new SqlHistogram());
+		}
+		histogram.record(value);
+	}
+
+	/**
+	 * ヒストグラムを取得する
+	 *
+	 * @param sqlName SQL名
+	 * @param sqlKind SQL種別
+	 * @param type メトリクスの種類
+	 * @return ヒストグラム. 記録がない場合は<code>null</code>
+	 */
+	public SqlHistogram getHistogram(final String sqlName, final SqlKind sqlKind, final SqlMetricType type) {
+		return histograms.get(new SqlMetricKey(sqlName, sqlKind, type));
+	}
+
+	/**
+	 * 記録したすべてのヒストグラムを取得する
+	 *
+	 * @return キーとヒストグラムのMap(参照のみ)
+	 */
+	public Map<SqlMetricKey, SqlHistogram> getHistograms() {
+		return Collections.unmodifiableMap(histograms);
+	}
+
+	/**
+	 * 保持するヒストグラムの上限を超えたため記録しなかった件数を取得する
+	 *
+	 * @return 記録しなかった件数
+	 */
+	public long getDroppedCount() {
+		return droppedCount.sum();
+	}
+
+	/**
+	 * 記録した内容をすべてクリアする
+	 */
+	public void clear() {
+		histograms.clear();
+		droppedCount.reset();
+	}
+}
@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 値の分布を記録するヒストグラム.<br>
+ * 値を2の累乗ごとの区間に分け、各区間をさらに8等分したバケットで件数を数える.
+ * 記録はロックを使用せず固定長の配列の加算のみで行い、パーセンタイルの誤差は約13%以内となる.
+ * バケットの範囲は2^44(ナノ秒で約4.9時間)未満とし、それ以上の値は最後のバケットに数える. 1つのヒストグラムの配列は約2.7KBとなる.
+ */
+public class SqlHistogram {
+	/** 値をそのまま添字とする範囲のビット数 */
+	private static final int SUB_BUCKET_BITS = 4;
+	/** 値をそのまま添字とする範囲 */
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	/** 2の累乗ごとの区間の分割数 */
+	private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+	/** バケットで区別する値の範囲のビット数 */
+	private static final int HIGHEST_BITS = 44;
+	/** バケットの数 */
+	static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (HIGHEST_BITS - SUB_BUCKET_BITS) * HALF_SUB_BUCKET_COUNT;
+
+	/** バケットごとの件数 */
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	/** 件数 */
+	private final LongAdder totalCount = new LongAdder();
+	/** 合計値 */
+	private final LongAdder totalValue = new LongAdder();
+	/** 最小値 */
+	private final LongAccumulator minValue = new LongAccumulator(Math::min, Long.MAX_VALUE);
+	/** 最大値 */
+	private final LongAccumulator maxValue = new LongAccumulator(Math::max, 0L);
+
+	/**
+	 * 値を記録する. 負の値は0として記録する
+	 *
+	 * @param value 値
+	 */
+	public void record(final long value) {
+		long v = Math.max(value, 0L);
+		counts.incrementAndGet(indexOf(v));
+		totalCount.increment();
+		totalValue.add(v);
+		minValue.accumulate(v);
+		maxValue.accumulate(v);
+	}
+
+	/**
+	 * 記録した件数を取得する
+	 *
+	 * @return 件数
+	 */
+	public long getCount() {
+		return totalCount.sum();
+	}
+
+	/**
+	 * 記録した値の合計を取得する
+	 *
+	 * @return 合計値
+	 */
+	public long getSum() {
+		return totalValue.sum();
+	}
+
+	/**
+	 * 記録した値の最小値を取得する
+	 *
+	 * @return 最小値. 記録がない場合は0
+	 */
+	public long getMin() {
+		long min = minValue.get();
+		return min == Long.MAX_VALUE ? 0L : min;
+	}
+
+	/**
+	 * 記録した値の最大値を取得する
+	 *
+	 * @return 最大値. 記録がない場合は0
+	 */
+	public long getMax() {
+		return maxValue.get();
+	}
+
+	/**
+	 * 記録した値の平均を取得する
+	 *
+	 * @return 平均値. 記録がない場合は0
+	 */
+	public double getMean() {
+		long count = getCount();
+		return count == 0 ? 0.0 : (double) getSum() / count;
+	}
+
+	/**
+	 * 指定したパーセンタイルの値を取得する. 値は該当するバケットの上限値(最大値を超えない)となる
+	 *
+	 * @param percentile パーセンタイル(0～100)
+	 * @return パーセンタイルの値. 記録がない場合は0
+	 */
+	public long getValueAtPercentile(final double percentile) {
+		long[] snapshot = new long[BUCKET_COUNT];
+		long count = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			snapshot[i] = counts.get(i);
+			count += snapshot[i];
+		}
+		if (count == 0) {
+			return 0L;
+		}
+		double p = Math.min(Math.max(percentile, 0.0), 100.0);
+		long target = Math.max((long) Math.ceil(p / 100.0 * count), 1L);
+		long accumulated = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			accumulated += snapshot[i];
+			if (accumulated >= target) {
+				return i == BUCKET_COUNT - 1 ? getMax() : Math.min(highestValueOf(i), getMax());
+			}
+		}
+		return getMax();
+	}
+
+	/**
+	 * 記録した内容をクリアする
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			counts.set(i, 0L);
+		}
+		totalCount.reset();
+		totalValue.reset();
+		minValue.reset();
+		maxValue.reset();
+	}
+
+	/**
+	 * 値を格納するバケットの添字を取得する
+	 *
+	 * @param value 値(0以上)
+	 * @return バケットの添字. バケットの範囲を超える値は最後のバケットの添字
+	 */
+	static int indexOf(final long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+		if (value >>> HIGHEST_BITS != 0) {
+			return BUCKET_COUNT - 1;
+		}
+		int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		int top = (int) (value >>> shift);
+		return SUB_BUCKET_COUNT + (shift - 1) * HALF_SUB_BUCKET_COUNT + top - HALF_SUB_BUCKET_COUNT;
+	}
+
+	/**
+	 * バケットに格納される値の上限を取得する
+	 *
+	 * @param index バケットの添字
+	 * @return 値の上限
+	 */
+	static long highestValueOf(final int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+		int shift = (index - SUB_BUCKET_COUNT) / HALF_SUB_BUCKET_COUNT + 1;
+		long top = (index - SUB_BUCKET_COUNT) % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+		return ((top + 1) << shift) - 1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "SqlHistogram [count=" + getCount() + ", min=" + getMin() + ", mean=" + getMean() + ", p50="
+				+ getValueAtPercentile(50.0) + ", p99=" + getValueAtPercentile(99.0) + ", max=" + getMax() + "]";
+	}
+}
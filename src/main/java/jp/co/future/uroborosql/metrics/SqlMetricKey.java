@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.metrics;
+
+import java.util.Objects;
+
+import jp.co.future.uroborosql.enums.SqlKind;
+
+/**
+ * SQL実行メトリクスの集計単位を表すキー
+ */
+public final class SqlMetricKey {
+	/** SQL名 */
+	private final String sqlName;
+	/** SQL種別 */
+	private final SqlKind sqlKind;
+	/** メトリクスの種類 */
+	private final SqlMetricType type;
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param sqlName SQL名
+	 * @param sqlKind SQL種別
+	 * @param type メトリクスの種類
+	 */
+	public SqlMetricKey(final String sqlName, final SqlKind sqlKind, final SqlMetricType type) {
+		this.sqlName = sqlName;
+		this.sqlKind = sqlKind;
+		this.type = type;
+	}
+
+	/**
+	 * SQL名を取得する
+	 *
+	 * @return SQL名
+	 */
+	public String getSqlName() {
+		return sqlName;
+	}
+
+	/**
+	 * SQL種別を取得する
+	 *
+	 * @return SQL種別
+	 */
+	public SqlKind getSqlKind() {
+		return sqlKind;
+	}
+
+	/**
+	 * メトリクスの種類を取得する
+	 *
+	 * @return メトリクスの種類
+	 */
+	public SqlMetricType getType() {
+		return type;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(sqlName, sqlKind, type);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof SqlMetricKey)) {
+			return false;
+		}
+		SqlMetricKey other = (SqlMetricKey) obj;
+		return Objects.equals(sqlName, other.sqlName) && sqlKind == other.sqlKind && type == other.type;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return sqlName + "(" + sqlKind + ")." + type;
+	}
+}
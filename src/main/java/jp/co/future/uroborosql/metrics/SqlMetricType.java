@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.metrics;
+
+/**
+ * SQL実行メトリクスの種類.<br>
+ * 処理時間はナノ秒、件数は件数をそのまま値として記録する.
+ */
+public enum SqlMetricType {
+	/** SQLテンプレートの読み込み時間 */
+	TEMPLATE_LOAD(true),
+	/** SQLの解析時間. 解析済みSQLのキャッシュから取得した場合を含む */
+	PARSE(true),
+	/** SQLの変換時間 */
+	TRANSFORM(true),
+	/** パラメータのバインド時間 */
+	BIND(true),
+	/** SQLの実行時間 */
+	EXECUTE(true),
+	/** 検索SQLの実行後、最初の行を取得するまでの時間 */
+	FIRST_ROW(true),
+	/** 検索SQLの実行後、結果セットをクローズするまでの時間 */
+	FETCH(true),
+	/** 検索結果の変換時間の合計 */
+	CONVERT(true),
+	/** 検索件数または更新件数 */
+	ROW_COUNT(false),
+	/** バッチサイズ */
+	BATCH_SIZE(false),
+	/** リトライ回数 */
+	RETRY_COUNT(false);
+
+	/** 処理時間かどうか */
+	private final boolean time;
+
+	SqlMetricType(final boolean time) {
+		this.time = time;
+	}
+
+	/**
+	 * 処理時間を表すメトリクスかどうかを取得する
+	 *
+	 * @return 処理時間(ナノ秒)の場合<code>true</code>
+	 */
+	public boolean isTime() {
+		return time;
+	}
+}
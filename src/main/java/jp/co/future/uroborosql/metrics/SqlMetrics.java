@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.metrics;
+
+import jp.co.future.uroborosql.enums.SqlKind;
+
+/**
+ * SQL実行メトリクスの記録先インタフェース.<br>
+ * SQL名とSQL種別ごとに、SQLの解析から実行、結果の取得までの各処理時間と件数を受け取る.
+ * SQLを実行するスレッドから呼び出されるため、実装はスレッドセーフかつ低負荷であること.
+ */
+@FunctionalInterface
+public interface SqlMetrics {
+	/**
+	 * メトリクスを記録する
+	 *
+	 * @param sqlName SQL名. SQL名がない場合はSQL-ID、またはSQL-IDもない場合は空文字
+	 * @param sqlKind SQL種別
+	 * @param type メトリクスの種類
+	 * @param value 値. 処理時間の場合はナノ秒
+	 */
+	void record(String sqlName, SqlKind sqlKind, SqlMetricType type, long value);
+
+	/**
+	 * メトリクスを記録するかどうか. <code>false</code>の場合は計測自体を行わない
+	 *
+	 * @return 記録する場合<code>true</code>
+	 */
+	default boolean isEnabled() {
+		return true;
+	}
+}
@@ -35,9 +35,7 @@ public class BeginNode extends BranchNode {
 		TransformContext childCtx = transformContext.copyTransformContext();
 		super.accept(childCtx);
 		if (childCtx.isEnabled()) {
-			transformContext.addSqlPart(childCtx.getExecutableSql());
-			transformContext.addBindNames(childCtx.getBindNames());
-			transformContext.addBindVariables(childCtx.getBindVariables());
+			transformContext.addTransformContext(childCtx);
 			passState(true);
 		} else {
 			passState(false);
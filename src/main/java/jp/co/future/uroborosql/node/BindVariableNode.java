@@ -51,4 +51,15 @@ public class BindVariableNode extends ExpressionNode {
 		transformContext.addBindVariable(value);
 		pass();
 	}
+
+	/**
+	 * バインド変数の値のみを評価してTransformコンテキストに追加する.<br>
+	 * SQL文とバインド変数名の追加は行わないため、整形済みのSQLを利用する場合に使用する.
+	 *
+	 * @param transformContext Transformコンテキスト
+	 */
+	public void acceptBindVariable(final TransformContext transformContext) {
+		transformContext.addBindVariable(eval(transformContext));
+		pass();
+	}
 }
@@ -7,6 +7,7 @@
 package jp.co.future.uroborosql.node;
 
 import jp.co.future.uroborosql.expr.ExpressionParser;
+import jp.co.future.uroborosql.parser.SqlShape;
 import jp.co.future.uroborosql.parser.TransformContext;
 
 /**
@@ -61,6 +62,11 @@ public class EmbeddedValueNode extends ExpressionNode {
 		Object value = eval(transformContext);
 
 		if (value != null) {
+			// 値によってSQLの文字列が変わるため、SQLの形を特定できない
+			SqlShape shape = transformContext.getShape();
+			if (shape != null) {
+				shape.invalidate();
+			}
 			if (wrap) {
 				transformContext.addSqlPart("'").addSqlPart(escapeSql(value)).addSqlPart("'/*#").addSqlPart(expression)
 						.addSqlPart("*/");
@@ -13,6 +13,7 @@ import jp.co.future.uroborosql.coverage.PassedRoute;
 import jp.co.future.uroborosql.exception.IllegalBoolExpressionRuntimeException;
 import jp.co.future.uroborosql.expr.Expression;
 import jp.co.future.uroborosql.expr.ExpressionParser;
+import jp.co.future.uroborosql.parser.SqlShape;
 import jp.co.future.uroborosql.parser.TransformContext;
 
 /**
@@ -110,6 +111,10 @@ public class IfNode extends BranchNode {
 				}
 			}
 			passState(resultValue);
+			SqlShape shape = transformContext.getShape();
+			if (shape != null) {
+				shape.add(resultValue ? 1 : 0);
+			}
 			if (resultValue) {
 				transformContext.setEnabled(true);
 				super.accept(transformContext);
@@ -12,6 +12,7 @@ import java.util.List;
 
 import jp.co.future.uroborosql.exception.ParameterNotFoundRuntimeException;
 import jp.co.future.uroborosql.expr.ExpressionParser;
+import jp.co.future.uroborosql.parser.SqlShape;
 import jp.co.future.uroborosql.parser.TransformContext;
 
 /**
@@ -76,12 +77,37 @@ public class ParenBindVariableNode extends ExpressionNode {
 			throw new ParameterNotFoundRuntimeException("Parameter is not set. [" + expression + "]");
 		}
 
+		SqlShape shape = transformContext.getShape();
+		if (transformContext.bindInListAsArray(expression, values)) {
+			// 配列パラメータとしてバインドする場合は要素数に関わらず1つのバインド変数とする
+			if (shape != null) {
+				shape.add(-1);
+			}
+			transformContext.addSqlPart("(?)");
+			transformContext.addBindVariable(values);
+			if (outputBindComment) {
+				transformContext.addSqlPart("/*").addSqlPart(expression).addSqlPart("*/");
+			}
+			transformContext.addBindName(expression);
+			return;
+		}
+
 		transformContext.addSqlPart("(?");
 		transformContext.addBindVariable(Array.get(values, 0));
 		for (int i = 1; i < length; i++) {
 			transformContext.addSqlPart(", ?");
 			transformContext.addBindVariable(Array.get(values, i));
 		}
+		// IN句のパディングが有効な場合は最後の要素を繰り返してSQLの形を揃える
+		int paddedLength = transformContext.padInList(length);
+		if (shape != null) {
+			shape.add(Math.max(length, paddedLength));
+		}
+		Object last = Array.get(values, length - 1);
+		for (int i = length; i < paddedLength; i++) {
+			transformContext.addSqlPart(", ?");
+			transformContext.addBindVariable(last);
+		}
 		transformContext.addSqlPart(")");
 		if (outputBindComment) {
 			transformContext.addSqlPart("/*").addSqlPart(expression).addSqlPart("*/");
@@ -30,6 +30,22 @@ public class PrefixSqlNode extends SqlNode {
 		this.prefix = prefix;
 	}
 
+	/**
+	 * コンストラクタ<br>
+	 * SQL文を解析対象SQLの範囲で指定し、部分文字列を生成せずに保持する.
+	 *
+	 * @param position 開始位置
+	 * @param prefix プレフィックス
+	 * @param source SQL文を含む文字列
+	 * @param start SQL文の開始位置
+	 * @param end SQL文の終了位置
+	 */
+	public PrefixSqlNode(final int position, final String prefix, final String source, final int start,
+			final int end) {
+		super(position, prefix.length(), source, start, end);
+		this.prefix = prefix;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
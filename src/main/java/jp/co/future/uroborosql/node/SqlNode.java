@@ -15,8 +15,14 @@ import jp.co.future.uroborosql.parser.TransformContext;
  */
 public class SqlNode extends AbstractNode {
 
-	/** SQL文 */
-	private final String sqlPart;
+	/** SQL文を含む文字列 */
+	private final String source;
+
+	/** SQL文の開始位置 */
+	private final int start;
+
+	/** SQL文の終了位置 */
+	private final int end;
 
 	/**
 	 * コンストラクタ
@@ -25,8 +31,7 @@ public class SqlNode extends AbstractNode {
 	 * @param sqlPart SQL文
 	 */
 	public SqlNode(final int position, final String sqlPart) {
-		super(position, sqlPart.length());
-		this.sqlPart = sqlPart;
+		this(position, 0, sqlPart, 0, sqlPart.length());
 	}
 
 	/**
@@ -37,8 +42,24 @@ public class SqlNode extends AbstractNode {
 	 * @param sqlPart SQL文
 	 */
 	public SqlNode(final int position, final int addLength, final String sqlPart) {
-		super(position, addLength + sqlPart.length());
-		this.sqlPart = sqlPart;
+		this(position, addLength, sqlPart, 0, sqlPart.length());
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * SQL文を解析対象SQLの範囲で指定し、部分文字列を生成せずに保持する.
+	 *
+	 * @param position 開始位置
+	 * @param addLength 追加データ長
+	 * @param source SQL文を含む文字列
+	 * @param start SQL文の開始位置
+	 * @param end SQL文の終了位置
+	 */
+	public SqlNode(final int position, final int addLength, final String source, final int start, final int end) {
+		super(position, addLength + end - start);
+		this.source = source;
+		this.start = start;
+		this.end = end;
 	}
 
 	/**
@@ -47,7 +68,7 @@ public class SqlNode extends AbstractNode {
 	 * @return SQL文
 	 */
 	public String getSql() {
-		return sqlPart;
+		return start == 0 && end == source.length() ? source : source.substring(start, end);
 	}
 
 	/**
@@ -57,7 +78,7 @@ public class SqlNode extends AbstractNode {
 	 */
 	@Override
 	public void accept(final TransformContext transformContext) {
-		transformContext.addSqlPart(sqlPart);
+		transformContext.addSqlPart(source, start, end);
 		pass();
 	}
 }
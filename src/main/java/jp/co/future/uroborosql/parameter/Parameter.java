@@ -12,8 +12,11 @@ import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.SQLType;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.IntUnaryOperator;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -130,6 +133,32 @@ public class Parameter {
 		return new Parameter(subParameterName, subValue);
 	}
 
+	/**
+	 * IN句のパディング用に、値の要素数を最後の要素の繰り返しで拡張したパラメータを生成する。
+	 *
+	 * @param paddingSize 要素数から拡張後の要素数を求める関数
+	 * @return 拡張したパラメータ. 値がIterableでない場合や拡張が不要な場合は自身
+	 */
+	public Parameter createPaddedParameter(final IntUnaryOperator paddingSize) {
+		if (!(value instanceof Iterable)) {
+			return this;
+		}
+		List<Object> values = new ArrayList<>();
+		for (Object e : (Iterable<?>) value) {
+			values.add(e);
+		}
+		int size = values.size();
+		int paddedSize = paddingSize.applyAsInt(size);
+		if (size == 0 || paddedSize <= size) {
+			return this;
+		}
+		Object last = values.get(size - 1);
+		for (int i = size; i < paddedSize; i++) {
+			values.add(last);
+		}
+		return new Parameter(parameterName, values, sqlType);
+	}
+
 	/**
 	 * ステートメントへパラメータ値をバインド。
 	 *
@@ -70,6 +70,15 @@ public final class BindParameterMapperManager {
 				.forEach(m -> ((BindParameterMapperWithClock<?>) m).setClock(clock));
 	}
 
+	/**
+	 * コピーコンストラクタ. Clockはコピー元と同じものを使用する.
+	 *
+	 * @param parameterMapperManager コピー元のパラメータ変換クラス
+	 */
+	public BindParameterMapperManager(final BindParameterMapperManager parameterMapperManager) {
+		this(parameterMapperManager, parameterMapperManager.clock);
+	}
+
 	/**
 	 * コピーコンストラクタ
 	 *
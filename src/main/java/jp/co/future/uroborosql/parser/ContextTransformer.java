@@ -6,18 +6,43 @@
  */
 package jp.co.future.uroborosql.parser;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import jp.co.future.uroborosql.coverage.PassedRoute;
+import jp.co.future.uroborosql.node.BindVariableNode;
+import jp.co.future.uroborosql.node.ContainerNode;
 import jp.co.future.uroborosql.node.Node;
+import jp.co.future.uroborosql.node.SqlNode;
+import jp.co.future.uroborosql.utils.BoundedCache;
 
 /**
- * Transformコンテキストの変換器
+ * Transformコンテキストの変換器<br>
+ * 分岐や埋め込み文字を含まず、SQL文とバインド変数のみで構成される静的なSQLの場合は、
+ * 初回の変換結果(整形済みの実行時SQLとバインド変数名)を保持し、2回目以降はバインド変数の評価のみを行う.
+ * 分岐を含むSQLの場合は、分岐の評価結果やIN句の要素数で決まるSQLの形({@link SqlShape})ごとに整形済みのSQLを保持し、
+ * 同じ形のSQLとなった場合はSQLの整形処理を省略する. 埋め込み文字を置換した場合は整形済みのSQLを保持しない.
  *
  * @author H.Sugimoto
  */
 public class ContextTransformer {
+	/** 整形済みSQLのキャッシュの最大数. 0以下の場合はキャッシュしない */
+	private static final int FORMATTED_SQL_CACHE_SIZE = Integer
+			.valueOf(System.getProperty("uroborosql.sql.format.cache.size", "32"));
+
 	/** ルートノード */
 	private final Node root;
 
+	/** 静的なSQLの場合のバインド変数ノード. 静的なSQLでない場合は<code>null</code> */
+	private final BindVariableNode[] staticBindNodes;
+
+	/** 静的なSQLの変換結果. 初回の変換時に設定する */
+	private volatile StaticResult staticResult;
+
+	/** 変換後のSQLの形をキーとした整形済みSQLのキャッシュ. 静的なSQLの場合は<code>null</code> */
+	private final BoundedCache<SqlShape, String> formattedSqlCache;
+
 	/**
 	 * コンストラクタ
 	 *
@@ -25,6 +50,10 @@ public class ContextTransformer {
 	 */
 	public ContextTransformer(final Node root) {
 		this.root = root;
+		this.staticBindNodes = getStaticBindNodes(root);
+		this.formattedSqlCache = staticBindNodes == null && FORMATTED_SQL_CACHE_SIZE > 0
+				? new BoundedCache<>(FORMATTED_SQL_CACHE_SIZE)
+				: null;
 	}
 
 	/**
@@ -33,7 +62,100 @@ public class ContextTransformer {
 	 * @param transformContext Transformコンテキスト
 	 */
 	public void transform(final TransformContext transformContext) {
-		root.accept(transformContext);
+		if (staticBindNodes == null) {
+			if (formattedSqlCache == null) {
+				root.accept(transformContext);
+				return;
+			}
+			SqlShape shape = new SqlShape();
+			transformContext.setShape(shape);
+			try {
+				root.accept(transformContext);
+			} finally {
+				transformContext.setShape(null);
+			}
+			applyFormattedSql(transformContext, shape);
+			return;
+		}
+
+		StaticResult result = staticResult;
+		if (result != null) {
+			transformContext.setExecutableSql(result.executableSql);
+			transformContext.addBindNames(result.bindNames);
+			for (BindVariableNode node : staticBindNodes) {
+				node.acceptBindVariable(transformContext);
+			}
+		} else {
+			root.accept(transformContext);
+			// 変換前に追加されていたバインド変数名がある場合は変換結果を特定できないため保持しない
+			List<String> bindNames = transformContext.getBindNames();
+			if (bindNames.size() == staticBindNodes.length) {
+				staticResult = new StaticResult(transformContext.getExecutableSql(), bindNames);
+			}
+		}
+	}
+
+	/**
+	 * 変換後のSQLの形に対応する整形済みのSQLをキャッシュから取得してTransformコンテキストに設定する.<br>
+	 * キャッシュに存在しない場合はTransformコンテキストで整形したSQLをキャッシュする.
+	 * 埋め込み文字を置換した場合などSQLの形を特定できない場合はキャッシュを利用しない.
+	 *
+	 * @param transformContext Transformコンテキスト
+	 * @param shape 変換後のSQLの形
+	 */
+	private void applyFormattedSql(final TransformContext transformContext, final SqlShape shape) {
+		if (!shape.isValid()) {
+			return;
+		}
+		String formattedSql = formattedSqlCache.get(shape);
+		if (formattedSql != null) {
+			transformContext.setExecutableSql(formattedSql);
+		} else {
+			formattedSql = transformContext.getExecutableSql();
+			if (formattedSql != null && !formattedSql.isEmpty()) {
+				formattedSqlCache.put(shape.copy(), formattedSql);
+			}
+		}
+	}
+
+	/**
+	 * 整形済みSQLのキャッシュ数を取得する
+	 *
+	 * @return 整形済みSQLのキャッシュ数
+	 */
+	int getFormattedSqlCacheSize() {
+		return formattedSqlCache != null ? formattedSqlCache.size() : 0;
+	}
+
+	/**
+	 * 静的なSQLかどうかを判定する
+	 *
+	 * @return 分岐や埋め込み文字を含まないSQLの場合<code>true</code>
+	 */
+	public boolean isStatic() {
+		return staticBindNodes != null;
+	}
+
+	/**
+	 * ルートノードの子ノードがSQL文とバインド変数のみで構成されている場合にバインド変数ノードを取得する
+	 *
+	 * @param root ルートノード
+	 * @return バインド変数ノードの配列. 静的なSQLでない場合は<code>null</code>
+	 */
+	private static BindVariableNode[] getStaticBindNodes(final Node root) {
+		if (root.getClass() != ContainerNode.class) {
+			return null;
+		}
+		List<BindVariableNode> bindNodes = new ArrayList<>();
+		for (int i = 0; i < root.getChildSize(); i++) {
+			Node child = root.getChild(i);
+			if (child.getClass() == BindVariableNode.class) {
+				bindNodes.add((BindVariableNode) child);
+			} else if (child.getClass() != SqlNode.class) {
+				return null;
+			}
+		}
+		return bindNodes.toArray(new BindVariableNode[bindNodes.size()]);
 	}
 
 	/**
@@ -56,4 +178,18 @@ public class ContextTransformer {
 		return passed;
 	}
 
+	/**
+	 * 静的なSQLの変換結果
+	 */
+	private static final class StaticResult {
+		/** 整形済みの実行時SQL */
+		private final String executableSql;
+		/** バインド変数名のリスト */
+		private final List<String> bindNames;
+
+		StaticResult(final String executableSql, final List<String> bindNames) {
+			this.executableSql = executableSql;
+			this.bindNames = Collections.unmodifiableList(new ArrayList<>(bindNames));
+		}
+	}
 }
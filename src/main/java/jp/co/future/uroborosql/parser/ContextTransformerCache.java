@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.parser;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import jp.co.future.uroborosql.utils.BoundedCache;
+
+/**
+ * 解析済みSQL(ContextTransformer)のキャッシュ.<br>
+ * SQL名、SQL文字列、終端文字除去有無、バインドコメント出力有無をキーとして解析結果を保持する.
+ * キャッシュサイズはシステムプロパティ <code>uroborosql.sql.parse.cache.size</code> で指定する(デフォルト1000).
+ * 0以下を指定した場合はキャッシュを行わない.
+ */
+public class ContextTransformerCache {
+	/** キャッシュサイズのデフォルト値 */
+	private static final int DEFAULT_CACHE_SIZE = Integer
+			.valueOf(System.getProperty("uroborosql.sql.parse.cache.size", "1000"));
+
+	/** キャッシュ */
+	private final BoundedCache<CacheKey, ContextTransformer> cache;
+
+	/**
+	 * コンストラクタ
+	 */
+	public ContextTransformerCache() {
+		this(DEFAULT_CACHE_SIZE);
+	}
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param maxSize キャッシュの最大サイズ. 0以下の場合はキャッシュを行わない
+	 */
+	public ContextTransformerCache(final int maxSize) {
+		this.cache = new BoundedCache<>(maxSize);
+	}
+
+	/**
+	 * 解析済みSQLを取得する. キャッシュに存在しない場合は<code>parser</code>を用いて解析し、キャッシュに格納する.
+	 *
+	 * @param sqlName SQL名
+	 * @param sql SQL文字列
+	 * @param removeTerminator 終端文字（;）を除去するかどうか
+	 * @param outputBindComment バインド変数置換後にバインド変数のコメント文字列を出力するかどうか
+	 * @param parser キャッシュに存在しない場合に解析を行うSupplier
+	 * @return 解析済みSQL
+	 */
+	public ContextTransformer get(final String sqlName, final String sql, final boolean removeTerminator,
+			final boolean outputBindComment, final Supplier<ContextTransformer> parser) {
+		return cache.get(new CacheKey(sqlName, sql, removeTerminator, outputBindComment), key -> parser.get());
+	}
+
+	/**
+	 * 指定したSQL名の解析済みSQLをキャッシュから除外する
+	 *
+	 * @param sqlName SQL名
+	 */
+	public void invalidate(final String sqlName) {
+		cache.removeIf(key -> Objects.equals(key.sqlName, sqlName));
+	}
+
+	/**
+	 * キャッシュをクリアする
+	 */
+	public void clear() {
+		cache.clear();
+	}
+
+	/**
+	 * キャッシュされている解析済みSQLの数を取得する
+	 *
+	 * @return キャッシュされている解析済みSQLの数
+	 */
+	public int size() {
+		return cache.size();
+	}
+
+	/**
+	 * キャッシュのヒット数を取得する
+	 *
+	 * @return ヒット数
+	 */
+	public long getHitCount() {
+		return cache.getHitCount();
+	}
+
+	/**
+	 * キャッシュのミス数を取得する
+	 *
+	 * @return ミス数
+	 */
+	public long getMissCount() {
+		return cache.getMissCount();
+	}
+
+	/**
+	 * キャッシュのキー
+	 */
+	private static final class CacheKey {
+		/** SQL名 */
+		private final String sqlName;
+		/** SQL文字列 */
+		private final String sql;
+		/** 終端文字（;）を除去するかどうか */
+		private final boolean removeTerminator;
+		/** バインドコメントを出力するかどうか */
+		private final boolean outputBindComment;
+		/** ハッシュ値 */
+		private final int hash;
+
+		CacheKey(final String sqlName, final String sql, final boolean removeTerminator,
+				final boolean outputBindComment) {
+			this.sqlName = sqlName;
+			this.sql = sql;
+			this.removeTerminator = removeTerminator;
+			this.outputBindComment = outputBindComment;
+			this.hash = Objects.hash(sqlName, sql, removeTerminator, outputBindComment);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey other = (CacheKey) obj;
+			return hash == other.hash
+					&& removeTerminator == other.removeTerminator
+					&& outputBindComment == other.outputBindComment
+					&& Objects.equals(sqlName, other.sqlName)
+					&& Objects.equals(sql, other.sql);
+		}
+	}
+}
@@ -31,7 +31,7 @@ import jp.co.future.uroborosql.utils.StringUtils;
  */
 public class SqlParserImpl implements SqlParser {
 	/** SQLトークナイザ */
-	private final SqlTokenizer tokenizer;
+	private final SqlTokenizerImpl tokenizer;
 
 	/** ExpressionParser */
 	private final ExpressionParser expressionParser;
@@ -94,7 +94,7 @@ public class SqlParserImpl implements SqlParser {
 			parseComment();
 			break;
 		case ELSE:
-			parseElse(tokenizer.getToken().length());
+			parseElse(tokenizer.getTokenEnd() - tokenizer.getTokenStart());
 			break;
 		case BIND_VARIABLE:
 			parseBindVariable();
@@ -106,31 +106,74 @@ public class SqlParserImpl implements SqlParser {
 	 * SQL解析
 	 */
 	protected void parseSql() {
-		String sql = tokenizer.getToken();
+		// トークンの文字列は生成せず、解析対象SQL上の範囲でノードを生成する
+		String sql = tokenizer.getSql();
+		int start = tokenizer.getTokenStart();
+		int end = tokenizer.getTokenEnd();
 		Node node = peek();
 		if ((node instanceof IfNode || node instanceof ElseNode) && node.getChildSize() == 0) {
-
-			SqlTokenizer st = new SqlTokenizerImpl(sql);
-			st.skipWhitespace();
-			String token = st.skipToken();
-			st.skipWhitespace();
-			if ("AND".equalsIgnoreCase(token) || "OR".equalsIgnoreCase(token)) {
-				node.addChild(new PrefixSqlNode(this.position, st.getBefore(), st.getAfter()));
+			int prefixEnd = getPrefixEnd(sql, start, end);
+			if (prefixEnd >= 0) {
+				node.addChild(new PrefixSqlNode(this.position, sql.substring(start, prefixEnd), sql, prefixEnd, end));
 			} else {
-				node.addChild(new SqlNode(this.position, sql));
+				node.addChild(new SqlNode(this.position, 0, sql, start, end));
 			}
 		} else {
-			node.addChild(new SqlNode(this.position, sql));
+			node.addChild(new SqlNode(this.position, 0, sql, start, end));
 		}
 		this.position = this.tokenizer.getPosition();
 	}
 
+	/**
+	 * SQLの指定範囲の先頭にあるAND/ORと、その前後の空白の終了位置を取得する
+	 *
+	 * @param sql SQL
+	 * @param from 範囲の開始位置
+	 * @param to 範囲の終了位置
+	 * @return 先頭のAND/ORと前後の空白の終了位置. 先頭がAND/ORでない場合は<code>-1</code>
+	 */
+	private static int getPrefixEnd(final String sql, final int from, final int to) {
+		int start = skipWhitespace(sql, from, to);
+		int end = start;
+		while (end < to) {
+			char c = sql.charAt(end);
+			if (Character.isWhitespace(c) || c == ',' || c == ')' || c == '('
+					|| sql.startsWith("/*", end) || sql.startsWith("--", end)) {
+				break;
+			}
+			end++;
+		}
+		int tokenLength = end - start;
+		if (tokenLength == 3 && sql.regionMatches(true, start, "AND", 0, 3)
+				|| tokenLength == 2 && sql.regionMatches(true, start, "OR", 0, 2)) {
+			return skipWhitespace(sql, end, to);
+		}
+		return -1;
+	}
+
+	/**
+	 * 空白をスキップした位置を取得する
+	 *
+	 * @param sql SQL
+	 * @param position 開始位置
+	 * @param to 範囲の終了位置
+	 * @return 空白をスキップした位置
+	 */
+	private static int skipWhitespace(final String sql, final int position, final int to) {
+		for (int i = position; i < to; i++) {
+			if (!Character.isWhitespace(sql.charAt(i))) {
+				return i;
+			}
+		}
+		return to;
+	}
+
 	/**
 	 * コメント解析
 	 */
 	protected void parseComment() {
-		String comment = tokenizer.getToken();
-		if (isTargetComment(comment)) {
+		if (isTargetComment(tokenizer.getSql(), tokenizer.getTokenStart(), tokenizer.getTokenEnd())) {
+			String comment = tokenizer.getToken();
 			if (isIfComment(comment)) {
 				parseIf();
 			} else if (isElIfComment(comment)) {
@@ -153,8 +196,9 @@ public class SqlParserImpl implements SqlParser {
 	 * 通常コメント解析
 	 */
 	protected void parseNormalComment() {
-		String comment = tokenizer.getToken();
-		SqlNode node = new SqlNode(Math.max(this.position - 2, 0), "/*" + comment + "*/");
+		// コメントの前後の"/*"と"*/"を含めた範囲でノードを生成する
+		SqlNode node = new SqlNode(Math.max(this.position - 2, 0), 0, tokenizer.getSql(),
+				tokenizer.getTokenStart() - 2, tokenizer.getTokenEnd() + 2);
 		this.position = this.tokenizer.getPosition();
 		peek().addChild(node);
 	}
@@ -297,14 +341,17 @@ public class SqlParserImpl implements SqlParser {
 	/**
 	 * 解析対象コメント判定
 	 *
-	 * @param comment
+	 * @param sql SQL
+	 * @param start コメントの開始位置
+	 * @param end コメントの終了位置
 	 * @return 解析対象の場合は<code>true</code>
 	 */
-	private static boolean isTargetComment(final String comment) {
-		return comment != null
-				&& comment.length() > 0
-				&& (Character.isJavaIdentifierStart(comment.charAt(0)) || '#' == comment.charAt(0) || '(' == comment
-						.charAt(0));
+	private static boolean isTargetComment(final String sql, final int start, final int end) {
+		if (start < 0 || start >= end) {
+			return false;
+		}
+		char c = sql.charAt(start);
+		return Character.isJavaIdentifierStart(c) || '#' == c || '(' == c;
 	}
 
 	/**
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.parser;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jp.co.future.uroborosql.config.SqlConfig;
+import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
+import jp.co.future.uroborosql.store.SqlManager;
+
+/**
+ * SQLの事前解析クラス.<br>
+ * SqlManagerが読み込んだすべてのSQLを解析し、解析済みSQLのキャッシュ({@link ContextTransformerCache})に格納する.
+ * アプリケーションの起動時に実行することで、初回のSQL実行時に行われる解析を省略できる.
+ * また、解析に失敗するSQLを起動時に検出できる.
+ *
+ * <pre>
+ * SqlConfig config = UroboroSQL.builder(...).build();
+ * new SqlPrecompiler(config).precompile();
+ * </pre>
+ *
+ * ビルド専用の実行方法は提供しない. ビルド時にSQLの解析エラーを検出する場合は、アプリケーションのテストから{@link #validate()}を実行する.
+ *
+ * <pre>
+ * &#64;Test
+ * public void testSqlTemplates() {
+ *     SqlConfig config = UroboroSQL.builder(...).build();
+ *     Map&lt;String, RuntimeException&gt; errors = new SqlPrecompiler(config).validate();
+ *     assertTrue(errors.keySet().toString(), errors.isEmpty());
+ * }
+ * </pre>
+ */
+public class SqlPrecompiler {
+	/** ロガー */
+	private static final Logger LOG = LoggerFactory.getLogger(SqlPrecompiler.class);
+
+	/** SQL設定 */
+	private final SqlConfig sqlConfig;
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param sqlConfig SQL設定
+	 */
+	public SqlPrecompiler(final SqlConfig sqlConfig) {
+		this.sqlConfig = sqlConfig;
+	}
+
+	/**
+	 * SqlManagerが読み込んだすべてのSQLを解析し、解析済みSQLのキャッシュに格納する.<br>
+	 * SqlManagerがSQLをキャッシュしない設定の場合は対象となるSQLがないため何もしない.
+	 * SqlManagerが解析済みSQLのキャッシュを持たない場合は解析のみを行う.
+	 *
+	 * @return 解析したSQLの数
+	 * @throws UroborosqlRuntimeException 解析に失敗したSQLが存在する場合
+	 */
+	public int precompile() {
+		SqlManager sqlManager = sqlConfig.getSqlManager();
+		ContextTransformerCache cache = sqlManager.getContextTransformerCache();
+		boolean removeTerminator = sqlConfig.getDialect().isRemoveTerminator();
+
+		Map<String, RuntimeException> errors = new LinkedHashMap<>();
+		int count = 0;
+		for (String sqlName : sqlManager.getSqlPathList()) {
+			String sql = getSql(sqlManager, sqlName);
+			try {
+				Supplier<ContextTransformer> parser = () -> new SqlParserImpl(sql, sqlConfig.getExpressionParser(),
+						removeTerminator, true).parse();
+				if (cache != null) {
+					cache.get(sqlName, sql, removeTerminator, true, parser);
+				} else {
+					parser.get();
+				}
+				count++;
+			} catch (RuntimeException ex) {
+				errors.put(sqlName, ex);
+			}
+		}
+		if (!errors.isEmpty()) {
+			throw new UroborosqlRuntimeException("Failed to parse SQL. " + errors.keySet(),
+					errors.values().iterator().next());
+		}
+		LOG.debug("{} SQL precompiled.", count);
+		return count;
+	}
+
+	/**
+	 * SqlManagerが読み込んだすべてのSQLを解析し、解析に失敗したSQLを取得する.<br>
+	 * 解析結果はキャッシュに格納しない.
+	 *
+	 * @return 解析に失敗したSQL名と例外のMap
+	 */
+	public Map<String, RuntimeException> validate() {
+		SqlManager sqlManager = sqlConfig.getSqlManager();
+		boolean removeTerminator = sqlConfig.getDialect().isRemoveTerminator();
+
+		Map<String, RuntimeException> errors = new LinkedHashMap<>();
+		for (String sqlName : sqlManager.getSqlPathList()) {
+			try {
+				new SqlParserImpl(getSql(sqlManager, sqlName), sqlConfig.getExpressionParser(), removeTerminator,
+						true).parse();
+			} catch (RuntimeException ex) {
+				errors.put(sqlName, ex);
+			}
+		}
+		return errors;
+	}
+
+	/**
+	 * SQL-IDの置換を行ったSQLを取得する. 置換はSQL名をSQL-IDとして行う.
+	 *
+	 * @param sqlManager SqlManager
+	 * @param sqlName SQL名
+	 * @return SQL
+	 */
+	private String getSql(final SqlManager sqlManager, final String sqlName) {
+		String sql = sqlManager.getSql(sqlName);
+		String keySqlId = sqlConfig.getSqlAgentFactory().getSqlIdKeyName();
+		if (sql.contains(keySqlId)) {
+			sql = sql.replace(keySqlId, sqlName);
+		}
+		return sql;
+	}
+}
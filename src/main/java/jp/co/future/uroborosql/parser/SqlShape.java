@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.parser;
+
+import java.util.Arrays;
+
+/**
+ * 変換後のSQLの形.<br>
+ * 分岐の評価結果やIN句の要素数など、同じテンプレートから変換されるSQLの文字列を決定する値を変換の順に保持する.
+ * 埋め込み文字の置換のように値によってSQLの文字列が変わる場合は無効とし、SQLの形を特定しない.
+ */
+public final class SqlShape {
+	/** SQLの形を決定する値 */
+	private int[] values;
+
+	/** 値の数 */
+	private int size = 0;
+
+	/** SQLの形を特定できるかどうか */
+	private boolean valid = true;
+
+	/**
+	 * コンストラクタ
+	 */
+	public SqlShape() {
+		this.values = new int[8];
+	}
+
+	/**
+	 * コピーコンストラクタ
+	 *
+	 * @param original コピー元
+	 */
+	private SqlShape(final SqlShape original) {
+		this.values = Arrays.copyOf(original.values, original.size);
+		this.size = original.size;
+		this.valid = original.valid;
+	}
+
+	/**
+	 * SQLの形を決定する値を追加する
+	 *
+	 * @param value 分岐の評価結果やIN句の要素数など
+	 */
+	public void add(final int value) {
+		if (size == values.length) {
+			values = Arrays.copyOf(values, size * 2);
+		}
+		values[size++] = value;
+	}
+
+	/**
+	 * 値によってSQLの文字列が変わる変換を行ったため、SQLの形を特定できないことを設定する
+	 */
+	public void invalidate() {
+		valid = false;
+	}
+
+	/**
+	 * SQLの形を特定できるかどうか
+	 *
+	 * @return SQLの形を特定できる場合<code>true</code>
+	 */
+	public boolean isValid() {
+		return valid;
+	}
+
+	/**
+	 * 現在の内容を保持するコピーを取得する. キャッシュのキーとして保持する場合に利用する
+	 *
+	 * @return コピー
+	 */
+	public SqlShape copy() {
+		return new SqlShape(this);
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 1;
+		for (int i = 0; i < size; i++) {
+			result = 31 * result + values[i];
+		}
+		return valid ? result : ~result;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof SqlShape)) {
+			return false;
+		}
+		SqlShape other = (SqlShape) obj;
+		return valid == other.valid && size == other.size
+				&& Arrays.equals(values, 0, size, other.values, 0, other.size);
+	}
+}
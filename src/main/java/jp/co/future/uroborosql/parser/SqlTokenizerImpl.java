@@ -20,9 +20,15 @@ public class SqlTokenizerImpl implements SqlTokenizer {
 	/** 現在地 */
 	private int position = 0;
 
-	/** トークン */
+	/** トークン. 解析対象SQL上の範囲で表すトークンは取得時に生成する */
 	private String token;
 
+	/** トークンの解析対象SQL上の開始位置. 解析対象SQL上の範囲で表さないトークンの場合は<code>-1</code> */
+	private int tokenStart = -1;
+
+	/** トークンの解析対象SQL上の終了位置 */
+	private int tokenEnd = -1;
+
 	/** トークン種別 */
 	private TokenType tokenType = TokenType.SQL;
 
@@ -32,6 +38,18 @@ public class SqlTokenizerImpl implements SqlTokenizer {
 	/** バインド変数採番番号 */
 	private int bindVariableNumber = 0;
 
+	/** 次のコメント開始位置. 未検索の場合は{@link #UNKNOWN}、存在しない場合は<code>-1</code> */
+	private int commentStartPos = UNKNOWN;
+
+	/** 次の行コメント開始位置. 未検索の場合は{@link #UNKNOWN}、存在しない場合は<code>-1</code> */
+	private int lineCommentStartPos = UNKNOWN;
+
+	/** 次のバインド変数開始位置. 未検索の場合は{@link #UNKNOWN}、存在しない場合は<code>-1</code> */
+	private int bindVariableStartPos = UNKNOWN;
+
+	/** 開始位置が未検索であることを表す値 */
+	private static final int UNKNOWN = -2;
+
 	/**
 	 * コンストラクタ
 	 *
@@ -58,9 +76,62 @@ public class SqlTokenizerImpl implements SqlTokenizer {
 	 */
 	@Override
 	public String getToken() {
+		if (token == null && tokenStart >= 0) {
+			token = sql.substring(tokenStart, tokenEnd);
+		}
 		return token;
 	}
 
+	/**
+	 * 解析対象SQLを取得する
+	 *
+	 * @return 解析対象SQL
+	 */
+	public String getSql() {
+		return sql;
+	}
+
+	/**
+	 * トークンの解析対象SQL上の開始位置を取得する. {@link #getToken()}と異なり文字列を生成しない
+	 *
+	 * @return トークンの開始位置. 解析対象SQL上の範囲で表さないトークンの場合は<code>-1</code>
+	 */
+	public int getTokenStart() {
+		return tokenStart;
+	}
+
+	/**
+	 * トークンの解析対象SQL上の終了位置を取得する
+	 *
+	 * @return トークンの終了位置. 解析対象SQL上の範囲で表さないトークンの場合は<code>-1</code>
+	 */
+	public int getTokenEnd() {
+		return tokenEnd;
+	}
+
+	/**
+	 * トークンを解析対象SQL上の範囲で設定する
+	 *
+	 * @param start 開始位置
+	 * @param end 終了位置
+	 */
+	private void setTokenSpan(final int start, final int end) {
+		token = null;
+		tokenStart = start;
+		tokenEnd = end;
+	}
+
+	/**
+	 * トークンを文字列で設定する
+	 *
+	 * @param token トークン
+	 */
+	private void setToken(final String token) {
+		this.token = token;
+		tokenStart = -1;
+		tokenEnd = -1;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -109,7 +180,7 @@ public class SqlTokenizerImpl implements SqlTokenizer {
 	@Override
 	public TokenType next() {
 		if (position >= sql.length()) {
-			token = null;
+			setToken(null);
 			tokenType = TokenType.EOF;
 			nextTokenType = TokenType.EOF;
 			return tokenType;
@@ -138,24 +209,25 @@ public class SqlTokenizerImpl implements SqlTokenizer {
 	 * SQL文解析
 	 */
 	protected void parseSql() {
-		int commentStartPos = sql.indexOf("/*", position);
-		int lineCommentStartPos = sql.indexOf("--", position);
-		int bindVariableStartPos = sql.indexOf("?", position);
+		// 検索済みの開始位置が現在地より後ろにある場合は再検索しない
+		commentStartPos = indexOf("/*", commentStartPos);
+		lineCommentStartPos = indexOf("--", lineCommentStartPos);
+		bindVariableStartPos = indexOf("?", bindVariableStartPos);
 		int elseCommentStartPos = -1;
 		if (lineCommentStartPos >= 0) {
 			int skipPos = skipWhitespace(lineCommentStartPos + 2);
-			if (skipPos + 4 < sql.length() && "ELSE".equals(sql.substring(skipPos, skipPos + 4))) {
+			if (skipPos + 4 < sql.length() && sql.startsWith("ELSE", skipPos)) {
 				elseCommentStartPos = lineCommentStartPos;
 			}
 		}
 		int nextStartPos = getNextStartPos(commentStartPos, elseCommentStartPos, bindVariableStartPos);
 		if (nextStartPos < 0) {
-			token = sql.substring(position);
+			setTokenSpan(position, sql.length());
 			nextTokenType = TokenType.EOF;
 			position = sql.length();
 			tokenType = TokenType.SQL;
 		} else {
-			token = sql.substring(position, nextStartPos);
+			setTokenSpan(position, nextStartPos);
 			tokenType = TokenType.SQL;
 			boolean needNext = nextStartPos == position;
 			if (nextStartPos == commentStartPos) {
@@ -174,6 +246,20 @@ public class SqlTokenizerImpl implements SqlTokenizer {
 		}
 	}
 
+	/**
+	 * 現在地以降で指定した文字列が出現する位置を取得する. 前回の検索結果が現在地以降を指している場合はそれを返す.
+	 *
+	 * @param str 検索する文字列
+	 * @param lastPos 前回の検索結果
+	 * @return 出現位置. 存在しない場合は<code>-1</code>
+	 */
+	private int indexOf(final String str, final int lastPos) {
+		if (lastPos == -1 || lastPos >= position) {
+			return lastPos;
+		}
+		return sql.indexOf(str, position);
+	}
+
 	/**
 	 * 次の解析開始位置を取得
 	 *
@@ -215,7 +301,7 @@ public class SqlTokenizerImpl implements SqlTokenizer {
 		if (commentEndPos < 0) {
 			throw new TokenNotClosedRuntimeException(sql.substring(position));
 		}
-		token = sql.substring(position, commentEndPos);
+		setTokenSpan(position, commentEndPos);
 		nextTokenType = TokenType.SQL;
 		position = commentEndPos + 2;
 		tokenType = TokenType.COMMENT;
@@ -225,7 +311,7 @@ public class SqlTokenizerImpl implements SqlTokenizer {
 	 * バインド変数解析
 	 */
 	protected void parseBindVariable() {
-		token = nextBindVariableName();
+		setToken(nextBindVariableName());
 		nextTokenType = TokenType.SQL;
 		position += 1;
 		tokenType = TokenType.BIND_VARIABLE;
@@ -236,10 +322,9 @@ public class SqlTokenizerImpl implements SqlTokenizer {
 	 */
 	protected void parseElse() {
 		int pos = sql.indexOf("ELSE", position) + 4;
-		String elseToken = sql.substring(position, pos);
-		token = elseToken;
+		setTokenSpan(position, pos);
 		nextTokenType = TokenType.SQL;
-		position = position + elseToken.length();
+		position = pos;
 		tokenType = TokenType.ELSE;
 	}
 
@@ -247,7 +332,7 @@ public class SqlTokenizerImpl implements SqlTokenizer {
 	 * EOF
 	 */
 	protected void parseEof() {
-		token = null;
+		setToken(null);
 		tokenType = TokenType.EOF;
 		nextTokenType = TokenType.EOF;
 	}
@@ -285,11 +370,11 @@ public class SqlTokenizerImpl implements SqlTokenizer {
 				break;
 			}
 		}
-		token = sql.substring(position, endIndex);
+		setTokenSpan(position, endIndex);
 		tokenType = TokenType.SQL;
 		nextTokenType = TokenType.SQL;
 		position = endIndex;
-		return token;
+		return getToken();
 	}
 
 	/**
@@ -300,9 +385,9 @@ public class SqlTokenizerImpl implements SqlTokenizer {
 	@Override
 	public String skipWhitespace() {
 		int index = skipWhitespace(position);
-		token = sql.substring(position, index);
+		setTokenSpan(position, index);
 		position = index;
-		return token;
+		return getToken();
 	}
 
 	/**
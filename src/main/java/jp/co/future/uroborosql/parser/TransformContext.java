@@ -42,6 +42,28 @@ public interface TransformContext {
 	 */
 	String getExecutableSql();
 
+	/**
+	 * 変換後のSQLの形を記録するオブジェクトを取得する.<br>
+	 * 分岐やIN句のノードは変換時にSQLの形を決定する値を記録する.
+	 *
+	 * @return 変換後のSQLの形. 記録しない場合は<code>null</code>
+	 */
+	default SqlShape getShape() {
+		return null;
+	}
+
+	/**
+	 * 変換後のSQLの形を記録するオブジェクトを設定する.<br>
+	 * 既にSQLが追記されている場合は、変換後のSQLの形を特定できないものとして扱う.
+	 *
+	 * @param shape 変換後のSQLの形を記録するオブジェクト. 記録しない場合は<code>null</code>
+	 */
+	default void setShape(final SqlShape shape) {
+		if (shape != null) {
+			shape.invalidate();
+		}
+	}
+
 	/**
 	 * SQLへの追記を行う
 	 *
@@ -50,6 +72,29 @@ public interface TransformContext {
 	 */
 	TransformContext addSqlPart(String sqlPart);
 
+	/**
+	 * 文字列の指定範囲をSQLへ追記する
+	 *
+	 * @param sql 追記するSQLの構成要素を含む文字列
+	 * @param start 追記する範囲の開始位置
+	 * @param end 追記する範囲の終了位置
+	 * @return TransformContext
+	 */
+	default TransformContext addSqlPart(final String sql, final int start, final int end) {
+		return addSqlPart(sql.substring(start, end));
+	}
+
+	/**
+	 * 整形済みの実行時SQLを設定する<br>
+	 * 設定したSQLは整形処理を行わずにそのまま実行時SQLとして利用する.
+	 *
+	 * @param executableSql 整形済みの実行時SQL
+	 * @return TransformContext
+	 */
+	default TransformContext setExecutableSql(final String executableSql) {
+		return addSqlPart(executableSql);
+	}
+
 	/**
 	 * 有効なSQLかどうかの判定
 	 *
@@ -97,6 +142,42 @@ public interface TransformContext {
 	 */
 	List<String> getBindNames();
 
+	/**
+	 * IN句にバインドする要素数からパディング後の要素数を取得する.<br>
+	 * パディングを行う場合は、次に追加するバインド変数名の位置にパディング後の要素数を記録し、バインド時に値を同じ要素数に揃える.
+	 *
+	 * @param size IN句にバインドする要素数
+	 * @return パディング後の要素数. パディングを行わない場合は<code>size</code>
+	 */
+	default int padInList(final int size) {
+		return size;
+	}
+
+	/**
+	 * IN句にバインドする値を1つの配列パラメータとしてバインドするよう登録する.<br>
+	 * 登録した場合は直前に追加したSQLのINを配列パラメータとの比較(<code>= ANY</code>)に置き換える.
+	 *
+	 * @param bindName バインド変数名
+	 * @param values IN句にバインドする値の配列
+	 * @return 配列パラメータとしてバインドする場合<code>true</code>
+	 */
+	default boolean bindInListAsArray(final String bindName, final Object values) {
+		return false;
+	}
+
+	/**
+	 * BEGINなどで複製したコンテキストの変換結果を追加する。
+	 *
+	 * @param childContext 複製したコンテキスト
+	 * @return TransformContext
+	 */
+	default TransformContext addTransformContext(final TransformContext childContext) {
+		addSqlPart(childContext.getExecutableSql());
+		addBindNames(childContext.getBindNames());
+		addBindVariables(childContext.getBindVariables());
+		return this;
+	}
+
 	/**
 	 * バインド変数追加。
 	 *
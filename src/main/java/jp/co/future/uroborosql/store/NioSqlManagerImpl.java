@@ -45,6 +45,7 @@ import org.slf4j.LoggerFactory;
 
 import jp.co.future.uroborosql.dialect.Dialect;
 import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
+import jp.co.future.uroborosql.parser.ContextTransformerCache;
 import jp.co.future.uroborosql.utils.StringUtils;
 
 public class NioSqlManagerImpl implements SqlManager {
@@ -94,6 +95,9 @@ public class NioSqlManagerImpl implements SqlManager {
 	/** WatchKeyに対するディレクトリPathを取得するためのMap */
 	private final ConcurrentHashMap<WatchKey, Path> watchDirs = new ConcurrentHashMap<>();
 
+	/** 解析済みSQLのキャッシュ */
+	private final ContextTransformerCache contextTransformerCache = new ContextTransformerCache();
+
 	/**
 	 * コンストラクタ
 	 */
@@ -309,6 +313,8 @@ public class NioSqlManagerImpl implements SqlManager {
 							return v.computePath(path, kind == ENTRY_DELETE);
 						});
 					}
+					// 変更されたSQLの解析結果を破棄する
+					contextTransformerCache.invalidate(getSqlName(path));
 				}
 			}
 			key.reset();
@@ -621,6 +627,16 @@ public class NioSqlManagerImpl implements SqlManager {
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.store.SqlManager#getContextTransformerCache()
+	 */
+	@Override
+	public ContextTransformerCache getContextTransformerCache() {
+		return contextTransformerCache;
+	}
+
 	/**
 	 * SQLファイルの情報を保持するオブジェクト
 	 */
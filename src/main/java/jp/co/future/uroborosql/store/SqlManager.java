@@ -9,6 +9,7 @@ package jp.co.future.uroborosql.store;
 import java.util.List;
 
 import jp.co.future.uroborosql.dialect.Dialect;
+import jp.co.future.uroborosql.parser.ContextTransformerCache;
 
 /**
  * SQL管理インターフェース
@@ -89,4 +90,14 @@ public interface SqlManager {
 	 */
 	void setDialect(Dialect dialect);
 
-}
\ No newline at end of file
+	/**
+	 * 解析済みSQLのキャッシュを取得する.<br>
+	 * デフォルト実装はキャッシュを持たず<code>null</code>を返す. この場合SQLは実行の都度解析される.
+	 *
+	 * @return 解析済みSQLのキャッシュ. キャッシュを持たない場合は<code>null</code>
+	 */
+	default ContextTransformerCache getContextTransformerCache() {
+		return null;
+	}
+
+}
@@ -13,6 +13,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import jp.co.future.uroborosql.dialect.Dialect;
 import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
+import jp.co.future.uroborosql.parser.ContextTransformerCache;
 
 /**
  * SQL管理実装クラス
@@ -35,6 +36,9 @@ public class SqlManagerImpl implements SqlManager {
 
 	private Dialect dialect;
 
+	/** 解析済みSQLのキャッシュ */
+	private final ContextTransformerCache contextTransformerCache = new ContextTransformerCache();
+
 	/** コンストラクタ */
 	public SqlManagerImpl() {
 		this(new SqlLoaderImpl());
@@ -311,4 +315,14 @@ public class SqlManagerImpl implements SqlManager {
 		this.dialect = dialect;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.store.SqlManager#getContextTransformerCache()
+	 */
+	@Override
+	public ContextTransformerCache getContextTransformerCache() {
+		return contextTransformerCache;
+	}
+
 }
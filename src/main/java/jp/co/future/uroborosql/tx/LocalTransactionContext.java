@@ -22,6 +22,7 @@ import jp.co.future.uroborosql.connection.ConnectionContext;
 import jp.co.future.uroborosql.context.SqlContext;
 import jp.co.future.uroborosql.exception.UroborosqlSQLException;
 import jp.co.future.uroborosql.exception.UroborosqlTransactionException;
+import jp.co.future.uroborosql.jfr.TransactionEvent;
 
 /**
  * ローカルトランザクションContext
@@ -45,12 +46,24 @@ class LocalTransactionContext implements AutoCloseable {
 	/** ロールバックフラグ */
 	private boolean rollbackOnly = false;
 
+	/** 現在のトランザクションで取得したステートメントの数 */
+	private int statementCount = 0;
+
+	/** 他の処理と共有されないコネクションを取得したかどうか */
+	private boolean exclusiveConnection = false;
+
+	/** コネクションを呼び出し元に公開したかどうか. 公開した場合はSQLの実行を把握できない */
+	private boolean connectionExposed = false;
+
 	/** トランザクション内での更新を強制するかどうか */
 	private final boolean updatable;
 
 	/** DB接続情報. ConnectionSupplierで指定したデフォルトの接続情報を使用する場合は<code>null</code>を指定する */
 	private final ConnectionContext connectionContext;
 
+	/** PreparedStatementのキャッシュ. キャッシュしない場合は<code>null</code> */
+	private final PreparedStatementCache statementCache;
+
 	/**
 	 * コンストラクタ
 	 *
@@ -63,6 +76,10 @@ class LocalTransactionContext implements AutoCloseable {
 		this.sqlConfig = sqlConfig;
 		this.updatable = updatable;
 		this.connectionContext = connectionContext;
+		int statementCacheSize = sqlConfig.getSqlAgentFactory() != null
+				? sqlConfig.getSqlAgentFactory().getStatementCacheSize()
+				: 0;
+		this.statementCache = statementCacheSize > 0 ? new PreparedStatementCache(statementCacheSize) : null;
 	}
 
 	/**
@@ -78,6 +95,7 @@ class LocalTransactionContext implements AutoCloseable {
 			} else {
 				connection = this.sqlConfig.getConnectionSupplier().getConnection(connectionContext);
 			}
+			exclusiveConnection = this.sqlConfig.getConnectionSupplier().isExclusiveConnection();
 			initSavepoints(connection);
 		}
 		return connection;
@@ -92,6 +110,7 @@ class LocalTransactionContext implements AutoCloseable {
 	 */
 	PreparedStatement getPreparedStatement(final SqlContext sqlContext) throws SQLException {
 		Connection conn = getConnection();
+		statementCount++;
 
 		PreparedStatement stmt = null;
 		switch (sqlContext.getSqlKind()) {
@@ -100,9 +119,12 @@ class LocalTransactionContext implements AutoCloseable {
 		case BATCH_INSERT:
 			if (updatable) {
 				if (sqlContext.hasGeneratedKeyColumns()) {
-					stmt = conn.prepareStatement(sqlContext.getExecutableSql(), sqlContext.getGeneratedKeyColumns());
+					stmt = prepareStatement(sqlContext, true, sqlContext.getGeneratedKeyColumns(),
+							() -> conn.prepareStatement(sqlContext.getExecutableSql(),
+									sqlContext.getGeneratedKeyColumns()));
 				} else {
-					stmt = conn.prepareStatement(sqlContext.getExecutableSql(), Statement.RETURN_GENERATED_KEYS);
+					stmt = prepareStatement(sqlContext, true, null,
+							() -> conn.prepareStatement(sqlContext.getExecutableSql(), Statement.RETURN_GENERATED_KEYS));
 				}
 			} else {
 				throw new UroborosqlTransactionException("Transaction not started.");
@@ -115,7 +137,8 @@ class LocalTransactionContext implements AutoCloseable {
 			break;
 		default:
 			if (updatable) {
-				stmt = conn.prepareStatement(sqlContext.getExecutableSql());
+				stmt = prepareStatement(sqlContext, false, null,
+						() -> conn.prepareStatement(sqlContext.getExecutableSql()));
 			} else {
 				throw new UroborosqlTransactionException("Transaction not started.");
 			}
@@ -124,6 +147,27 @@ class LocalTransactionContext implements AutoCloseable {
 		return this.sqlConfig.getSqlFilterManager().doPreparedStatement(sqlContext, stmt);
 	}
 
+	/**
+	 * 更新用のステートメント取得. PreparedStatementのキャッシュが有効な場合はキャッシュから取得する.<br>
+	 * 検索用のステートメントは結果セットの利用期間が呼び出し側に委ねられるためキャッシュしない.
+	 *
+	 * @param sqlContext SQLコンテキスト
+	 * @param returnGeneratedKeys 自動採番キーを取得するかどうか
+	 * @param generatedKeyColumns 自動採番キーのカラム名
+	 * @param creator PreparedStatementの生成処理
+	 * @return PreparedStatement
+	 * @throws SQLException SQL例外
+	 */
+	private PreparedStatement prepareStatement(final SqlContext sqlContext, final boolean returnGeneratedKeys,
+			final String[] generatedKeyColumns, final PreparedStatementCache.StatementCreator creator)
+			throws SQLException {
+		if (statementCache == null) {
+			return creator.create();
+		}
+		return statementCache.get(new PreparedStatementCache.StatementKey(sqlContext.getExecutableSql(),
+				returnGeneratedKeys, generatedKeyColumns), creator);
+	}
+
 	/**
 	 * Callableステートメント初期化
 	 *
@@ -133,6 +177,7 @@ class LocalTransactionContext implements AutoCloseable {
 	 */
 	CallableStatement getCallableStatement(final SqlContext sqlContext) throws SQLException {
 		Connection conn = getConnection();
+		statementCount++;
 
 		if (this.updatable) {
 			return this.sqlConfig.getSqlFilterManager().doCallableStatement(sqlContext,
@@ -219,6 +264,42 @@ class LocalTransactionContext implements AutoCloseable {
 		}
 	}
 
+	/**
+	 * コネクションを呼び出し元に公開したことを記録します。
+	 */
+	void markConnectionExposed() {
+		this.connectionExposed = true;
+	}
+
+	/**
+	 * 直前に取得したステートメントが現在のトランザクションで最初のステートメントかどうかを取得します。<br>
+	 * コネクションを他の処理と共有している場合、セーブポイントが設定されている場合やコネクションを公開した場合は、
+	 * トランザクション内の変更を把握できないため<code>false</code>を返します。
+	 *
+	 * @return 最初のステートメントの場合<code>true</code>
+	 * @see jp.co.future.uroborosql.connection.ConnectionSupplier#isExclusiveConnection()
+	 */
+	boolean isFirstStatement() {
+		return exclusiveConnection && statementCount == 1 && !connectionExposed && savepointNames.isEmpty();
+	}
+
+	/**
+	 * 最初のステートメントの実行で行われた変更をロールバックします。<br>
+	 * トランザクション内に他の変更がないため、セーブポイントを使用せずトランザクション全体をロールバックします。
+	 * ステートメントを再実行できるよう、ステートメントのキャッシュとトランザクションの状態は維持します。
+	 */
+	void rollbackFirstStatement() {
+		if (connection != null) {
+			try {
+				if (!connection.getAutoCommit()) {
+					connection.rollback();
+				}
+			} catch (SQLException e) {
+				throw new UroborosqlSQLException(e);
+			}
+		}
+	}
+
 	/**
 	 * 現在のトランザクションをロールバックすることを予約します。
 	 */
@@ -239,11 +320,16 @@ class LocalTransactionContext implements AutoCloseable {
 	 * @throws SQLException SQL例外. トランザクションのコミットに失敗した場合
 	 */
 	void commit() {
+		clearStatementCache();
 		if (connection != null) {
+			TransactionEvent event = new TransactionEvent(true);
+			event.begin();
 			try {
 				connection.commit();
 			} catch (SQLException e) {
 				throw new UroborosqlSQLException(e);
+			} finally {
+				event.commit();
 			}
 		}
 		clearState();
@@ -255,11 +341,16 @@ class LocalTransactionContext implements AutoCloseable {
 	 * @throws SQLException SQL例外. トランザクションのロールバックに失敗した場合
 	 */
 	void rollback() {
+		clearStatementCache();
 		if (connection != null) {
+			TransactionEvent event = new TransactionEvent(false);
+			event.begin();
 			try {
 				connection.rollback();
 			} catch (SQLException e) {
 				throw new UroborosqlSQLException(e);
+			} finally {
+				event.commit();
 			}
 		}
 		clearState();
@@ -294,6 +385,16 @@ class LocalTransactionContext implements AutoCloseable {
 		savepointNames.clear();
 		savepointMap.clear();
 		rollbackOnly = false;
+		statementCount = 0;
+	}
+
+	/**
+	 * キャッシュしたPreparedStatementをクローズする
+	 */
+	private void clearStatementCache() {
+		if (statementCache != null) {
+			statementCache.clear();
+		}
 	}
 
 	/**
@@ -151,6 +151,34 @@ public class LocalTransactionManager implements TransactionManager {
 		}
 	}
 
+	/**
+	 * 直前に取得したステートメントが現在のトランザクションで最初のステートメントかどうかを取得する.<br>
+	 * 最初のステートメントであれば、リトライ前にトランザクション全体をロールバックすればよいため、リトライ用のセーブポイントを省略できる.
+	 *
+	 * @return 最初のステートメントの場合<code>true</code>
+	 */
+	public boolean isFirstStatement() {
+		Optional<LocalTransactionContext> txContext = currentTxContext();
+		if (txContext.isPresent()) {
+			return txContext.get().isFirstStatement();
+		} else {
+			return this.unmanagedTransaction.map(LocalTransactionContext::isFirstStatement).orElse(false);
+		}
+	}
+
+	/**
+	 * 最初のステートメントの実行で行われた変更をロールバックする.<br>
+	 * {@link #isFirstStatement()}が<code>true</code>の場合に、リトライ用のセーブポイントへのロールバックの代わりに使用する.
+	 */
+	public void rollbackFirstStatement() {
+		Optional<LocalTransactionContext> txContext = currentTxContext();
+		if (txContext.isPresent()) {
+			txContext.get().rollbackFirstStatement();
+		} else {
+			this.unmanagedTransaction.ifPresent(LocalTransactionContext::rollbackFirstStatement);
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -191,12 +219,14 @@ public class LocalTransactionManager implements TransactionManager {
 		Optional<LocalTransactionContext> txContext = currentTxContext();
 		try {
 			if (txContext.isPresent()) {
+				txContext.get().markConnectionExposed();
 				return txContext.get().getConnection();
 			} else {
 				if (!this.unmanagedTransaction.isPresent()) {
 					this.unmanagedTransaction = Optional
 							.of(new LocalTransactionContext(this.sqlConfig, this.updatable, this.connectionContext));
 				}
+				this.unmanagedTransaction.get().markConnectionExposed();
 				return this.unmanagedTransaction.get().getConnection();
 			}
 		} catch (SQLException ex) {
@@ -0,0 +1,358 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.tx;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * トランザクション内で利用するPreparedStatementのキャッシュ.<br>
+ * 取得したPreparedStatementを{@link PreparedStatement#close()}すると実際にはクローズせず、
+ * パラメータとバッチをクリアし、利用中に変更された設定(クエリタイムアウト、フェッチサイズ、最大行数など)を変更前の値に戻してキャッシュに戻す.
+ * 変更前の値に戻せない設定(カーソル名など)を変更した場合はキャッシュに戻さずにクローズする. 同じキーで再度取得した場合はキャッシュしたPreparedStatementを再利用する.
+ * 利用中のPreparedStatementは他から取得されることはない.
+ */
+final class PreparedStatementCache {
+	/** ロガー */
+	private static final Logger LOG = LoggerFactory.getLogger(PreparedStatementCache.class);
+
+	/** 変更前の値に戻す設定のメソッド名. フェッチサイズが最大行数を超えないように最大行数から戻す */
+	private static final String[] SETTING_NAMES = { "setMaxRows", "setLargeMaxRows", "setMaxFieldSize",
+			"setFetchSize", "setFetchDirection", "setQueryTimeout", "setPoolable", "setEscapeProcessing" };
+
+	/** 未使用のPreparedStatement */
+	private final Map<StatementKey, PreparedStatement> idleStatements;
+
+	/** キャッシュの世代. クリアされる度に加算し、クリア前に取得されたPreparedStatementはキャッシュに戻さない */
+	private int generation = 0;
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param maxSize キャッシュするPreparedStatementの最大数
+	 */
+	PreparedStatementCache(final int maxSize) {
+		this.idleStatements = new LinkedHashMap<StatementKey, PreparedStatement>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<StatementKey, PreparedStatement> eldest) {
+				if (size() > maxSize) {
+					closeQuietly(eldest.getValue());
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * PreparedStatementを取得する. キャッシュに存在しない場合は<code>creator</code>を用いて生成する.
+	 *
+	 * @param key キャッシュのキー
+	 * @param creator PreparedStatementの生成処理
+	 * @return PreparedStatement
+	 * @throws SQLException SQL例外
+	 */
+	synchronized PreparedStatement get(final StatementKey key, final StatementCreator creator)
+			throws SQLException {
+		PreparedStatement stmt = idleStatements.remove(key);
+		if (stmt == null || stmt.isClosed()) {
+			stmt = creator.create();
+		}
+		return (PreparedStatement) Proxy.newProxyInstance(PreparedStatementCache.class.getClassLoader(),
+				new Class<?>[] { PreparedStatement.class }, new StatementHandler(key, stmt, generation));
+	}
+
+	/**
+	 * 利用を終えたPreparedStatementをキャッシュに戻す
+	 *
+	 * @param handler 利用を終えたPreparedStatementのハンドラ
+	 */
+	private synchronized void release(final StatementHandler handler) {
+		PreparedStatement stmt = handler.stmt;
+		try {
+			if (handler.generation != generation || handler.discard || stmt.isClosed()
+					|| idleStatements.containsKey(handler.key)) {
+				closeQuietly(stmt);
+				return;
+			}
+			stmt.clearParameters();
+			stmt.clearBatch();
+			stmt.clearWarnings();
+			handler.restoreSettings();
+			idleStatements.put(handler.key, stmt);
+		} catch (SQLException | RuntimeException ex) {
+			closeQuietly(stmt);
+		}
+	}
+
+	/**
+	 * キャッシュしたPreparedStatementをすべてクローズする.<br>
+	 * 利用中のPreparedStatementは利用を終えた時点でクローズされる.
+	 */
+	synchronized void clear() {
+		generation++;
+		List<PreparedStatement> statements = new ArrayList<>(idleStatements.values());
+		idleStatements.clear();
+		statements.forEach(PreparedStatementCache::closeQuietly);
+	}
+
+	/**
+	 * キャッシュしているPreparedStatementの数を取得する
+	 *
+	 * @return キャッシュしているPreparedStatementの数
+	 */
+	synchronized int size() {
+		return idleStatements.size();
+	}
+
+	/**
+	 * PreparedStatementを例外を発生させずにクローズする
+	 *
+	 * @param stmt PreparedStatement
+	 */
+	private static void closeQuietly(final PreparedStatement stmt) {
+		try {
+			stmt.close();
+		} catch (SQLException ex) {
+			LOG.warn("Failed to close the cached statement.", ex);
+		}
+	}
+
+	/**
+	 * PreparedStatementの生成処理
+	 */
+	@FunctionalInterface
+	interface StatementCreator {
+		/**
+		 * PreparedStatementを生成する
+		 *
+		 * @return PreparedStatement
+		 * @throws SQLException SQL例外
+		 */
+		PreparedStatement create() throws SQLException;
+	}
+
+	/**
+	 * キャッシュのキー.<br>
+	 * 実行するSQLと自動採番キーの取得方法で識別する.
+	 */
+	static final class StatementKey {
+		/** 実行するSQL */
+		private final String sql;
+		/** 自動採番キーを取得するかどうか */
+		private final boolean returnGeneratedKeys;
+		/** 自動採番キーのカラム名 */
+		private final String[] generatedKeyColumns;
+		/** ハッシュ値 */
+		private final int hash;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param sql 実行するSQL
+		 * @param returnGeneratedKeys 自動採番キーを取得するかどうか
+		 * @param generatedKeyColumns 自動採番キーのカラム名. 指定しない場合は<code>null</code>
+		 */
+		StatementKey(final String sql, final boolean returnGeneratedKeys, final String[] generatedKeyColumns) {
+			this.sql = sql;
+			this.returnGeneratedKeys = returnGeneratedKeys;
+			this.generatedKeyColumns = generatedKeyColumns;
+			this.hash = Objects.hash(sql, returnGeneratedKeys, Arrays.hashCode(generatedKeyColumns));
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof StatementKey)) {
+				return false;
+			}
+			StatementKey other = (StatementKey) obj;
+			return hash == other.hash
+					&& returnGeneratedKeys == other.returnGeneratedKeys
+					&& sql.equals(other.sql)
+					&& Arrays.equals(generatedKeyColumns, other.generatedKeyColumns);
+		}
+	}
+
+	/**
+	 * キャッシュから取得したPreparedStatementのハンドラ.<br>
+	 * closeの呼び出しでキャッシュに戻し、以降の呼び出しはクローズ済みとして扱う.
+	 */
+	private final class StatementHandler implements InvocationHandler {
+		/** キャッシュのキー */
+		private final StatementKey key;
+		/** 実際のPreparedStatement */
+		private final PreparedStatement stmt;
+		/** 取得時のキャッシュの世代 */
+		private final int generation;
+		/** クローズ済みかどうか */
+		private boolean closed = false;
+		/** 変更前の設定値. 設定メソッド名をキーとし、変更がない場合は<code>null</code> */
+		private Map<String, Object> originalSettings = null;
+		/** 変更前の値に戻せない設定を変更したかどうか */
+		private boolean discard = false;
+
+		StatementHandler(final StatementKey key, final PreparedStatement stmt, final int generation) {
+			this.key = key;
+			this.stmt = stmt;
+			this.generation = generation;
+		}
+
+		@Override
+		public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+			String name = method.getName();
+			int argCount = args == null ? 0 : args.length;
+			if ("close".equals(name) && argCount == 0) {
+				if (!closed) {
+					closed = true;
+					release(this);
+				}
+				return null;
+			} else if ("isClosed".equals(name) && argCount == 0) {
+				return closed || stmt.isClosed();
+			} else if ("equals".equals(name) && argCount == 1) {
+				return proxy == args[0];
+			} else if ("hashCode".equals(name) && argCount == 0) {
+				return System.identityHashCode(proxy);
+			} else if ("toString".equals(name) && argCount == 0) {
+				return stmt.toString();
+			}
+
+			if (closed) {
+				throw new SQLException("Statement is closed.");
+			}
+			if (argCount == 1 || "closeOnCompletion".equals(name)) {
+				saveSetting(name);
+			}
+			try {
+				return method.invoke(stmt, args);
+			} catch (InvocationTargetException ex) {
+				throw ex.getCause();
+			}
+		}
+
+		/**
+		 * 設定を変更するメソッドの場合は変更前の値を保持する. 同じ設定の2回目以降の変更では保持しない
+		 *
+		 * @param name 呼び出すメソッド名
+		 */
+		private void saveSetting(final String name) {
+			if (originalSettings != null && originalSettings.containsKey(name)) {
+				return;
+			}
+			Object value;
+			try {
+				switch (name) {
+				case "setQueryTimeout":
+					value = stmt.getQueryTimeout();
+					break;
+				case "setFetchSize":
+					value = stmt.getFetchSize();
+					break;
+				case "setMaxRows":
+					value = stmt.getMaxRows();
+					break;
+				case "setLargeMaxRows":
+					value = stmt.getLargeMaxRows();
+					break;
+				case "setFetchDirection":
+					value = stmt.getFetchDirection();
+					break;
+				case "setMaxFieldSize":
+					value = stmt.getMaxFieldSize();
+					break;
+				case "setPoolable":
+					value = stmt.isPoolable();
+					break;
+				case "setEscapeProcessing":
+					// 取得メソッドがないためJDBCのデフォルト値に戻す
+					value = Boolean.TRUE;
+					break;
+				case "setCursorName":
+				case "closeOnCompletion":
+					discard = true;
+					return;
+				default:
+					return;
+				}
+			} catch (SQLException | RuntimeException ex) {
+				discard = true;
+				return;
+			}
+			if (originalSettings == null) {
+				originalSettings = new HashMap<>();
+			}
+			originalSettings.put(name, value);
+		}
+
+		/**
+		 * 利用中に変更された設定を変更前の値に戻す
+		 *
+		 * @throws SQLException SQL例外
+		 */
+		private void restoreSettings() throws SQLException {
+			if (originalSettings == null) {
+				return;
+			}
+			for (String name : SETTING_NAMES) {
+				Object value = originalSettings.get(name);
+				if (value == null) {
+					continue;
+				}
+				switch (name) {
+				case "setQueryTimeout":
+					stmt.setQueryTimeout((Integer) value);
+					break;
+				case "setFetchSize":
+					stmt.setFetchSize((Integer) value);
+					break;
+				case "setMaxRows":
+					stmt.setMaxRows((Integer) value);
+					break;
+				case "setLargeMaxRows":
+					stmt.setLargeMaxRows((Long) value);
+					break;
+				case "setFetchDirection":
+					stmt.setFetchDirection((Integer) value);
+					break;
+				case "setMaxFieldSize":
+					stmt.setMaxFieldSize((Integer) value);
+					break;
+				case "setPoolable":
+					stmt.setPoolable((Boolean) value);
+					break;
+				case "setEscapeProcessing":
+					stmt.setEscapeProcessing((Boolean) value);
+					break;
+				default:
+					break;
+				}
+			}
+		}
+	}
+}
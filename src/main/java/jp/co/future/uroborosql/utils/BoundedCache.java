@@ -0,0 +1,234 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.utils;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 最大サイズを持つスレッドセーフなキャッシュ.<br>
+ * 参照はロックを取らずに行う. 上限に達した場合は参照されていないエントリを優先して除外する(セカンドチャンス方式).
+ * 最大サイズに0以下を指定した場合はキャッシュを行わない.
+ *
+ * @param <K> キーの型
+ * @param <V> 値の型
+ */
+public final class BoundedCache<K, V> {
+	/** キャッシュ */
+	private final ConcurrentHashMap<K, Entry<V>> cache = new ConcurrentHashMap<>();
+
+	/** 最大サイズ */
+	private final int maxSize;
+
+	/** ヒット数 */
+	private final LongAdder hitCount = new LongAdder();
+
+	/** ミス数 */
+	private final LongAdder missCount = new LongAdder();
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param maxSize 最大サイズ. 0以下の場合はキャッシュを行わない
+	 */
+	public BoundedCache(final int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * キャッシュを行うかどうか
+	 *
+	 * @return 最大サイズが1以上の場合<code>true</code>
+	 */
+	public boolean isEnabled() {
+		return maxSize > 0;
+	}
+
+	/**
+	 * 値を取得する
+	 *
+	 * @param key キー
+	 * @return 値. キャッシュに存在しない場合は<code>null</code>
+	 */
+	public V get(final K key) {
+		Entry<V> entry = cache.get(key);
+		if (entry == null) {
+			missCount.increment();
+			return null;
+		}
+		hitCount.increment();
+		return entry.get();
+	}
+
+	/**
+	 * 値を取得する. キャッシュに存在しない場合は<code>loader</code>で生成し、キャッシュに格納する.<br>
+	 * 生成はロックの外で行うため、同時に呼び出された場合は<code>loader</code>が複数回呼ばれることがあるが、返却する値は最初に格納された値となる.
+	 *
+	 * @param key キー
+	 * @param loader キャッシュに存在しない場合に値を生成する関数
+	 * @return 値
+	 */
+	public V get(final K key, final Function<? super K, ? extends V> loader) {
+		if (!isEnabled()) {
+			missCount.increment();
+			return loader.apply(key);
+		}
+		V value = get(key);
+		if (value != null) {
+			return value;
+		}
+		value = loader.apply(key);
+		if (value == null) {
+			return null;
+		}
+		Entry<V> prev = putEntry(key, new Entry<>(value));
+		return prev != null ? prev.get() : value;
+	}
+
+	/**
+	 * 値を格納する. キャッシュを行わない場合は何もしない
+	 *
+	 * @param key キー
+	 * @param value 値
+	 */
+	public void put(final K key, final V value) {
+		if (isEnabled()) {
+			putEntry(key, new Entry<>(value));
+		}
+	}
+
+	/**
+	 * 上限を超えないように空きを作ってからエントリを格納する
+	 *
+	 * @param key キー
+	 * @param entry エントリ
+	 * @return 既に格納されていたエントリ. 存在しない場合は<code>null</code>
+	 */
+	private Entry<V> putEntry(final K key, final Entry<V> entry) {
+		if (cache.size() >= maxSize) {
+			evict();
+		}
+		return cache.putIfAbsent(key, entry);
+	}
+
+	/**
+	 * エントリを1件除外する. 前回の除外以降に参照されたエントリは参照フラグを落として残し、参照されていないエントリを除外する.
+	 */
+	private void evict() {
+		Iterator<Map.Entry<K, Entry<V>>> it = cache.entrySet().iterator();
+		while (it.hasNext()) {
+			Map.Entry<K, Entry<V>> e = it.next();
+			if (!e.getValue().clearReferenced()) {
+				it.remove();
+				return;
+			}
+		}
+		// すべて参照されていた場合は先頭のエントリを除外する
+		it = cache.entrySet().iterator();
+		if (it.hasNext()) {
+			it.next();
+			it.remove();
+		}
+	}
+
+	/**
+	 * 値を除外する
+	 *
+	 * @param key キー
+	 */
+	public void remove(final K key) {
+		cache.remove(key);
+	}
+
+	/**
+	 * 条件に一致するキーの値を除外する
+	 *
+	 * @param filter 除外するキーの条件
+	 */
+	public void removeIf(final Predicate<? super K> filter) {
+		cache.keySet().removeIf(filter);
+	}
+
+	/**
+	 * キャッシュをクリアする
+	 */
+	public void clear() {
+		cache.clear();
+	}
+
+	/**
+	 * キャッシュされている値の数を取得する
+	 *
+	 * @return キャッシュされている値の数
+	 */
+	public int size() {
+		return cache.size();
+	}
+
+	/**
+	 * 最大サイズを取得する
+	 *
+	 * @return 最大サイズ
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * キャッシュのヒット数を取得する
+	 *
+	 * @return ヒット数
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * キャッシュのミス数を取得する
+	 *
+	 * @return ミス数
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * キャッシュのエントリ
+	 *
+	 * @param <V> 値の型
+	 */
+	private static final class Entry<V> {
+		/** 値 */
+		private final V value;
+
+		/** 前回の除外以降に参照されたかどうか */
+		private volatile boolean referenced = false;
+
+		Entry(final V value) {
+			this.value = value;
+		}
+
+		V get() {
+			if (!referenced) {
+				referenced = true;
+			}
+			return value;
+		}
+
+		boolean clearReferenced() {
+			if (referenced) {
+				referenced = false;
+				return true;
+			}
+			return false;
+		}
+	}
+}
@@ -7,12 +7,15 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.After;
 import org.junit.Before;
@@ -382,6 +385,100 @@ public class SqlAgentRetryWithRollbackTest {
 		}
 	}
 
+	/**
+	 * トランザクション内での更新のリトライ（最初のSQLはトランザクション全体、2つ目以降のSQLはセーブポイントまでロールバック）
+	 */
+	@Test
+	public void testUpdateRetryInTransaction() throws Exception {
+		int retryCount = 3;
+		agent.required(() -> {
+			setRetryFilter(retryCount, 60);
+			SqlUpdate update1 = agent.update("example/insert_product_regist_work").param("product_name", "test1")
+					.param("product_kana_name", "test_kana1").param("jan_code", "1234567890123")
+					.param("product_description", "").param("ins_datetime", LocalDate.now()).retry(retryCount + 1);
+			assertThat(update1.count(), is(1));
+			assertThat(update1.context().contextAttrs().get("__retryCount"), is(retryCount));
+
+			setRetryFilter(retryCount, 60);
+			SqlUpdate update2 = agent.update("example/insert_product_regist_work").param("product_name", "test2")
+					.param("product_kana_name", "test_kana2").param("jan_code", "1234567890124")
+					.param("product_description", "").param("ins_datetime", LocalDate.now()).retry(retryCount + 1);
+			assertThat(update2.count(), is(1));
+			assertThat(update2.context().contextAttrs().get("__retryCount"), is(retryCount));
+
+			setRetryFilter(0, 0);
+			assertThat(agent
+					.queryWith("select product_name from product_regist_work where product_name like 'test_' order by 1")
+					.collect().stream().map(m -> m.get("PRODUCT_NAME")).collect(Collectors.toList()),
+					is(Arrays.asList("test1", "test2")));
+			agent.setRollbackOnly();
+		});
+	}
+
+	/**
+	 * 共有コネクションでのトランザクション内の更新のリトライ（トランザクション開始前の未確定の変更を残すため、セーブポイントまでロールバック）
+	 */
+	@Test
+	public void testUpdateRetryInTransactionWithSharedConnection() throws Exception {
+		int retryCount = 3;
+		try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:SqlAgentRetryWithRollbackTest;DB_CLOSE_DELAY=-1",
+				"sa", "sa")) {
+			conn.setAutoCommit(false);
+			SqlConfig sharedConfig = UroboroSQL.builder(conn).setDialect(new PostgresqlDialect()).build();
+			sharedConfig.getSqlAgentFactory().setSqlRetryCodeList(Arrays.asList("60"));
+			RetrySqlFilter filter = new RetrySqlFilter(0, 0);
+			sharedConfig.getSqlFilterManager().addSqlFilter(filter);
+
+			try (SqlAgent sharedAgent = sharedConfig.agent()) {
+				// トランザクション外で未確定の変更を行う
+				sharedAgent.update("example/insert_product_regist_work").param("product_name", "shared1")
+						.param("product_kana_name", "shared_kana1").param("jan_code", "1234567890123")
+						.param("product_description", "").param("ins_datetime", LocalDate.now()).count();
+
+				sharedAgent.required(() -> {
+					filter.initialize(retryCount, 60);
+					SqlUpdate update = sharedAgent.update("example/insert_product_regist_work")
+							.param("product_name", "shared2").param("product_kana_name", "shared_kana2")
+							.param("jan_code", "1234567890124").param("product_description", "")
+							.param("ins_datetime", LocalDate.now()).retry(retryCount + 1);
+					assertThat(update.count(), is(1));
+					assertThat(update.context().contextAttrs().get("__retryCount"), is(retryCount));
+
+					filter.initialize(0, 0);
+					assertThat(sharedAgent
+							.queryWith(
+									"select product_name from product_regist_work where product_name like 'shared_' order by 1")
+							.collect().stream().map(m -> m.get("PRODUCT_NAME")).collect(Collectors.toList()),
+							is(Arrays.asList("shared1", "shared2")));
+					sharedAgent.setRollbackOnly();
+				});
+			}
+		}
+	}
+
+	/**
+	 * リトライ待機時間の計算
+	 */
+	@Test
+	public void testComputeRetryWaitTime() throws Exception {
+		assertThat(AbstractAgent.computeRetryWaitTime(0, 3), is(0L));
+		for (int i = 0; i < 100; i++) {
+			long waitTime = AbstractAgent.computeRetryWaitTime(10, 0);
+			assertThat(waitTime >= 10L && waitTime <= 20L, is(true));
+			waitTime = AbstractAgent.computeRetryWaitTime(10, 3);
+			assertThat(waitTime >= 80L && waitTime <= 160L, is(true));
+			waitTime = AbstractAgent.computeRetryWaitTime(1000, 30);
+			assertThat(waitTime >= AbstractAgent.MAX_RETRY_WAIT_TIME / 2
+					&& waitTime <= AbstractAgent.MAX_RETRY_WAIT_TIME, is(true));
+			waitTime = AbstractAgent.computeRetryWaitTime(20000, 1);
+			assertThat(waitTime >= AbstractAgent.MAX_RETRY_WAIT_TIME / 2
+					&& waitTime <= AbstractAgent.MAX_RETRY_WAIT_TIME, is(true));
+			// 上限より長いリトライ待機時間を指定した場合は指定値で待機する
+			waitTime = AbstractAgent.computeRetryWaitTime(90000, 2);
+			assertThat(waitTime, is(90000L));
+		}
+	}
+
 	/**
 	 * リトライテスト用の例外をスローするフィルター
 	 *
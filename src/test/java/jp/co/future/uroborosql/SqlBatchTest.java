@@ -1,5 +1,6 @@
 package jp.co.future.uroborosql;
 
+import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 
 import java.math.BigDecimal;
@@ -17,7 +18,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import jp.co.future.uroborosql.context.SqlContext;
+import jp.co.future.uroborosql.context.SqlContextFactory;
 import jp.co.future.uroborosql.converter.MapResultSetConverter;
+import jp.co.future.uroborosql.exception.ParameterNotFoundRuntimeException;
 import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
 import jp.co.future.uroborosql.utils.CaseFormat;
 
@@ -137,6 +140,64 @@ public class SqlBatchTest extends AbstractDbTest {
 		assertEquals(expectedDataList.toString(), actualDataList.toString());
 	}
 
+	/**
+	 * IN句のパディングを行うバッチ処理のテストケース。
+	 */
+	@Test
+	public void testExecuteBatchWithInListPadding() throws Exception {
+		// 事前条件
+		cleanInsert(Paths.get("src/test/resources/data/setup", "testExecuteQuery.ltsv"));
+		config.getSqlContextFactory().setInListPaddingStep(SqlContextFactory.IN_LIST_PADDING_POWER_OF_TWO);
+
+		// 処理実行
+		SqlContext ctx = agent.contextWith("update product set version_no = /*version_no*/0"
+				+ " /*BEGIN*/where /*IF ids != null*/product_id in /*ids*/()/*END*//*END*/")
+				.param("version_no", 1).paramList("ids", 0).addBatch()
+				.param("version_no", 2).paramList("ids", 1, 2, 3).addBatch()
+				.paramList("ids", 0, 1, 2);
+
+		int[] count = agent.batch(ctx);
+		assertThat(ctx.getExecutableSql(), containsString("in (?, ?, ?, ?)/*ids*/"));
+		assertEquals("データの更新件数が不正です。", 2, count.length);
+		assertEquals("1行目のデータの更新に失敗しました。", 1, count[0]);
+		assertEquals("2行目のデータの更新に失敗しました。", 1, count[1]);
+
+		// 検証処理
+		List<Map<String, Object>> actualDataList = agent.queryWith(
+				"select product_id, version_no from product order by product_id").collect();
+		assertThat(actualDataList.get(0).get("VERSION_NO"), is(new BigDecimal(1)));
+		assertThat(actualDataList.get(1).get("VERSION_NO"), is(new BigDecimal(2)));
+	}
+
+	/**
+	 * IN句を配列パラメータとしてバインドするバッチ処理のテストケース。
+	 */
+	@Test
+	public void testExecuteBatchWithArrayBind() throws Exception {
+		// 事前条件
+		cleanInsert(Paths.get("src/test/resources/data/setup", "testExecuteQuery.ltsv"));
+		config.getSqlContextFactory().setInListArrayBindThreshold(2);
+
+		// 処理実行
+		SqlContext ctx = agent.contextWith("update product set version_no = /*version_no*/0"
+				+ " where product_id in /*ids*/()")
+				.param("version_no", 1).paramList("ids", 0).addBatch()
+				.param("version_no", 2).paramList("ids", 1, 2, 3).addBatch()
+				.paramList("ids", 0, 1);
+
+		int[] count = agent.batch(ctx);
+		assertThat(ctx.getExecutableSql(), containsString("= ANY (?)/*ids*/"));
+		assertEquals("データの更新件数が不正です。", 2, count.length);
+		assertEquals("1行目のデータの更新に失敗しました。", 1, count[0]);
+		assertEquals("2行目のデータの更新に失敗しました。", 1, count[1]);
+
+		// 検証処理
+		List<Map<String, Object>> actualDataList = agent.queryWith(
+				"select product_id, version_no from product order by product_id").collect();
+		assertThat(actualDataList.get(0).get("VERSION_NO"), is(new BigDecimal(1)));
+		assertThat(actualDataList.get(1).get("VERSION_NO"), is(new BigDecimal(2)));
+	}
+
 	@SuppressWarnings("deprecation")
 	@Test
 	public void testExecuteBatchNoAddBatch() throws Exception {
@@ -359,6 +420,56 @@ public class SqlBatchTest extends AbstractDbTest {
 		}
 	}
 
+	/**
+	 * バッチ処理のテストケース(プロパティ参照)。
+	 */
+	@Test
+	public void testExecuteBatchSubParameter() throws Exception {
+		// 事前条件
+		truncateTable("PRODUCT");
+
+		Timestamp currentDatetime = Timestamp.valueOf("2005-12-12 10:10:10.000000000");
+		SqlContext ctx = agent.contextWith("insert into product (product_id, product_name, product_kana_name, "
+				+ "jan_code, product_description, ins_datetime, upd_datetime, version_no) values (/*p.id*/0, "
+				+ "/*p.name*/'', /*p.name*/'', '1234567890123', '', /*now*/'', /*now*/'', 0)");
+		for (int i = 1; i <= 3; i++) {
+			Map<String, Object> row = new HashMap<>();
+			row.put("id", i);
+			row.put("name", "商品名" + i);
+			ctx.param("p", row).param("now", currentDatetime).addBatch();
+		}
+
+		int[] count = agent.batch(ctx);
+		assertEquals("データの登録件数が不正です。", 3, count.length);
+		assertEquals("商品名3", agent.queryWith("select product_name from product where product_id = 3")
+				.collect().get(0).get("PRODUCT_NAME"));
+	}
+
+	/**
+	 * バッチ処理のテストケース(パラメータ不足)。
+	 */
+	@Test
+	public void testExecuteBatchParameterNotFound() throws Exception {
+		// 事前条件
+		truncateTable("PRODUCT");
+
+		Timestamp currentDatetime = Timestamp.valueOf("2005-12-12 10:10:10.000000000");
+		SqlContext ctx = agent.contextFrom("example/insert_product").param("product_id", new BigDecimal(1))
+				.param("product_name", "商品名1").param("product_kana_name", "ショウヒンメイイチ")
+				.param("jan_code", "1234567890123").param("product_description", "1番目の商品")
+				.param("ins_datetime", currentDatetime).param("upd_datetime", currentDatetime)
+				.param("version_no", new BigDecimal(0)).addBatch().param("product_id", new BigDecimal(2))
+				.param("product_name", "商品名2").addBatch();
+
+		try {
+			agent.batch(ctx);
+			fail();
+		} catch (ParameterNotFoundRuntimeException ex) {
+			assertEquals("Parameter [product_kana_name, jan_code, product_description, ins_datetime, "
+					+ "upd_datetime, version_no] is not found.", ex.getMessage());
+		}
+	}
+
 	/**
 	 * SQLファイルが存在しない場合のテストケース。
 	 */
@@ -329,6 +329,26 @@ public class SqlEntityUpdateTest extends AbstractDbTest {
 		});
 	}
 
+	/**
+	 * IN句を配列パラメータとしてバインドする場合のEntityを使った一括更新処理のテストケース。
+	 */
+	@Test
+	public void testEntityUpdatesAndReturnWithArrayBind() throws Exception {
+		// 事前条件
+		cleanInsert(Paths.get("src/test/resources/data/setup", "testExecuteBatch.ltsv"));
+		config.getSqlContextFactory().setInListArrayBindThreshold(1);
+
+		agent.required(() -> {
+			List<Product> products = agent.updatesAndReturn(agent.query(Product.class).stream().map(p -> {
+				p.setProductName(p.getProductName() + "_new");
+				return p;
+			})).collect(Collectors.toList());
+			assertThat(products.size(), is(2));
+			assertThat(products.get(0).getVersionNo(), is(1));
+			assertThat(products.get(1).getVersionNo(), is(1));
+		});
+	}
+
 	/**
 	 * Entityを使った一括更新処理のテストケース。
 	 */
@@ -19,6 +19,7 @@ import java.util.Set;
 import org.junit.Test;
 
 import jp.co.future.uroborosql.context.SqlContext;
+import jp.co.future.uroborosql.context.SqlContextFactory;
 import jp.co.future.uroborosql.converter.MapResultSetConverter;
 import jp.co.future.uroborosql.exception.DataNonUniqueException;
 import jp.co.future.uroborosql.exception.DataNotFoundException;
@@ -84,6 +85,83 @@ public class SqlQueryTest extends AbstractDbTest {
 		assertFalse("結果が複数件です。", rs.next());
 	}
 
+	/**
+	 * IN句のパディングを行うクエリ実行処理のテストケース。
+	 */
+	@Test
+	public void testQueryParamListWithPadding() throws Exception {
+		// 事前条件
+		cleanInsert(Paths.get("src/test/resources/data/setup", "testExecuteQuery.ltsv"));
+		config.getSqlContextFactory().setInListPaddingStep(SqlContextFactory.IN_LIST_PADDING_POWER_OF_TWO);
+
+		SqlContext ctx = agent.contextFrom("example/select_product")
+				.paramList("product_id", new BigDecimal("0"), new BigDecimal("1"), new BigDecimal("2"))
+				.setSqlId("test_sql_id");
+
+		ResultSet rs = agent.query(ctx);
+		assertThat(ctx.getExecutableSql(), containsString("IN	(?, ?, ?, ?)/*product_id*/"));
+		assertThat(ctx.getBindVariables().length, is(4));
+		assertTrue(rs.next());
+		assertEquals("0", rs.getString("PRODUCT_ID"));
+		assertTrue(rs.next());
+		assertEquals("1", rs.getString("PRODUCT_ID"));
+		assertFalse(rs.next());
+
+		// 要素数が異なっても同じ単位に揃えられる場合は同じSQLとなる
+		config.getSqlContextFactory().setInListPaddingStep(5);
+		List<Map<String, Object>> result = agent.query("example/select_product")
+				.paramList("product_id", new BigDecimal("0"), new BigDecimal("1"))
+				.collect();
+		assertThat(result.size(), is(2));
+		SqlContext ctx2 = agent.contextFrom("example/select_product")
+				.paramList("product_id", new BigDecimal("0"), new BigDecimal("1"), new BigDecimal("3"));
+		agent.query(ctx2);
+		assertThat(ctx2.getExecutableSql(), containsString("IN	(?, ?, ?, ?, ?)/*product_id*/"));
+	}
+
+	/**
+	 * IN句を配列パラメータとしてバインドするクエリ実行処理のテストケース。
+	 */
+	@Test
+	public void testQueryParamListWithArrayBind() throws Exception {
+		// 事前条件
+		cleanInsert(Paths.get("src/test/resources/data/setup", "testExecuteQuery.ltsv"));
+		config.getSqlContextFactory().setInListArrayBindThreshold(2);
+
+		SqlContext ctx = agent.contextFrom("example/select_product")
+				.paramList("product_id", new BigDecimal("0"), new BigDecimal("1"), new BigDecimal("3"));
+		ResultSet rs = agent.query(ctx);
+		assertThat(ctx.getExecutableSql(), containsString("PRODUCT_ID	= ANY	(?)/*product_id*/"));
+		assertTrue(rs.next());
+		assertEquals("0", rs.getString("PRODUCT_ID"));
+		assertTrue(rs.next());
+		assertEquals("1", rs.getString("PRODUCT_ID"));
+		assertFalse(rs.next());
+
+		// 閾値未満の場合は配列パラメータとしてバインドしない
+		SqlContext ctx2 = agent.contextFrom("example/select_product")
+				.paramList("product_id", new BigDecimal("1"));
+		agent.query(ctx2);
+		assertThat(ctx2.getExecutableSql(), containsString("PRODUCT_ID	IN	(?)/*product_id*/"));
+
+		// NOT INの場合は配列パラメータとしてバインドしない
+		List<Map<String, Object>> result = agent
+				.queryWith("select * from product where product_id not in /*ids*/(0) order by product_id")
+				.paramList("ids", 0, 1).collect();
+		assertThat(result.size(), is(0));
+
+		// 要素の型が混在する場合は配列パラメータとしてバインドしない
+		result = agent.queryWith("select * from product where product_id in /*ids*/(0) order by product_id")
+				.paramList("ids", 0, 1L).collect();
+		assertThat(result.size(), is(2));
+
+		// 同じパラメータでも配列パラメータとしてバインドするかどうかは出現箇所ごとに判定する
+		result = agent.queryWith("select * from product where product_id in /*ids*/(0)"
+				+ " or product_id not in /*ids*/(0) order by product_id")
+				.paramList("ids", 0, 1).collect();
+		assertThat(result.size(), is(2));
+	}
+
 	/**
 	 * クエリ実行処理のテストケース。
 	 */
@@ -103,6 +103,18 @@ public class JdbcConnectionContextTest {
 		assertThat(props.get("user"), is(USER));
 		assertThat(props.get("password"), is(PASSWORD));
 
+		ctx = ConnectionContextBuilder.jdbc(URL, USER, PASSWORD, SCHEMA)
+				.maxPoolSize(10)
+				.poolAcquireTimeout(1000L)
+				.poolMaxIdleTime(2000L)
+				.poolValidationTimeout(3);
+		props = ctx.toProperties();
+		assertThat(props.size(), is(2));
+		assertThat(ctx.maxPoolSize(), is(10));
+		assertThat(ctx.poolAcquireTimeout(), is(1000L));
+		assertThat(ctx.poolMaxIdleTime(), is(2000L));
+		assertThat(ctx.poolValidationTimeout(), is(3));
+
 		ctx = ConnectionContextBuilder.jdbc(URL, USER, PASSWORD, SCHEMA)
 				.autoCommit(true)
 				.readOnly(true)
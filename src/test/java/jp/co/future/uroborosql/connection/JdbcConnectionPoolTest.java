@@ -0,0 +1,238 @@
+package jp.co.future.uroborosql.connection;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class JdbcConnectionPoolTest {
+	private static final String URL = "jdbc:h2:mem:JdbcConnectionPoolTest;DB_CLOSE_DELAY=-1";
+
+	private JdbcConnectionPool createPool(final int maxSize, final long maxIdleTime) {
+		return new JdbcConnectionPool(() -> DriverManager.getConnection(URL, "", ""), maxSize, 100L, maxIdleTime, 5);
+	}
+
+	@Test
+	public void testReuseConnection() throws Exception {
+		JdbcConnectionPool pool = createPool(2, 0L);
+		Connection physical;
+		try (Connection conn = pool.getConnection()) {
+			physical = conn.unwrap(Connection.class);
+			assertThat(pool.getActiveCount(), is(1));
+			assertThat(pool.getIdleCount(), is(0));
+		}
+		assertThat(pool.getActiveCount(), is(0));
+		assertThat(pool.getIdleCount(), is(1));
+
+		try (Connection conn = pool.getConnection()) {
+			assertThat(conn.unwrap(Connection.class), is(sameInstance(physical)));
+		}
+		assertThat(pool.getCreatedCount(), is(1L));
+		assertThat(pool.getBorrowedCount(), is(2L));
+		assertThat(pool.getDestroyedCount(), is(0L));
+		pool.close();
+		assertThat(physical.isClosed(), is(true));
+	}
+
+	@Test
+	public void testCloseTwice() throws Exception {
+		JdbcConnectionPool pool = createPool(1, 0L);
+		Connection conn = pool.getConnection();
+		conn.close();
+		conn.close();
+		assertThat(conn.isClosed(), is(true));
+		assertThat(pool.getIdleCount(), is(1));
+		try {
+			conn.createStatement();
+			fail();
+		} catch (SQLException ex) {
+			assertThat(ex.getMessage(), is("Connection is closed."));
+		}
+		pool.close();
+	}
+
+	@Test
+	public void testRollbackOnRelease() throws Exception {
+		try (Connection setup = DriverManager.getConnection(URL, "", "");
+				Statement stmt = setup.createStatement()) {
+			stmt.execute("create table if not exists pool_test (id integer)");
+			stmt.execute("delete from pool_test");
+		}
+
+		JdbcConnectionPool pool = createPool(1, 0L);
+		try (Connection conn = pool.getConnection()) {
+			conn.setAutoCommit(false);
+			try (Statement stmt = conn.createStatement()) {
+				stmt.execute("insert into pool_test values (1)");
+			}
+		}
+		try (Connection conn = pool.getConnection(); Statement stmt = conn.createStatement()) {
+			try (ResultSet rs = stmt.executeQuery("select count(*) from pool_test")) {
+				rs.next();
+				assertThat(rs.getInt(1), is(0));
+			}
+		}
+		pool.close();
+	}
+
+	@Test
+	public void testResetSessionOnRelease() throws Exception {
+		try (Connection setup = DriverManager.getConnection(URL, "", "");
+				Statement stmt = setup.createStatement()) {
+			stmt.execute("create schema if not exists pool_schema");
+		}
+
+		JdbcConnectionPool pool = createPool(1, 0L);
+		String schema;
+		int holdability;
+		try (Connection conn = pool.getConnection()) {
+			schema = conn.getSchema();
+			holdability = conn.getHoldability();
+			conn.setSchema("POOL_SCHEMA");
+			conn.setHoldability(holdability == ResultSet.HOLD_CURSORS_OVER_COMMIT
+					? ResultSet.CLOSE_CURSORS_AT_COMMIT
+					: ResultSet.HOLD_CURSORS_OVER_COMMIT);
+		}
+		// 変更したスキーマ、保持機能は次の利用者に引き継がない
+		try (Connection conn = pool.getConnection()) {
+			assertThat(conn.getSchema(), is(schema));
+			assertThat(conn.getHoldability(), is(holdability));
+		}
+		assertThat(pool.getCreatedCount(), is(1L));
+		pool.close();
+	}
+
+	@Test
+	public void testTrackTransactionState() throws Exception {
+		List<String> calls = new ArrayList<>();
+		JdbcConnectionPool pool = new JdbcConnectionPool(() -> {
+			Connection physical = DriverManager.getConnection(URL, "", "");
+			return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+					new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+						calls.add(method.getName());
+						try {
+							return method.invoke(physical, args);
+						} catch (InvocationTargetException ex) {
+							throw ex.getCause();
+						}
+					});
+		}, 1, 100L, 0L, 5);
+
+		try (Connection conn = pool.getConnection()) {
+			conn.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+			conn.setAutoCommit(false);
+			assertThat(conn.isReadOnly(), is(false));
+		}
+		calls.clear();
+
+		// 最後に設定・取得した状態はドライバに問い合わせず、同じ値の再設定も省略する
+		try (Connection conn = pool.getConnection()) {
+			assertThat(conn.getTransactionIsolation(), is(Connection.TRANSACTION_SERIALIZABLE));
+			assertThat(conn.getAutoCommit(), is(false));
+			assertThat(conn.isReadOnly(), is(false));
+			conn.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+			conn.setAutoCommit(false);
+			conn.setReadOnly(false);
+			assertThat(calls.contains("getTransactionIsolation"), is(false));
+			assertThat(calls.contains("setTransactionIsolation"), is(false));
+			assertThat(calls.contains("setAutoCommit"), is(false));
+			assertThat(calls.contains("isReadOnly"), is(false));
+			assertThat(calls.contains("setReadOnly"), is(false));
+
+			// 異なる値はドライバに設定する
+			conn.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+			assertThat(calls.contains("setTransactionIsolation"), is(true));
+			assertThat(conn.unwrap(Connection.class).getTransactionIsolation(),
+					is(Connection.TRANSACTION_READ_COMMITTED));
+		}
+		pool.close();
+	}
+
+	@Test
+	public void testAcquireTimeout() throws Exception {
+		JdbcConnectionPool pool = createPool(1, 0L);
+		try (Connection conn = pool.getConnection()) {
+			try {
+				pool.getConnection();
+				fail();
+			} catch (SQLTimeoutException ex) {
+				assertThat(pool.getTimeoutCount(), is(1L));
+			}
+		}
+		try (Connection conn = pool.getConnection()) {
+			assertThat(conn.isClosed(), is(false));
+		}
+		pool.close();
+	}
+
+	@Test
+	public void testValidateOnBorrow() throws Exception {
+		JdbcConnectionPool pool = createPool(1, 0L);
+		Connection physical;
+		try (Connection conn = pool.getConnection()) {
+			physical = conn.unwrap(Connection.class);
+		}
+		physical.close();
+
+		try (Connection conn = pool.getConnection()) {
+			assertThat(conn.unwrap(Connection.class), is(not(sameInstance(physical))));
+			assertThat(conn.isValid(1), is(true));
+		}
+		assertThat(pool.getCreatedCount(), is(2L));
+		assertThat(pool.getDestroyedCount(), is(1L));
+		pool.close();
+	}
+
+	@Test
+	public void testEvictIdleConnection() throws Exception {
+		JdbcConnectionPool pool = createPool(2, 50L);
+		Connection conn1 = pool.getConnection();
+		Connection conn2 = pool.getConnection();
+		Connection physical1 = conn1.unwrap(Connection.class);
+		conn1.close();
+		Thread.sleep(100L);
+		conn2.close();
+
+		assertThat(physical1.isClosed(), is(true));
+		assertThat(pool.getIdleCount(), is(1));
+		assertThat(pool.getDestroyedCount(), is(1L));
+		pool.close();
+	}
+
+	@Test
+	public void testClose() throws Exception {
+		JdbcConnectionPool pool = createPool(2, 0L);
+		Connection conn = pool.getConnection();
+		Connection physical = conn.unwrap(Connection.class);
+		pool.close();
+		assertThat(pool.isClosed(), is(true));
+		assertThat(physical.isClosed(), is(false));
+
+		conn.close();
+		assertThat(physical.isClosed(), is(true));
+		assertThat(pool.getIdleCount(), is(0));
+		try {
+			pool.getConnection();
+			fail();
+		} catch (SQLException ex) {
+			assertThat(ex.getMessage(), is("Connection pool is closed."));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidMaxSize() throws Exception {
+		createPool(0, 0L);
+	}
+}
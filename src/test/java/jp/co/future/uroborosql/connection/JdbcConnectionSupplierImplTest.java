@@ -4,6 +4,7 @@ import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 
 import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
@@ -129,6 +130,77 @@ public class JdbcConnectionSupplierImplTest {
 		}
 	}
 
+	@Test
+	public void testGetConnectionRepeatedly() throws Exception {
+		String url = "jdbc:h2:mem:" + this.getClass().getSimpleName() + "_repeat";
+
+		JdbcConnectionSupplierImpl supplier = new JdbcConnectionSupplierImpl(
+				ConnectionContextBuilder.jdbc(url, "", "", "OTHER").autoCommit(true));
+		try (Connection holder = DriverManager.getConnection(url, "", "")) {
+			holder.createStatement().execute("create schema if not exists OTHER");
+			for (int i = 0; i < 3; i++) {
+				try (Connection conn = supplier.getConnection()) {
+					assertThat(conn.getSchema(), is("OTHER"));
+					assertThat(conn.getAutoCommit(), is(true));
+				}
+			}
+			for (int i = 0; i < 3; i++) {
+				try (Connection conn = supplier.getConnection(ConnectionContextBuilder.jdbc(url, "", ""))) {
+					assertThat(conn.getSchema(), is("PUBLIC"));
+					assertThat(conn.getAutoCommit(), is(false));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testGetConnectionWithPool() throws Exception {
+		String url = "jdbc:h2:mem:" + this.getClass().getSimpleName() + "_pool";
+
+		JdbcConnectionSupplierImpl supplier = new JdbcConnectionSupplierImpl(
+				ConnectionContextBuilder.jdbc(url, "", "").maxPoolSize(2));
+		Connection physical;
+		try (Connection conn = supplier.getConnection()) {
+			physical = conn.unwrap(Connection.class);
+			conn.setAutoCommit(true);
+		}
+		try (Connection conn = supplier.getConnection()) {
+			assertThat(conn.unwrap(Connection.class), is(sameInstance(physical)));
+			assertThat(conn.getAutoCommit(), is(false));
+		}
+		assertThat(supplier.getConnectionPools().size(), is(1));
+		JdbcConnectionPool pool = supplier.getConnectionPools().iterator().next();
+		assertThat(pool.getMaxSize(), is(2));
+		assertThat(pool.getCreatedCount(), is(1L));
+		assertThat(pool.getIdleCount(), is(1));
+
+		supplier.closeConnectionPools();
+		assertThat(pool.isClosed(), is(true));
+		assertThat(physical.isClosed(), is(true));
+		assertThat(supplier.getConnectionPools().isEmpty(), is(true));
+	}
+
+	@Test
+	public void testGetConnectionWithPoolSettings() throws Exception {
+		String url = "jdbc:h2:mem:" + this.getClass().getSimpleName() + "_pool_settings";
+
+		JdbcConnectionSupplierImpl supplier = new JdbcConnectionSupplierImpl(
+				ConnectionContextBuilder.jdbc(url, "", "").maxPoolSize(2));
+		try (Connection conn = supplier.getConnection()) {
+			assertThat(conn.isClosed(), is(false));
+		}
+		// プールの設定が異なる場合は別のプールから取得する
+		try (Connection conn = supplier.getConnection(ConnectionContextBuilder.jdbc(url, "", "").maxPoolSize(3))) {
+			assertThat(conn.isClosed(), is(false));
+		}
+		try (Connection conn = supplier.getConnection()) {
+			assertThat(conn.isClosed(), is(false));
+		}
+		assertThat(supplier.getConnectionPools().size(), is(2));
+		assertThat(supplier.getConnectionPools().stream().mapToInt(JdbcConnectionPool::getMaxSize).sum(), is(5));
+		supplier.closeConnectionPools();
+	}
+
 	@Test
 	public void testGetConnectionWithContext() throws Exception {
 		String url = "jdbc:h2:mem:" + this.getClass().getSimpleName();
@@ -171,6 +171,56 @@ public class SqlContextFactoryTest {
 		assertThat(ctx.getParam("DUMMY").getValue(), is("dummy_value"));
 	}
 
+	@Test
+	public void testSharedConstParameterMap() throws Exception {
+		sqlContextFactory.setConstantClassNames(Arrays.asList(TestConsts.class.getName()));
+		sqlContextFactory.initialize();
+
+		// 自動バインド用パラメータがない場合は定数パラメータマップを共有し、取得時にコピーする
+		SqlContextImpl ctx1 = (SqlContextImpl) sqlContextFactory.createSqlContext();
+		SqlContextImpl ctx2 = (SqlContextImpl) sqlContextFactory.createSqlContext();
+		assertThat(ctx1.getParam("CLS_STRING").getValue(), is("AAA"));
+		Map<String, Parameter> ctx1Map = ctx1.getConstParameterMap();
+		assertThat(ctx1Map, is(not(sameInstance(sqlContextFactory.getConstParameterMap()))));
+		assertThat(ctx1Map, is(sqlContextFactory.getConstParameterMap()));
+		assertThat(ctx1.getConstParameterMap(), is(sameInstance(ctx1Map)));
+
+		// コピーした定数パラメータマップへの追加は他のSQLコンテキストに影響しない
+		ctx1Map.put("ADDED", new Parameter("ADDED", "added"));
+		assertThat(ctx1.getParam("ADDED").getValue(), is("added"));
+		assertThat(ctx2.getParam("ADDED"), is(nullValue()));
+		assertThat(sqlContextFactory.getConstParameterMap().containsKey("ADDED"), is(false));
+
+		// 自動バインド用パラメータは定数パラメータより優先する
+		List<AutoBindParameterCreator> creators = new ArrayList<>();
+		creators.add(() -> {
+			Map<String, Parameter> map = new ConcurrentHashMap<>();
+			map.put("CLS_STRING", new Parameter("CLS_STRING", "overridden"));
+			map.put("DUMMY", new Parameter("DUMMY", "dummy_value"));
+			return map;
+		});
+		sqlContextFactory.setAutoBindParameterCreators(creators);
+		SqlContextImpl ctx3 = (SqlContextImpl) sqlContextFactory.createSqlContext();
+		assertThat(ctx3.getParam("CLS_STRING").getValue(), is("overridden"));
+		assertThat(ctx3.getParam("DUMMY").getValue(), is("dummy_value"));
+		assertThat(ctx3.getParam("CLS_INT").getValue(), is(1));
+		assertThat(ctx3.getConstParameterMap().size(), is(sqlContextFactory.getConstParameterMap().size() + 1));
+		assertThat(sqlContextFactory.getConstParameterMap().get("CLS_STRING").getValue(), is("AAA"));
+	}
+
+	@Test
+	public void testSharedParameterMapperManager() throws Exception {
+		sqlContextFactory.initialize();
+
+		SqlContextImpl ctx1 = (SqlContextImpl) sqlContextFactory.createSqlContext();
+		SqlContextImpl ctx2 = (SqlContextImpl) sqlContextFactory.createSqlContext();
+
+		// 取得した時点でコピーされるため、他のSQLコンテキストには影響しない
+		ctx1.getParameterMapperManager().addMapper((original, connection, parameterMapperManager) -> null);
+		assertThat(ctx1.getParameterMapperManager(), is(sameInstance(ctx1.getParameterMapperManager())));
+		assertThat(ctx1.getParameterMapperManager(), is(not(sameInstance(ctx2.getParameterMapperManager()))));
+	}
+
 	@Test
 	public void testSetDefaultResultSetType() throws Exception {
 		sqlContextFactory.initialize();
@@ -193,4 +243,22 @@ public class SqlContextFactoryTest {
 		assertThat(sqlContextFactory.createSqlContext().getResultSetConcurrency(), is(ResultSet.CONCUR_UPDATABLE));
 	}
 
+	@Test
+	public void testSetRegexSqlFormat() throws Exception {
+		sqlContextFactory.initialize();
+		assertThat(sqlContextFactory.isRegexSqlFormat(), is(false));
+
+		// 正規表現による整形では文字列リテラル内のWHEREに続くANDも除去される
+		String sql = "select * from test where aaa = ' where and x'";
+		SqlContext ctx1 = sqlContextFactory.createSqlContext();
+		ctx1.addSqlPart(sql);
+		assertThat(ctx1.getExecutableSql(), is(sql));
+
+		sqlContextFactory.setRegexSqlFormat(true);
+		assertThat(sqlContextFactory.isRegexSqlFormat(), is(true));
+		SqlContext ctx2 = sqlContextFactory.createSqlContext();
+		ctx2.addSqlPart(sql);
+		assertThat(ctx2.getExecutableSql(), is("select * from test where aaa = ' where x'"));
+	}
+
 }
@@ -303,6 +303,45 @@ public class SqlContextImplTest {
 				ctx63.getExecutableSql());
 	}
 
+	@Test
+	public void testRegexSqlFormat() throws Exception {
+		String[] sqls = {
+				"select[LF], aaa[LF], bbb[LF]from test[LF]where[LF][LF]  [LF] and aaa = 1[LF]  [LF]order by[LF], aaa",
+				"select * from test where /* comment */ --comment [LF] or aaa in (, 1, 2)",
+				"update test[LF]set /* comment */[LF],aaa = 111 where and bbb = 222",
+				"select count(,aaa) from test group     by ,aaa where bbb = 1 and ccc = 2",
+				"select * from test[LF]where and[LF][LF]", };
+		for (String sql : sqls) {
+			SqlContextImpl ctx = (SqlContextImpl) getSqlContext(sql);
+			SqlContextImpl regexCtx = (SqlContextImpl) getSqlContext(sql);
+			regexCtx.setRegexSqlFormat(true);
+			assertThat(sql, ctx.getExecutableSql(), is(regexCtx.getExecutableSql()));
+		}
+
+		// 文字列リテラル内の文字は除去の対象としない
+		SqlContext ctx = getSqlContext("select * from test where aaa = ' where and ,' and bbb = 1");
+		assertThat(ctx.getExecutableSql(), is("select * from test where aaa = ' where and ,' and bbb = 1"));
+	}
+
+	@Test
+	public void testGetPaddedInListSize() throws Exception {
+		SqlContextImpl ctx = (SqlContextImpl) getSqlContext("select * from test");
+		assertThat(ctx.getPaddedInListSize(3), is(3));
+
+		ctx.setInListPaddingStep(SqlContextFactory.IN_LIST_PADDING_POWER_OF_TWO);
+		assertThat(ctx.getPaddedInListSize(1), is(1));
+		assertThat(ctx.getPaddedInListSize(2), is(2));
+		assertThat(ctx.getPaddedInListSize(3), is(4));
+		assertThat(ctx.getPaddedInListSize(9), is(16));
+		assertThat(ctx.getPaddedInListSize(600), is(1000));
+		assertThat(ctx.getPaddedInListSize(1500), is(1500));
+
+		ctx.setInListPaddingStep(10);
+		assertThat(ctx.getPaddedInListSize(3), is(10));
+		assertThat(ctx.getPaddedInListSize(10), is(10));
+		assertThat(ctx.getPaddedInListSize(11), is(20));
+	}
+
 	@Test
 	public void testHasParam() throws Exception {
 		SqlContext ctx = getSqlContext("select * from dummy");
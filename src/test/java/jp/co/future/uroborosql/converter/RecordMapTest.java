@@ -0,0 +1,90 @@
+package jp.co.future.uroborosql.converter;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class RecordMapTest {
+	private final RecordMap.Keys keys = new RecordMap.Keys(new String[] { "ID", "NAME", "AGE" });
+
+	private Map<String, Object> newRecord() {
+		return new RecordMap(keys, new Object[] { 1, "name1", null });
+	}
+
+	private Map<String, Object> newExpected() {
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("ID", 1);
+		map.put("NAME", "name1");
+		map.put("AGE", null);
+		return map;
+	}
+
+	@Test
+	public void testGet() {
+		Map<String, Object> record = newRecord();
+		assertThat(record.size(), is(3));
+		assertThat(record.get("ID"), is(1));
+		assertThat(record.get("NAME"), is("name1"));
+		assertThat(record.get("AGE"), is(nullValue()));
+		assertThat(record.containsKey("AGE"), is(true));
+		assertThat(record.containsKey("OTHER"), is(false));
+		assertThat(record.get("OTHER"), is(nullValue()));
+		assertThat(new ArrayList<>(record.keySet()), is(new ArrayList<>(newExpected().keySet())));
+		assertThat(record, is(newExpected()));
+		assertThat(newExpected(), is(record));
+		assertThat(record.hashCode(), is(newExpected().hashCode()));
+		assertThat(record.toString(), is(newExpected().toString()));
+	}
+
+	@Test
+	public void testModify() {
+		Map<String, Object> record = newRecord();
+		Map<String, Object> expected = newExpected();
+
+		assertThat(record.put("NAME", "name2"), is(expected.put("NAME", "name2")));
+		assertThat(record.remove("ID"), is(expected.remove("ID")));
+		assertThat(record.containsKey("ID"), is(false));
+		assertThat(record.size(), is(2));
+		assertThat(record, is(expected));
+
+		// 削除したキーの再追加と新しいキーの追加は末尾に追加される
+		record.put("ID", 2);
+		expected.put("ID", 2);
+		record.put("OTHER", "other");
+		expected.put("OTHER", "other");
+		assertThat(new ArrayList<>(record.entrySet()), is(new ArrayList<>(expected.entrySet())));
+
+		record.clear();
+		assertThat(record.isEmpty(), is(true));
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		Map<String, Object> record = newRecord();
+		Iterator<Map.Entry<String, Object>> it = record.entrySet().iterator();
+		it.next().setValue(10);
+		it.next();
+		it.remove();
+		assertThat(record.size(), is(2));
+		assertThat(record.get("ID"), is(10));
+		assertThat(record.containsKey("NAME"), is(false));
+
+		record.values().removeIf(v -> v == null);
+		assertThat(record.size(), is(1));
+	}
+
+	@Test
+	public void testSharedKeys() {
+		Map<String, Object> record1 = newRecord();
+		Map<String, Object> record2 = new RecordMap(keys, new Object[] { 2, "name2", 20 });
+		record1.put("OTHER", "other");
+		assertThat(record2.containsKey("OTHER"), is(false));
+		assertThat(record2.get("AGE"), is(20));
+	}
+}
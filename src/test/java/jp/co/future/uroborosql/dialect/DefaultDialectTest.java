@@ -74,6 +74,9 @@ public class DefaultDialectTest {
 	@Test
 	public void testSupport() {
 		assertThat(dialect.supportsBulkInsert(), is(false));
+		assertThat(dialect.supportsArrayInClause(), is(false));
+		assertThat(dialect.getArrayTypeName(Integer.class), is(nullValue()));
+		assertThat(dialect.supportsRowValueInClause(), is(false));
 		assertThat(dialect.supportsLimitClause(), is(false));
 		assertThat(dialect.supportsNullValuesOrdering(), is(false));
 		assertThat(dialect.supportsIdentity(), is(true));
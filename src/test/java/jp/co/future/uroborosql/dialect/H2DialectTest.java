@@ -82,6 +82,11 @@ public class H2DialectTest {
 	@Test
 	public void testSupports() {
 		assertThat(dialect.supportsBulkInsert(), is(true));
+		assertThat(dialect.supportsArrayInClause(), is(true));
+		assertThat(dialect.getArrayTypeName(Integer.class), is("INTEGER"));
+		assertThat(dialect.getArrayTypeName(Double.class), is("DOUBLE"));
+		assertThat(dialect.getArrayTypeName(Object.class), is(nullValue()));
+		assertThat(dialect.supportsRowValueInClause(), is(true));
 		assertThat(dialect.supportsLimitClause(), is(true));
 		assertThat(dialect.supportsNullValuesOrdering(), is(true));
 		assertThat(dialect.supportsIdentity(), is(true));
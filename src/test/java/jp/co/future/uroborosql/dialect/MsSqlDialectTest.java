@@ -82,6 +82,8 @@ public class MsSqlDialectTest {
 	@Test
 	public void testSupports() {
 		assertThat(dialect.supportsBulkInsert(), is(false));
+		assertThat(dialect.supportsArrayInClause(), is(false));
+		assertThat(dialect.supportsRowValueInClause(), is(false));
 		assertThat(dialect.supportsLimitClause(), is(false));
 		assertThat(dialect.supportsNullValuesOrdering(), is(false));
 		assertThat(dialect.supportsIdentity(), is(true));
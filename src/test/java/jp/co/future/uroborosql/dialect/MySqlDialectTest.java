@@ -83,6 +83,8 @@ public class MySqlDialectTest {
 	@Test
 	public void testSupports() {
 		assertThat(dialect.supportsBulkInsert(), is(true));
+		assertThat(dialect.supportsArrayInClause(), is(false));
+		assertThat(dialect.supportsRowValueInClause(), is(true));
 		assertThat(dialect.supportsLimitClause(), is(true));
 		assertThat(dialect.supportsNullValuesOrdering(), is(false));
 		assertThat(dialect.supportsIdentity(), is(true));
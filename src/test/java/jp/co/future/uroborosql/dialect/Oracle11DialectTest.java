@@ -135,6 +135,8 @@ public class Oracle11DialectTest {
 	@Test
 	public void testSupports() {
 		assertThat(dialect.supportsBulkInsert(), is(false));
+		assertThat(dialect.supportsArrayInClause(), is(false));
+		assertThat(dialect.supportsRowValueInClause(), is(true));
 		assertThat(dialect.supportsLimitClause(), is(false));
 		assertThat(dialect.supportsNullValuesOrdering(), is(true));
 		assertThat(dialect.supportsIdentity(), is(false));
@@ -135,6 +135,8 @@ public class Oracle12DialectTest {
 	@Test
 	public void testSupports() {
 		assertThat(dialect.supportsBulkInsert(), is(false));
+		assertThat(dialect.supportsArrayInClause(), is(false));
+		assertThat(dialect.supportsRowValueInClause(), is(true));
 		assertThat(dialect.supportsLimitClause(), is(true));
 		assertThat(dialect.supportsNullValuesOrdering(), is(true));
 		assertThat(dialect.supportsIdentity(), is(true));
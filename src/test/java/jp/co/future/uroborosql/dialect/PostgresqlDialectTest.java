@@ -83,6 +83,11 @@ public class PostgresqlDialectTest {
 	@Test
 	public void testSupports() {
 		assertThat(dialect.supportsBulkInsert(), is(true));
+		assertThat(dialect.supportsArrayInClause(), is(true));
+		assertThat(dialect.getArrayTypeName(Integer.class), is("int4"));
+		assertThat(dialect.getArrayTypeName(Double.class), is("float8"));
+		assertThat(dialect.getArrayTypeName(Object.class), is(nullValue()));
+		assertThat(dialect.supportsRowValueInClause(), is(true));
 		assertThat(dialect.supportsLimitClause(), is(true));
 		assertThat(dialect.supportsNullValuesOrdering(), is(true));
 		assertThat(dialect.isRemoveTerminator(), is(true));
@@ -196,6 +196,25 @@ public abstract class AbstractExpressionParserTest {
 		assertThat(params, is(Matchers.contains("param1", "param2")));
 	}
 
+	@Test
+	public void testParseCache() {
+		ExpressionParser parser = sqlConfig.getExpressionParser();
+		Expression expr = parser.parse("param1 != null");
+		assertThat(parser.parse("param1 != null"), is(sameInstance(expr)));
+		assertThat(parser.parse("param2 != null"), is(not(sameInstance(expr))));
+
+		ctx.param("param1", 1);
+		assertThat(expr.getValue(ctx), is(true));
+		assertThat(expr.getValue(sqlConfig.getSqlContextFactory().createSqlContext()), is(false));
+
+		AbstractExpressionParser abstractParser = (AbstractExpressionParser) getExpressionParser();
+		abstractParser.setSqlConfig(sqlConfig);
+		abstractParser.initialize();
+		abstractParser.setCacheSize(0);
+		assertThat(abstractParser.parse("param1 != null"),
+				is(not(sameInstance(abstractParser.parse("param1 != null")))));
+	}
+
 	@Test
 	public void testPerformance() {
 		if (log.isTraceEnabled()) {
@@ -0,0 +1,101 @@
+package jp.co.future.uroborosql.expr.compiled;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import jp.co.future.uroborosql.context.SqlContext;
+import jp.co.future.uroborosql.expr.AbstractExpressionParserTest;
+import jp.co.future.uroborosql.expr.Expression;
+import jp.co.future.uroborosql.expr.ExpressionParser;
+import jp.co.future.uroborosql.expr.ognl.OgnlExpressionParser;
+
+public class CompiledExpressionParserTest extends AbstractExpressionParserTest {
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.expr.AbstractExpressionParserTest#getExpressionParser()
+	 */
+	@Override
+	protected ExpressionParser getExpressionParser() {
+		return new CompiledExpressionParser(new OgnlExpressionParser());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.expr.AbstractExpressionParserTest#getPerformanceHeader()
+	 */
+	@Override
+	protected String getPerformanceHeader() {
+		return "Compiled";
+	}
+
+	@Test
+	public void testCompiled() {
+		ExpressionParser parser = sqlConfig.getExpressionParser();
+		assertThat(parser.parse("param1 != null and SF.isNotEmpty(param2)").getClass().getSimpleName(),
+				is("CompiledExpression"));
+		assertThat(parser.parse("param1 > 1 || !(param2 == 'abc')").getClass().getSimpleName(),
+				is("CompiledExpression"));
+
+		// コンパイルできない評価式は委譲先で解析する
+		assertThat(parser.parse("param1.length() > 0").getClass().getSimpleName(), is("OgnlExpression"));
+		assertThat(parser.parse("param1 == 'a'").getClass().getSimpleName(), is("OgnlExpression"));
+		assertThat(parser.parse("param1 == 1.5").getClass().getSimpleName(), is("OgnlExpression"));
+	}
+
+	@Test
+	public void testSameResultAsDelegate() {
+		ExpressionParser compiled = sqlConfig.getExpressionParser();
+		ExpressionParser ognl = ((CompiledExpressionParser) compiled).getDelegate();
+
+		String[] expressions = { "param1 == null", "param1 != null", "!(param1 == null)",
+				"param1 == 10", "param1 != 10", "param1 > 5", "param1 <= 10", "param1 >= 11",
+				"param1 != null && param2 != null", "param1 == null || param2 != null", "not (param1 == null)",
+				"SF.isEmpty(param2)", "SF.isNotEmpty(param2) and param3 == 'abc'", "param3 == 'abc'",
+				"param3 != 'xyz'", "flag", "!flag", "flag == true", "param4 == 10", "param1 == param4",
+				"(param1 == 10 || param2 == null) && param3 != null", "param3 == 10", "param2 and flag",
+				"!param1 == null" };
+
+		SqlContext[] contexts = {
+				sqlConfig.context(),
+				sqlConfig.context().param("param1", 10).param("param2", "").param("param3", "abc")
+						.param("flag", true).param("param4", BigDecimal.TEN),
+				sqlConfig.context().param("param1", 3L).param("param2", "x").param("param3", "xyz")
+						.param("flag", false).param("param4", new BigDecimal("3.0")) };
+
+		for (String expression : expressions) {
+			for (SqlContext ctx : contexts) {
+				Object expected;
+				try {
+					expected = ognl.parse(expression).getValue(ctx);
+				} catch (RuntimeException ex) {
+					expected = ex.getClass();
+				}
+				Object actual;
+				try {
+					actual = compiled.parse(expression).getValue(ctx);
+				} catch (RuntimeException ex) {
+					actual = ex.getClass();
+				}
+				assertThat(expression, actual, is(expected));
+			}
+		}
+	}
+
+	@Test
+	public void testCompiledCollectParams() {
+		Expression expr = sqlConfig.getExpressionParser().parse("param1 != null and SF.isEmpty(param2)");
+		Set<String> params = new HashSet<>();
+		expr.collectParams(params);
+		assertThat(params, is(Matchers.containsInAnyOrder("param1", "param2")));
+	}
+}
@@ -0,0 +1,123 @@
+package jp.co.future.uroborosql.jfr;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import jp.co.future.uroborosql.SqlAgent;
+import jp.co.future.uroborosql.UroboroSQL;
+import jp.co.future.uroborosql.config.SqlConfig;
+import jp.co.future.uroborosql.utils.StringUtils;
+
+public class SqlExecutionEventTest {
+	private SqlConfig config;
+
+	@Before
+	public void setUp() throws Exception {
+		config = UroboroSQL.builder("jdbc:h2:mem:SqlExecutionEventTest;DB_CLOSE_DELAY=-1", "sa", "sa").build();
+		try (SqlAgent agent = config.agent()) {
+			String[] sqls = new String(Files.readAllBytes(Paths.get("src/test/resources/sql/ddl/create_tables.sql")),
+					StandardCharsets.UTF_8).split(";");
+			for (String sql : sqls) {
+				if (StringUtils.isNotBlank(sql)) {
+					agent.updateWith(sql.trim()).count();
+				}
+			}
+			agent.updateWith("delete from product").count();
+		}
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		try (SqlAgent agent = config.agent()) {
+			agent.updateWith("delete from product").count();
+		}
+	}
+
+	private List<RecordedEvent> record(final Runnable runnable) throws Exception {
+		Path file = Files.createTempFile("uroborosql", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(SqlExecutionEvent.NAME).withThreshold(Duration.ZERO);
+			recording.enable(TransactionEvent.NAME).withThreshold(Duration.ZERO);
+			recording.enable(ConnectionAcquireEvent.NAME).withThreshold(Duration.ZERO);
+			recording.start();
+			runnable.run();
+			recording.stop();
+			recording.dump(file);
+			return RecordingFile.readAllEvents(file);
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	private List<RecordedEvent> filter(final List<RecordedEvent> events, final String name) {
+		return events.stream().filter(e -> e.getEventType().getName().equals(name)).collect(Collectors.toList());
+	}
+
+	@Test
+	public void testSqlExecutionEvent() throws Exception {
+		List<RecordedEvent> events = record(() -> {
+			try (SqlAgent agent = config.agent()) {
+				agent.required(() -> {
+					agent.update("example/insert_product").param("product_id", 1).param("product_name", "name")
+							.param("product_kana_name", "kana").param("jan_code", "1234567890123")
+							.param("product_description", "").param("ins_datetime", LocalDate.now())
+							.param("upd_datetime", LocalDate.now()).param("version_no", 0).count();
+					agent.query("example/select_product").param("product_id", 1).collect();
+				});
+			}
+		});
+
+		List<RecordedEvent> sqlEvents = filter(events, SqlExecutionEvent.NAME);
+		assertThat(sqlEvents.size(), is(2));
+
+		RecordedEvent update = sqlEvents.get(0);
+		assertThat(update.getString("sqlName"), is("example/insert_product"));
+		assertThat(update.getString("sqlKind"), is("UPDATE"));
+		assertThat(update.getInt("bindCount"), is(8));
+		assertThat(update.getLong("rowCount"), is(1L));
+		assertThat(update.getInt("retryCount"), is(0));
+		assertThat(update.getDuration("parseTime").isNegative(), is(false));
+
+		RecordedEvent query = sqlEvents.get(1);
+		assertThat(query.getString("sqlName"), is("example/select_product"));
+		assertThat(query.getString("sqlId"), is(nullValue()));
+		assertThat(query.getString("sqlKind"), is("SELECT"));
+		assertThat(query.getInt("sqlHash") != 0, is(true));
+		assertThat(query.getLong("rowCount"), is(1L));
+
+		List<RecordedEvent> txEvents = filter(events, TransactionEvent.NAME);
+		assertThat(txEvents.stream().anyMatch(e -> e.getBoolean("commit")), is(true));
+
+		List<RecordedEvent> connectionEvents = filter(events, ConnectionAcquireEvent.NAME);
+		assertThat(connectionEvents.size(), is(1));
+		assertThat(connectionEvents.get(0).getBoolean("pooled"), is(false));
+	}
+
+	@Test
+	public void testRollbackEvent() throws Exception {
+		List<RecordedEvent> events = record(() -> {
+			try (SqlAgent agent = config.agent()) {
+				agent.updateWith("delete from product").count();
+				agent.rollback();
+			}
+		});
+		assertThat(filter(events, TransactionEvent.NAME).stream().anyMatch(e -> !e.getBoolean("commit")), is(true));
+	}
+}
@@ -13,6 +13,7 @@ import java.sql.Statement;
 import java.time.LocalDate;
 import java.time.Month;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +28,7 @@ import jp.co.future.uroborosql.SqlAgent;
 import jp.co.future.uroborosql.UroboroSQL;
 import jp.co.future.uroborosql.config.SqlConfig;
 import jp.co.future.uroborosql.context.SqlContext;
+import jp.co.future.uroborosql.dialect.DefaultDialect;
 import jp.co.future.uroborosql.enums.InsertsType;
 import jp.co.future.uroborosql.exception.OptimisticLockException;
 import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
@@ -1111,6 +1113,75 @@ public class DefaultEntityHandlerTest {
 		}
 	}
 
+	@Test
+	public void testFindAll() throws Exception {
+		try (SqlAgent agent = config.agent()) {
+			agent.required(() -> {
+				TestEntity test1 = new TestEntity(1, "name1", 20, LocalDate.of(1990, Month.APRIL, 1), Optional
+						.of("memo1"));
+				TestEntity test2 = new TestEntity(2, "name2", 21, LocalDate.of(1990, Month.APRIL, 2), Optional.empty());
+				TestEntity test3 = new TestEntity(3, "name3", 22, LocalDate.of(1990, Month.APRIL, 3), Optional
+						.of("memo3"));
+				agent.inserts(Stream.of(test1, test2, test3));
+
+				Map<Object, TestEntity> result = agent.findAll(TestEntity.class, Arrays.asList(3L, 1L, 1L, 4L, null));
+				assertThat(result.size(), is(2));
+				assertThat(result.get(1L), is(test1));
+				assertThat(result.get(3L), is(test3));
+				assertThat(result.containsKey(4L), is(false));
+
+				// エンティティのフィールドと型が異なる数値や、要素が1つの配列・リストを指定した場合も指定したキーで格納する
+				Map<Object, TestEntity> intKeyResult = agent.findAll(TestEntity.class,
+						Arrays.asList(1, new Object[] { 2 }, Collections.singletonList(3), 4));
+				assertThat(intKeyResult.size(), is(3));
+				assertThat(intKeyResult.get(1), is(test1));
+				assertThat(intKeyResult.get(2), is(test2));
+				assertThat(intKeyResult.get(3), is(test3));
+				assertThat(intKeyResult.get(1L), is(nullValue()));
+
+				assertThat(agent.findAll(TestEntity.class, Collections.emptyList()).isEmpty(), is(true));
+			});
+		}
+	}
+
+	@Test
+	public void testFindAllForMultiKey() throws Exception {
+		try (SqlAgent agent = config.agent()) {
+			agent.required(() -> {
+				TestDataMultiKeyEntity test1 = new TestDataMultiKeyEntity(1, "key1", "name1");
+				TestDataMultiKeyEntity test2 = new TestDataMultiKeyEntity(1, "key2", "name2");
+				TestDataMultiKeyEntity test3 = new TestDataMultiKeyEntity(2, "key1", "name3");
+				agent.inserts(Stream.of(test1, test2, test3));
+
+				Map<Object, TestDataMultiKeyEntity> result = agent.findAll(TestDataMultiKeyEntity.class,
+						Arrays.asList(new Object[] { 1, "key2" }, Arrays.asList(2, "key1"), new Object[] { 2, "key2" },
+								new Object[] { 1, null }, null));
+				assertThat(result.size(), is(2));
+				assertThat(result.get(Arrays.asList(1, "key2")), is(test2));
+				assertThat(result.get(Arrays.asList(2, "key1")), is(test3));
+
+				try {
+					agent.findAll(TestDataMultiKeyEntity.class, Collections.singletonList(new Object[] { 1 }));
+					fail();
+				} catch (IllegalArgumentException ex) {
+					assertThat(ex.getMessage(), is("Number of keys does not match"));
+				}
+			});
+		}
+
+		// 行値式をサポートしないDialectの場合はOR条件で取得する
+		SqlConfig defaultDialectConfig = UroboroSQL
+				.builder("jdbc:h2:mem:DefaultEntityHandlerTest;DB_CLOSE_DELAY=-1", null, null)
+				.setDialect(new DefaultDialect()).build();
+		try (SqlAgent agent = defaultDialectConfig.agent()) {
+			Map<Object, TestDataMultiKeyEntity> result = agent.findAll(TestDataMultiKeyEntity.class,
+					Arrays.asList(new Object[] { 1, "key1" }, new Object[] { 1, "key2" }));
+			assertThat(result.size(), is(2));
+			assertThat(result.get(Arrays.asList(1, "key1")), is(new TestDataMultiKeyEntity(1, "key1", "name1")));
+			assertThat(result.get(Arrays.asList(1, "key2")), is(new TestDataMultiKeyEntity(1, "key2", "name2")));
+		}
+	}
+
 	@Test
 	public void testDeleteWithKeyForMultiKey() throws Exception {
 
@@ -1919,6 +1990,70 @@ public class DefaultEntityHandlerTest {
 
 	}
 
+	@Test
+	public void testCreateContextWithCachedSql() throws Exception {
+		try (SqlAgent agent = config.agent()) {
+			DefaultEntityHandler handler = new DefaultEntityHandler();
+			handler.setSqlConfig(config);
+			handler.initialize();
+			TableMetadata metadata = TableMetadata.createTableEntityMetadata(agent,
+					MappingUtils.getTable(TestEntity.class));
+
+			String selectSql = handler.createSelectContext(agent, metadata, TestEntity.class, true).getSql();
+			assertThat(handler.createSelectContext(agent, metadata, TestEntity.class, true).getSql(),
+					is(sameInstance(selectSql)));
+			assertThat(handler.createSelectContext(agent, metadata, TestEntity.class, false).getSql(),
+					is(not(selectSql)));
+
+			String updateSql = handler.createUpdateContext(agent, metadata, TestEntity.class, true).getSql();
+			assertThat(handler.createUpdateContext(agent, metadata, TestEntity.class, true).getSql(),
+					is(sameInstance(updateSql)));
+			assertThat(handler.createBatchUpdateContext(agent, metadata, TestEntity.class).getSql(),
+					is(not(updateSql)));
+
+			String insertSql = handler.createInsertContext(agent, metadata, TestEntity.class).getSql();
+			handler.setEmptyStringEqualsNull(false);
+			assertThat(handler.createInsertContext(agent, metadata, TestEntity.class).getSql(),
+					is(not(sameInstance(insertSql))));
+			handler.setEmptyStringEqualsNull(true);
+			assertThat(handler.createInsertContext(agent, metadata, TestEntity.class).getSql(),
+					is(sameInstance(insertSql)));
+
+			handler.clearSqlCache();
+			String clearedSql = handler.createInsertContext(agent, metadata, TestEntity.class).getSql();
+			assertThat(clearedSql, is(not(sameInstance(insertSql))));
+			assertThat(clearedSql, is(insertSql));
+		}
+	}
+
+	@Test
+	public void testCreateContextWithOverriddenBuilder() throws Exception {
+		try (SqlAgent agent = config.agent()) {
+			// SQLの生成処理をオーバーライドした場合はキャッシュせず、毎回生成する
+			DefaultEntityHandler handler = new DefaultEntityHandler() {
+				private int count = 0;
+
+				@Override
+				protected String buildSelectSQL(final TableMetadata metadata, final Class<? extends Object> type,
+						final SqlConfig sqlConfig, final boolean addCondition) {
+					return super.buildSelectSQL(metadata, type, sqlConfig, addCondition) + "/* " + ++count + " */";
+				}
+			};
+			handler.setSqlConfig(config);
+			handler.initialize();
+			TableMetadata metadata = TableMetadata.createTableEntityMetadata(agent,
+					MappingUtils.getTable(TestEntity.class));
+
+			assertThat(handler.createSelectContext(agent, metadata, TestEntity.class, true).getSql(),
+					endsWith("/* 1 */"));
+			assertThat(handler.createSelectContext(agent, metadata, TestEntity.class, true).getSql(),
+					endsWith("/* 2 */"));
+			String insertSql = handler.createInsertContext(agent, metadata, TestEntity.class).getSql();
+			assertThat(handler.createInsertContext(agent, metadata, TestEntity.class).getSql(),
+					is(not(sameInstance(insertSql))));
+		}
+	}
+
 	public static class Name {
 		private final String s;
 
@@ -0,0 +1,77 @@
+package jp.co.future.uroborosql.mapping;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
+
+public class MappingUtilsTest {
+
+	@Test
+	public void testGetValue() throws Exception {
+		TestEntity entity = new TestEntity(1L, "name1", 20, LocalDate.of(2000, 1, 1), Optional.of("memo1"));
+
+		assertThat(MappingUtils.getMappingColumn(TestEntity.class, "id").getValue(entity), is(1L));
+		assertThat(MappingUtils.getMappingColumn(TestEntity.class, "name").getValue(entity), is("name1"));
+		assertThat(MappingUtils.getMappingColumn(TestEntity.class, "age").getValue(entity), is(20));
+		assertThat(MappingUtils.getMappingColumn(TestEntity.class, "birthday").getValue(entity),
+				is(LocalDate.of(2000, 1, 1)));
+	}
+
+	@Test(expected = UroborosqlRuntimeException.class)
+	public void testGetValueInvalidEntity() throws Exception {
+		MappingUtils.getMappingColumn(TestEntity.class, "id").getValue(new Object());
+	}
+
+	@Test
+	public void testSetValue() throws Exception {
+		TestEntity entity = new TestEntity();
+
+		MappingUtils.getMappingColumn(TestEntity.class, "id").setValue(entity, 2L);
+		MappingUtils.getMappingColumn(TestEntity.class, "name").setValue(entity, "name2");
+		MappingUtils.getMappingColumn(TestEntity.class, "age").setValue(entity, 30);
+		assertThat(entity.getId(), is(2L));
+		assertThat(entity.getName(), is("name2"));
+		assertThat(entity.getAge(), is(30));
+
+		// プリミティブ型の拡大変換
+		MappingUtils.getMappingColumn(TestEntity.class, "id").setValue(entity, 3);
+		assertThat(entity.getId(), is(3L));
+
+		MappingUtils.getMappingColumn(TestEntity.class, "name").setValue(entity, null);
+		assertThat(entity.getName(), is(nullValue()));
+	}
+
+	@Test(expected = UroborosqlRuntimeException.class)
+	public void testSetValueNullToPrimitive() throws Exception {
+		MappingUtils.getMappingColumn(TestEntity.class, "age").setValue(new TestEntity(), null);
+	}
+
+	@Test(expected = UroborosqlRuntimeException.class)
+	public void testSetValueInvalidType() throws Exception {
+		MappingUtils.getMappingColumn(TestEntity.class, "name").setValue(new TestEntity(), 1);
+	}
+
+	@Test
+	public void testCache() throws Exception {
+		MappingUtils.clearCache();
+		assertThat(MappingUtils.getCacheSize(), is(0));
+
+		long hit = MappingUtils.getCacheHitCount();
+		long miss = MappingUtils.getCacheMissCount();
+		MappingColumn[] cols = MappingUtils.getMappingColumns(TestEntity.class);
+		assertThat(MappingUtils.getCacheSize(), is(1));
+		assertThat(MappingUtils.getCacheMissCount(), is(miss + 1));
+
+		assertThat(MappingUtils.getMappingColumns(TestEntity.class), is(sameInstance(cols)));
+		assertThat(MappingUtils.getCacheHitCount(), is(hit + 1));
+
+		MappingUtils.clearCache();
+		assertThat(MappingUtils.getMappingColumns(TestEntity.class), is(not(sameInstance(cols))));
+	}
+}
@@ -13,6 +13,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Date;
+import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
@@ -25,6 +26,9 @@ import jp.co.future.uroborosql.mapping.JavaType;
 public class PropertyMapperManagerTest {
 	private Clock clock = null;
 
+	@SuppressWarnings("unused")
+	private Optional<Integer> optionalInteger;
+
 	@Before
 	public void setUp() {
 		this.clock = Clock.systemDefaultZone();
@@ -199,4 +203,42 @@ public class PropertyMapperManagerTest {
 
 	}
 
+	@Test
+	public void testColumnReader() throws Exception {
+		PropertyMapperManager mapper = new PropertyMapperManager(this.clock);
+
+		ColumnReader intReader = mapper.getColumnReader(JavaType.of(int.class));
+		assertThat(intReader.read(newResultSet("getInt", 1), 1), is(1));
+		assertThat(intReader.read(newResultSet("getInt", 0, "wasNull", true), 1), is(0));
+
+		ColumnReader integerReader = mapper.getColumnReader(JavaType.of(Integer.class));
+		assertThat(integerReader.read(newResultSet("getInt", 1), 1), is(1));
+		assertThat(integerReader.read(newResultSet("getInt", 0, "wasNull", true), 1), nullValue());
+
+		ColumnReader optionalReader = mapper.getColumnReader(
+				JavaType.of(getClass(), getClass().getDeclaredField("optionalInteger")));
+		assertThat(optionalReader.read(newResultSet("getInt", 1), 1), is(Optional.of(1)));
+		assertThat(optionalReader.read(newResultSet("getInt", 0, "wasNull", true), 1), is(Optional.empty()));
+
+		ColumnReader optionalIntReader = mapper.getColumnReader(JavaType.of(OptionalInt.class));
+		assertThat(optionalIntReader.read(newResultSet("getInt", 1), 1), is(OptionalInt.of(1)));
+
+		mapper.addMapper(new PropertyMapper<String>() {
+
+			@Override
+			public boolean canAccept(final Class<?> type) {
+				return String.class.equals(type);
+			}
+
+			@Override
+			public String getValue(final JavaType type, final ResultSet rs, final int columnIndex,
+					final PropertyMapperManager mapperManager)
+					throws SQLException {
+				return rs.getString(columnIndex).toUpperCase();
+			}
+		});
+		ColumnReader stringReader = mapper.getColumnReader(JavaType.of(String.class));
+		assertThat(stringReader.read(newResultSet("getString", "value"), 1), is("VALUE"));
+	}
+
 }
@@ -0,0 +1,150 @@
+package jp.co.future.uroborosql.metrics;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jp.co.future.uroborosql.SqlAgent;
+import jp.co.future.uroborosql.UroboroSQL;
+import jp.co.future.uroborosql.config.SqlConfig;
+import jp.co.future.uroborosql.enums.SqlKind;
+import jp.co.future.uroborosql.utils.StringUtils;
+
+public class InMemorySqlMetricsTest {
+	private SqlConfig config;
+
+	private SqlAgent agent;
+
+	private InMemorySqlMetrics metrics;
+
+	@Before
+	public void setUp() throws Exception {
+		config = UroboroSQL.builder("jdbc:h2:mem:InMemorySqlMetricsTest;DB_CLOSE_DELAY=-1", "sa", "sa").build();
+		metrics = (InMemorySqlMetrics) config.getSqlMetrics();
+		agent = config.agent();
+
+		String[] sqls = new String(Files.readAllBytes(Paths.get("src/test/resources/sql/ddl/create_tables.sql")),
+				StandardCharsets.UTF_8).split(";");
+		for (String sql : sqls) {
+			if (StringUtils.isNotBlank(sql)) {
+				agent.updateWith(sql.trim()).count();
+			}
+		}
+		agent.updateWith("delete from product").count();
+		agent.commit();
+		metrics.clear();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		agent.close();
+	}
+
+	private long count(final String sqlName, final SqlKind sqlKind, final SqlMetricType type) {
+		SqlHistogram histogram = metrics.getHistogram(sqlName, sqlKind, type);
+		return histogram == null ? 0L : histogram.getCount();
+	}
+
+	@Test
+	public void testRecordMetrics() throws Exception {
+		for (int i = 1; i <= 3; i++) {
+			agent.update("example/insert_product").param("product_id", i).param("product_name", "name" + i)
+					.param("product_kana_name", "kana" + i).param("jan_code", "1234567890123")
+					.param("product_description", "").param("ins_datetime", LocalDate.now())
+					.param("upd_datetime", LocalDate.now()).param("version_no", 0).count();
+		}
+		assertThat(count("example/insert_product", SqlKind.UPDATE, SqlMetricType.TEMPLATE_LOAD), is(3L));
+		assertThat(count("example/insert_product", SqlKind.UPDATE, SqlMetricType.PARSE), is(3L));
+		assertThat(count("example/insert_product", SqlKind.UPDATE, SqlMetricType.TRANSFORM), is(3L));
+		assertThat(count("example/insert_product", SqlKind.UPDATE, SqlMetricType.BIND), is(3L));
+		assertThat(count("example/insert_product", SqlKind.UPDATE, SqlMetricType.EXECUTE), is(3L));
+		assertThat(count("example/insert_product", SqlKind.UPDATE, SqlMetricType.RETRY_COUNT), is(3L));
+		assertThat(metrics.getHistogram("example/insert_product", SqlKind.UPDATE, SqlMetricType.ROW_COUNT).getSum(),
+				is(3L));
+
+		assertThat(agent.query("example/select_product").collect().size(), is(3));
+		assertThat(count("example/select_product", SqlKind.SELECT, SqlMetricType.EXECUTE), is(1L));
+		assertThat(count("example/select_product", SqlKind.SELECT, SqlMetricType.FIRST_ROW), is(1L));
+		assertThat(count("example/select_product", SqlKind.SELECT, SqlMetricType.FETCH), is(1L));
+		assertThat(count("example/select_product", SqlKind.SELECT, SqlMetricType.CONVERT), is(1L));
+		assertThat(metrics.getHistogram("example/select_product", SqlKind.SELECT, SqlMetricType.ROW_COUNT).getMax(),
+				is(3L));
+
+		agent.batch("example/insert_product_regist_work").paramStream(
+				IntStream.range(0, 5).mapToObj(i -> {
+					Map<String, Object> row = new HashMap<>();
+					row.put("product_name", "name" + i);
+					row.put("product_kana_name", "kana" + i);
+					row.put("jan_code", "1234567890123");
+					row.put("product_description", "");
+					row.put("ins_datetime", LocalDate.now());
+					return row;
+				})).count();
+		assertThat(metrics.getHistogram("example/insert_product_regist_work", SqlKind.BATCH_INSERT,
+				SqlMetricType.BATCH_SIZE).getSum(), is(5L));
+		assertThat(metrics.getHistogram("example/insert_product_regist_work", SqlKind.BATCH_INSERT,
+				SqlMetricType.ROW_COUNT).getSum(), is(5L));
+	}
+
+	@Test
+	public void testNoSqlMetrics() throws Exception {
+		SqlConfig noMetricsConfig = UroboroSQL
+				.builder("jdbc:h2:mem:InMemorySqlMetricsTest;DB_CLOSE_DELAY=-1", "sa", "sa").setSqlMetrics(null)
+				.build();
+		assertThat(noMetricsConfig.getSqlMetrics(), is(nullValue()));
+		try (SqlAgent defaultAgent = noMetricsConfig.agent()) {
+			assertThat(defaultAgent.queryWith("select 1 from dual").collect().size(), is(1));
+		}
+	}
+
+	@Test
+	public void testCustomSqlMetrics() throws Exception {
+		List<String> records = new ArrayList<>();
+		SqlConfig customConfig = UroboroSQL
+				.builder("jdbc:h2:mem:InMemorySqlMetricsTest;DB_CLOSE_DELAY=-1", "sa", "sa")
+				.setSqlMetrics((sqlName, sqlKind, type, value) -> records.add(sqlName + ":" + sqlKind + ":" + type))
+				.build();
+		try (SqlAgent customAgent = customConfig.agent()) {
+			customAgent.queryWith("select 1 from dual").sqlId("SELECT_ONE").collect();
+		}
+		assertThat(records.contains("SELECT_ONE:SELECT:EXECUTE"), is(true));
+		assertThat(records.contains("SELECT_ONE:SELECT:ROW_COUNT"), is(true));
+		assertThat(records.contains("SELECT_ONE:SELECT:TEMPLATE_LOAD"), is(false));
+	}
+
+	@Test
+	public void testDisabledSqlMetrics() throws Exception {
+		List<String> records = new ArrayList<>();
+		SqlConfig customConfig = UroboroSQL
+				.builder("jdbc:h2:mem:InMemorySqlMetricsTest;DB_CLOSE_DELAY=-1", "sa", "sa")
+				.setSqlMetrics(new SqlMetrics() {
+					@Override
+					public void record(final String sqlName, final SqlKind sqlKind, final SqlMetricType type,
+							final long value) {
+						records.add(sqlName);
+					}
+
+					@Override
+					public boolean isEnabled() {
+						return false;
+					}
+				}).build();
+		try (SqlAgent customAgent = customConfig.agent()) {
+			customAgent.queryWith("select 1 from dual").collect();
+		}
+		assertThat(records.isEmpty(), is(true));
+	}
+}
@@ -0,0 +1,55 @@
+package jp.co.future.uroborosql.metrics;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.Test;
+
+public class SqlHistogramTest {
+
+	@Test
+	public void testIndexOf() throws Exception {
+		long prevHighest = -1;
+		for (int index = 0; index < SqlHistogram.BUCKET_COUNT; index++) {
+			long highest = SqlHistogram.highestValueOf(index);
+			assertThat(SqlHistogram.indexOf(prevHighest + 1), is(index));
+			assertThat(SqlHistogram.indexOf(highest), is(index));
+			prevHighest = highest;
+		}
+		assertThat(prevHighest, is((1L << 44) - 1));
+		assertThat(SqlHistogram.indexOf(Long.MAX_VALUE), is(SqlHistogram.BUCKET_COUNT - 1));
+	}
+
+	@Test
+	public void testRecord() throws Exception {
+		SqlHistogram histogram = new SqlHistogram();
+		assertThat(histogram.getCount(), is(0L));
+		assertThat(histogram.getMin(), is(0L));
+		assertThat(histogram.getValueAtPercentile(50.0), is(0L));
+
+		for (long i = 1; i <= 1000; i++) {
+			histogram.record(i * 1000);
+		}
+		histogram.record(-1);
+
+		assertThat(histogram.getCount(), is(1001L));
+		assertThat(histogram.getSum(), is(500500000L));
+		assertThat(histogram.getMin(), is(0L));
+		assertThat(histogram.getMax(), is(1000000L));
+		assertThat(histogram.getValueAtPercentile(100.0), is(1000000L));
+
+		long p50 = histogram.getValueAtPercentile(50.0);
+		assertThat(p50 >= 500000L && p50 <= 500000L * 113 / 100, is(true));
+		long p99 = histogram.getValueAtPercentile(99.0);
+		assertThat(p99 >= 990000L && p99 <= 1000000L, is(true));
+
+		// バケットの範囲を超える値は最大値として扱う
+		histogram.record(Long.MAX_VALUE);
+		assertThat(histogram.getValueAtPercentile(100.0), is(Long.MAX_VALUE));
+
+		histogram.reset();
+		assertThat(histogram.getCount(), is(0L));
+		assertThat(histogram.getMax(), is(0L));
+		assertThat(histogram.getMean(), is(0.0));
+	}
+}
@@ -0,0 +1,101 @@
+package jp.co.future.uroborosql.parser;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.sql.DriverManager;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jp.co.future.uroborosql.UroboroSQL;
+import jp.co.future.uroborosql.config.SqlConfig;
+import jp.co.future.uroborosql.context.SqlContext;
+
+public class ContextTransformerCacheTest {
+	private SqlConfig sqlConfig;
+
+	@Before
+	public void setUp() throws Exception {
+		sqlConfig = UroboroSQL.builder(DriverManager.getConnection("jdbc:h2:mem:" + this.getClass().getSimpleName()))
+				.build();
+	}
+
+	private ContextTransformer parse(final ContextTransformerCache cache, final String sqlName, final String sql) {
+		return cache.get(sqlName, sql, true, true,
+				() -> new SqlParserImpl(sql, sqlConfig.getExpressionParser(), true, true).parse());
+	}
+
+	@Test
+	public void testGet() throws Exception {
+		ContextTransformerCache cache = new ContextTransformerCache();
+		String sql = "select * from emp where 1 = 1/*IF id != null*/ and id = /*id*/1/*END*/";
+
+		ContextTransformer first = parse(cache, "example/select_emp", sql);
+		ContextTransformer second = parse(cache, "example/select_emp", sql);
+		assertThat(second, is(sameInstance(first)));
+		assertThat(cache.size(), is(1));
+		assertThat(cache.getHitCount(), is(1L));
+		assertThat(cache.getMissCount(), is(1L));
+
+		// 同じSQL名でも内容が異なる場合は別のエントリとなる
+		ContextTransformer other = parse(cache, "example/select_emp", sql + " order by id");
+		assertThat(other, is(not(sameInstance(first))));
+		assertThat(cache.size(), is(2));
+
+		// キャッシュされた解析結果は複数のコンテキストで利用できる
+		SqlContext ctx1 = sqlConfig.context().param("id", 1);
+		second.transform(ctx1);
+		assertThat(ctx1.getExecutableSql(), containsString("and id = ?/*id*/"));
+
+		SqlContext ctx2 = sqlConfig.context();
+		second.transform(ctx2);
+		assertThat(ctx2.getExecutableSql(), not(containsString("and id")));
+	}
+
+	@Test
+	public void testFlags() throws Exception {
+		ContextTransformerCache cache = new ContextTransformerCache();
+		String sql = "select * from emp where id = /*id*/1";
+
+		ContextTransformer withComment = cache.get(null, sql, true, true,
+				() -> new SqlParserImpl(sql, sqlConfig.getExpressionParser(), true, true).parse());
+		ContextTransformer withoutComment = cache.get(null, sql, true, false,
+				() -> new SqlParserImpl(sql, sqlConfig.getExpressionParser(), true, false).parse());
+		assertThat(withoutComment, is(not(sameInstance(withComment))));
+		assertThat(cache.getMissCount(), is(2L));
+	}
+
+	@Test
+	public void testInvalidate() throws Exception {
+		ContextTransformerCache cache = new ContextTransformerCache();
+		parse(cache, "example/select_emp", "select * from emp");
+		parse(cache, "example/select_dept", "select * from dept");
+		assertThat(cache.size(), is(2));
+
+		cache.invalidate("example/select_emp");
+		assertThat(cache.size(), is(1));
+
+		cache.clear();
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test
+	public void testMaxSize() throws Exception {
+		ContextTransformerCache cache = new ContextTransformerCache(2);
+		parse(cache, "sql1", "select 1");
+		parse(cache, "sql2", "select 2");
+		parse(cache, "sql3", "select 3");
+		assertThat(cache.size(), is(2));
+	}
+
+	@Test
+	public void testNoCache() throws Exception {
+		ContextTransformerCache cache = new ContextTransformerCache(0);
+		ContextTransformer first = parse(cache, "sql1", "select 1");
+		ContextTransformer second = parse(cache, "sql1", "select 1");
+		assertThat(second, is(not(sameInstance(first))));
+		assertThat(cache.size(), is(0));
+		assertThat(cache.getMissCount(), is(2L));
+	}
+}
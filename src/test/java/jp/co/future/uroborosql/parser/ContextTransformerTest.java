@@ -0,0 +1,115 @@
+package jp.co.future.uroborosql.parser;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.sql.DriverManager;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jp.co.future.uroborosql.UroboroSQL;
+import jp.co.future.uroborosql.config.SqlConfig;
+import jp.co.future.uroborosql.context.SqlContext;
+
+public class ContextTransformerTest {
+	private SqlConfig sqlConfig;
+
+	@Before
+	public void setUp() throws Exception {
+		sqlConfig = UroboroSQL.builder(DriverManager.getConnection("jdbc:h2:mem:" + this.getClass().getSimpleName()))
+				.build();
+	}
+
+	private ContextTransformer parse(final String sql) {
+		return new SqlParserImpl(sql, sqlConfig.getExpressionParser(), true, true).parse();
+	}
+
+	@Test
+	public void testIsStatic() throws Exception {
+		assertThat(parse("select * from emp where id = /*id*/1").isStatic(), is(true));
+		assertThat(parse("select * from emp").isStatic(), is(true));
+		assertThat(parse("select * from emp where 1 = 1/*IF id != null*/ and id = /*id*/1/*END*/").isStatic(),
+				is(false));
+		assertThat(parse("select * from emp/*BEGIN*/ where id = /*id*/1/*END*/").isStatic(), is(false));
+		assertThat(parse("select * from /*#table*/emp").isStatic(), is(false));
+		assertThat(parse("select * from emp where id in /*ids*/(1, 2)").isStatic(), is(false));
+	}
+
+	@Test
+	public void testTransformStatic() throws Exception {
+		ContextTransformer transformer = parse(
+				"select * from emp where\r\n\r\n and id = /*id*/1 and name = /*SF.capitalize(name)*/'a'");
+
+		SqlContext ctx1 = sqlConfig.context().param("id", 1).param("name", "foo");
+		transformer.transform(ctx1);
+
+		SqlContext ctx2 = sqlConfig.context().param("id", 2).param("name", "bar");
+		transformer.transform(ctx2);
+
+		// 2回目以降は初回の変換結果を利用し、バインド変数のみ評価する
+		assertThat(ctx2.getExecutableSql(), is(ctx1.getExecutableSql()));
+		assertThat(ctx2.getExecutableSql(),
+				is("select * from emp where\r\n id = ?/*id*/ and name = ?/*SF.capitalize(name)*/"));
+		assertThat(ctx2.getBindNames(), is(Arrays.asList("id", "SF.capitalize(name)")));
+		assertThat(ctx2.getBindVariables(), is(new Object[] { 2, "Bar" }));
+		assertThat(ctx1.getBindVariables(), is(new Object[] { 1, "Foo" }));
+	}
+
+	@Test
+	public void testTransformStaticPassedRoute() throws Exception {
+		String sql = "select * from emp where id = /*id*/1";
+		ContextTransformer transformer = parse(sql);
+		transformer.transform(sqlConfig.context().param("id", 1));
+		transformer.transform(sqlConfig.context().param("id", 2));
+
+		ContextTransformer expected = parse(sql);
+		expected.transform(sqlConfig.context().param("id", 1));
+		assertThat(transformer.getPassedRoute().toString(), is(expected.getPassedRoute().toString()));
+	}
+
+	@Test
+	public void testTransformDynamic() throws Exception {
+		ContextTransformer transformer = parse("select * from emp where /*IF id != null*/ and id = /*id*/1/*END*/"
+				+ "/*IF ids != null*/ and id in /*ids*/(1, 2)/*END*/");
+		assertThat(transformer.isStatic(), is(false));
+
+		SqlContext ctx1 = sqlConfig.context().param("id", 1);
+		transformer.transform(ctx1);
+		assertThat(ctx1.getExecutableSql(), is("select * from emp where  id = ?/*id*/"));
+		assertThat(transformer.getFormattedSqlCacheSize(), is(1));
+
+		// 同じ形のSQLとなる場合は整形済みのSQLを再利用する
+		SqlContext ctx2 = sqlConfig.context().param("id", 2);
+		transformer.transform(ctx2);
+		assertThat(ctx2.getExecutableSql(), is(sameInstance(ctx1.getExecutableSql())));
+		assertThat(ctx2.getBindVariables(), is(new Object[] { 2 }));
+		assertThat(transformer.getFormattedSqlCacheSize(), is(1));
+
+		// IN句の要素数が異なる場合は別の形のSQLとなる
+		SqlContext ctx3 = sqlConfig.context().param("ids", Arrays.asList(1, 2));
+		transformer.transform(ctx3);
+		assertThat(ctx3.getExecutableSql(), is("select * from emp where  id in (?, ?)/*ids*/"));
+		SqlContext ctx4 = sqlConfig.context().param("ids", Arrays.asList(1, 2, 3));
+		transformer.transform(ctx4);
+		assertThat(ctx4.getExecutableSql(), is("select * from emp where  id in (?, ?, ?)/*ids*/"));
+		assertThat(ctx4.getBindNames(), is(Arrays.asList("ids")));
+		assertThat(transformer.getFormattedSqlCacheSize(), is(3));
+	}
+
+	@Test
+	public void testTransformDynamicWithEmbeddedValue() throws Exception {
+		ContextTransformer transformer = parse(
+				"select * from /*$table*/emp where /*IF id != null*/ and id = /*id*/1/*END*/");
+
+		// 埋め込み文字を置換した場合は整形済みのSQLを保持しない
+		SqlContext ctx1 = sqlConfig.context().param("table", "emp1").param("id", 1);
+		transformer.transform(ctx1);
+		assertThat(ctx1.getExecutableSql(), is("select * from emp1/*$table*/ where  id = ?/*id*/"));
+		SqlContext ctx2 = sqlConfig.context().param("table", "emp2").param("id", 1);
+		transformer.transform(ctx2);
+		assertThat(ctx2.getExecutableSql(), is("select * from emp2/*$table*/ where  id = ?/*id*/"));
+		assertThat(transformer.getFormattedSqlCacheSize(), is(0));
+	}
+}
@@ -55,6 +55,30 @@ public class SqlParserTest {
 		assertEquals("結果が一致しません。", expected, transformed);
 	}
 
+	@Test
+	public void testPrefixInIf() throws Exception {
+		sqlAssertion("select * from test/*BEGIN*/ where/*IF true*/ and a = 1/*END*//*END*/",
+				"select * from test where a = 1");
+		sqlAssertion("select * from test/*BEGIN*/ where/*IF true*/ OR(a = 1)/*END*//*END*/",
+				"select * from test where OR(a = 1)");
+		sqlAssertion("select * from test/*BEGIN*/ where/*IF true*/ andrew = 1/*END*//*END*/",
+				"select * from test where andrew = 1");
+	}
+
+	@Test
+	public void testLargeSql() throws Exception {
+		StringBuilder sql = new StringBuilder("select * from test where 1 = 1");
+		StringBuilder expected = new StringBuilder("select * from test where 1 = 1");
+		for (int i = 0; i < 500; i++) {
+			sql.append(" /* comment */ and col").append(i).append(" = /*'v").append(i).append("'*/'' -- line comment\n");
+			sql.append("/*IF true*/ and x").append(i).append(" = ? /*END*/");
+			expected.append(" /* comment */ and col").append(i).append(" = /*'v").append(i)
+					.append("'*/'' -- line comment");
+			expected.append(" and x").append(i).append(" = ?/*$").append(i + 1).append("*/");
+		}
+		sqlAssertion(sql.toString(), expected.toString());
+	}
+
 	// IF FALSE ELIF (TRUE) ELSE
 	@Test
 	public void testElif() throws Exception {
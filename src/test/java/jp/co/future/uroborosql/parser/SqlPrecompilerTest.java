@@ -0,0 +1,62 @@
+package jp.co.future.uroborosql.parser;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.sql.DriverManager;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jp.co.future.uroborosql.UroboroSQL;
+import jp.co.future.uroborosql.config.SqlConfig;
+
+public class SqlPrecompilerTest {
+	private SqlConfig sqlConfig;
+
+	@Before
+	public void setUp() throws Exception {
+		sqlConfig = UroboroSQL.builder(DriverManager.getConnection("jdbc:h2:mem:" + this.getClass().getSimpleName()))
+				.build();
+	}
+
+	@Test
+	public void testPrecompile() throws Exception {
+		ContextTransformerCache cache = sqlConfig.getSqlManager().getContextTransformerCache();
+		cache.clear();
+
+		int count = new SqlPrecompiler(sqlConfig).precompile();
+		assertThat(count, is(sqlConfig.getSqlManager().getSqlPathList().size()));
+		assertThat(cache.size(), is(count));
+
+		// 解析済みのSQLはキャッシュから取得される
+		String sql = sqlConfig.getSqlManager().getSql("example/insert_product");
+		assertCached(cache, "example/insert_product", sql);
+
+		// SQL-IDはSQL名で置換されている
+		sql = sqlConfig.getSqlManager().getSql("example/select_product").replace("_SQL_ID_",
+				"example/select_product");
+		assertCached(cache, "example/select_product", sql);
+	}
+
+	private void assertCached(final ContextTransformerCache cache, final String sqlName, final String sql) {
+		long hitCount = cache.getHitCount();
+		ContextTransformer transformer = cache.get(sqlName, sql, sqlConfig.getDialect().isRemoveTerminator(), true,
+				() -> {
+					throw new AssertionError();
+				});
+		assertThat(transformer, is(not(nullValue())));
+		assertThat(cache.getHitCount(), is(hitCount + 1));
+	}
+
+	@Test
+	public void testValidate() throws Exception {
+		ContextTransformerCache cache = sqlConfig.getSqlManager().getContextTransformerCache();
+		cache.clear();
+
+		Map<String, RuntimeException> errors = new SqlPrecompiler(sqlConfig).validate();
+		assertThat(errors.isEmpty(), is(true));
+		assertThat(cache.size(), is(0));
+	}
+}
@@ -0,0 +1,165 @@
+package jp.co.future.uroborosql.tx;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jp.co.future.uroborosql.SqlAgent;
+import jp.co.future.uroborosql.UroboroSQL;
+import jp.co.future.uroborosql.config.SqlConfig;
+import jp.co.future.uroborosql.context.SqlContext;
+import jp.co.future.uroborosql.filter.AbstractSqlFilter;
+import jp.co.future.uroborosql.tx.PreparedStatementCache.StatementKey;
+
+public class PreparedStatementCacheTest {
+	private Connection conn;
+
+	@Before
+	public void setUp() throws Exception {
+		conn = DriverManager.getConnection("jdbc:h2:mem:PreparedStatementCacheTest;DB_CLOSE_DELAY=-1", "sa", null);
+		conn.createStatement().execute("create table if not exists emp ( id integer, name VARCHAR(30) )");
+		conn.createStatement().execute("delete from emp");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		conn.close();
+	}
+
+	@Test
+	public void testReuse() throws Exception {
+		PreparedStatementCache cache = new PreparedStatementCache(10);
+		StatementKey key = new StatementKey("insert into emp values (?, ?)", false, null);
+
+		PreparedStatement stmt1 = cache.get(key, () -> conn.prepareStatement("insert into emp values (?, ?)"));
+		PreparedStatement raw1 = stmt1.unwrap(PreparedStatement.class);
+		stmt1.setInt(1, 1);
+		stmt1.setString(2, "name1");
+		stmt1.addBatch();
+		assertThat(stmt1.executeBatch().length, is(1));
+
+		// 利用中のステートメントは別に生成される
+		PreparedStatement stmt2 = cache.get(key, () -> conn.prepareStatement("insert into emp values (?, ?)"));
+		assertThat(stmt2.unwrap(PreparedStatement.class), is(not(sameInstance(raw1))));
+
+		stmt1.close();
+		assertThat(stmt1.isClosed(), is(true));
+		assertThat(raw1.isClosed(), is(false));
+		assertThat(cache.size(), is(1));
+		try {
+			stmt1.setInt(1, 2);
+			fail();
+		} catch (SQLException ex) {
+			// OK
+		}
+
+		// 同じキーが既にキャッシュされている場合はクローズする
+		PreparedStatement raw2 = stmt2.unwrap(PreparedStatement.class);
+		stmt2.close();
+		assertThat(raw2.isClosed(), is(true));
+
+		PreparedStatement stmt3 = cache.get(key, () -> conn.prepareStatement("insert into emp values (?, ?)"));
+		assertThat(stmt3.unwrap(PreparedStatement.class), is(sameInstance(raw1)));
+		assertThat(cache.size(), is(0));
+		stmt3.close();
+
+		cache.clear();
+		assertThat(raw1.isClosed(), is(true));
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test
+	public void testMaxSize() throws Exception {
+		PreparedStatementCache cache = new PreparedStatementCache(1);
+		PreparedStatement stmt1 = cache.get(new StatementKey("select 1", false, null),
+				() -> conn.prepareStatement("select 1"));
+		PreparedStatement stmt2 = cache.get(new StatementKey("select 2", false, null),
+				() -> conn.prepareStatement("select 2"));
+		PreparedStatement raw1 = stmt1.unwrap(PreparedStatement.class);
+		stmt1.close();
+		stmt2.close();
+		assertThat(cache.size(), is(1));
+		assertThat(raw1.isClosed(), is(true));
+	}
+
+	@Test
+	public void testClearWhileInUse() throws Exception {
+		PreparedStatementCache cache = new PreparedStatementCache(10);
+		StatementKey key = new StatementKey("select 1", false, null);
+		PreparedStatement stmt = cache.get(key, () -> conn.prepareStatement("select 1"));
+		PreparedStatement raw = stmt.unwrap(PreparedStatement.class);
+		cache.clear();
+		stmt.close();
+		assertThat(raw.isClosed(), is(true));
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test
+	public void testResetSettings() throws Exception {
+		PreparedStatementCache cache = new PreparedStatementCache(10);
+		StatementKey key = new StatementKey("select 1", false, null);
+		PreparedStatement stmt1 = cache.get(key, () -> conn.prepareStatement("select 1"));
+		PreparedStatement raw = stmt1.unwrap(PreparedStatement.class);
+		int fetchSize = raw.getFetchSize();
+		int maxRows = raw.getMaxRows();
+		stmt1.setQueryTimeout(10);
+		stmt1.setFetchSize(fetchSize + 100);
+		stmt1.setMaxRows(maxRows + 5);
+		stmt1.setQueryTimeout(20);
+		stmt1.close();
+
+		PreparedStatement stmt2 = cache.get(key, () -> conn.prepareStatement("select 1"));
+		assertThat(stmt2.unwrap(PreparedStatement.class), is(sameInstance(raw)));
+		assertThat(stmt2.getQueryTimeout(), is(0));
+		assertThat(stmt2.getFetchSize(), is(fetchSize));
+		assertThat(stmt2.getMaxRows(), is(maxRows));
+
+		// 変更前の値に戻せない設定を変更した場合はキャッシュに戻さない
+		stmt2.setCursorName("cursor");
+		stmt2.close();
+		assertThat(raw.isClosed(), is(true));
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test
+	public void testSqlAgent() throws Exception {
+		SqlConfig config = UroboroSQL
+				.builder("jdbc:h2:mem:PreparedStatementCacheTest;DB_CLOSE_DELAY=-1", "sa", null).build();
+		config.getSqlAgentFactory().setStatementCacheSize(10);
+		List<PreparedStatement> statements = new ArrayList<>();
+		config.getSqlFilterManager().addSqlFilter(new AbstractSqlFilter() {
+			@Override
+			public PreparedStatement doPreparedStatement(final SqlContext sqlContext,
+					final PreparedStatement preparedStatement) throws SQLException {
+				statements.add(preparedStatement.unwrap(PreparedStatement.class));
+				return preparedStatement;
+			}
+		});
+
+		try (SqlAgent agent = config.agent()) {
+			agent.required(() -> {
+				for (int i = 1; i <= 3; i++) {
+					agent.updateWith("insert into emp values (/*id*/0, /*name*/'')").param("id", i)
+							.param("name", "name" + i).count();
+				}
+			});
+			assertThat(statements.size(), is(3));
+			assertThat(statements.get(1), is(sameInstance(statements.get(0))));
+			assertThat(statements.get(2), is(sameInstance(statements.get(0))));
+			// コミット時にクローズされる
+			assertThat(statements.get(0).isClosed(), is(true));
+
+			assertThat(agent.queryWith("select count(*) as cnt from emp").collect().get(0).get("CNT"), is(3L));
+		}
+	}
+}
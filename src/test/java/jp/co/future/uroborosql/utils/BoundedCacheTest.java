@@ -0,0 +1,64 @@
+package jp.co.future.uroborosql.utils;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class BoundedCacheTest {
+
+	@Test
+	public void testGet() {
+		BoundedCache<String, String> cache = new BoundedCache<>(10);
+		AtomicInteger count = new AtomicInteger();
+		assertThat(cache.get("a", k -> k + count.incrementAndGet()), is("a1"));
+		assertThat(cache.get("a", k -> k + count.incrementAndGet()), is("a1"));
+		assertThat(cache.get("b"), is(nullValue()));
+		assertThat(cache.size(), is(1));
+		assertThat(cache.getHitCount(), is(1L));
+		assertThat(cache.getMissCount(), is(2L));
+	}
+
+	@Test
+	public void testDisabled() {
+		BoundedCache<String, String> cache = new BoundedCache<>(0);
+		AtomicInteger count = new AtomicInteger();
+		assertThat(cache.isEnabled(), is(false));
+		assertThat(cache.get("a", k -> k + count.incrementAndGet()), is("a1"));
+		assertThat(cache.get("a", k -> k + count.incrementAndGet()), is("a2"));
+		cache.put("b", "b");
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test
+	public void testEvictUnreferenced() {
+		BoundedCache<Integer, String> cache = new BoundedCache<>(3);
+		cache.put(1, "1");
+		cache.put(2, "2");
+		cache.put(3, "3");
+		cache.get(1);
+		cache.get(3);
+		cache.put(4, "4");
+		assertThat(cache.size(), is(3));
+		assertThat(cache.get(2), is(nullValue()));
+		assertThat(cache.get(1), is("1"));
+		assertThat(cache.get(3), is("3"));
+		assertThat(cache.get(4), is("4"));
+	}
+
+	@Test
+	public void testRemove() {
+		BoundedCache<String, String> cache = new BoundedCache<>(10);
+		cache.put("a1", "1");
+		cache.put("a2", "2");
+		cache.put("b1", "3");
+		cache.remove("a1");
+		assertThat(cache.size(), is(2));
+		cache.removeIf(k -> k.startsWith("a"));
+		assertThat(cache.size(), is(1));
+		cache.clear();
+		assertThat(cache.size(), is(0));
+	}
+}